@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.benchmarks;
+
+import com.opensymphony.xwork2.config.ConfigurationManager;
+import org.apache.struts2.dispatcher.Dispatcher;
+import org.apache.struts2.dispatcher.mapper.ActionMapper;
+import org.apache.struts2.dispatcher.mapper.ActionMapping;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link org.apache.struts2.dispatcher.mapper.DefaultActionMapper#getMapping} for requests to the root namespace,
+ * to a nested namespace and to a namespace which has to be resolved by falling back to its parent.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActionMapperBenchmark {
+
+    private Dispatcher dispatcher;
+    private ActionMapper actionMapper;
+    private ConfigurationManager configurationManager;
+
+    private MockHttpServletRequest rootRequest;
+    private MockHttpServletRequest nestedRequest;
+    private MockHttpServletRequest unknownNamespaceRequest;
+
+    @Setup
+    public void setUp() {
+        dispatcher = BenchmarkSupport.initDispatcher();
+        actionMapper = dispatcher.getContainer().getInstance(ActionMapper.class);
+        configurationManager = dispatcher.getConfigurationManager();
+
+        rootRequest = request("/index.action");
+        nestedRequest = request("/shop/catalog/browse.action");
+        unknownNamespaceRequest = request("/shop/catalog/2019/spring/browse.action");
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        return request;
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        BenchmarkSupport.cleanup(dispatcher);
+    }
+
+    @Benchmark
+    public ActionMapping rootNamespace() {
+        return actionMapper.getMapping(rootRequest, configurationManager);
+    }
+
+    @Benchmark
+    public ActionMapping nestedNamespace() {
+        return actionMapper.getMapping(nestedRequest, configurationManager);
+    }
+
+    @Benchmark
+    public ActionMapping unknownNamespace() {
+        return actionMapper.getMapping(unknownNamespaceRequest, configurationManager);
+    }
+
+}
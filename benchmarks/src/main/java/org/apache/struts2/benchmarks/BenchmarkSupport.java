@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.benchmarks;
+
+import com.opensymphony.xwork2.ActionContext;
+import org.apache.struts2.ServletActionContext;
+import org.apache.struts2.dispatcher.Dispatcher;
+import org.apache.struts2.util.StrutsTestCaseHelper;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Boots a {@link Dispatcher} outside of a servlet container for the benchmarks,
+ * the configuration is read from struts-benchmark.xml.
+ */
+public final class BenchmarkSupport {
+
+    public static final String CONFIG = "struts-default.xml,struts-plugin.xml,struts-benchmark.xml";
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Creates a dispatcher and an {@link ActionContext} with mock servlet objects bound to the current thread.
+     *
+     * @return the initialised dispatcher
+     */
+    public static Dispatcher initDispatcher() {
+        return initDispatcher(new HashMap<String, String>());
+    }
+
+    /**
+     * @param params additional init parameters, e.g. constants
+     * @return the initialised dispatcher
+     */
+    public static Dispatcher initDispatcher(Map<String, String> params) {
+        Map<String, String> initParams = new HashMap<>(params);
+        initParams.put("config", CONFIG);
+        initParams.put("struts.metrics.jmx", "false");
+
+        MockServletContext servletContext = new MockServletContext();
+        Dispatcher dispatcher = StrutsTestCaseHelper.initDispatcher(servletContext, initParams);
+
+        ServletActionContext.setServletContext(servletContext);
+        ServletActionContext.setRequest(new MockHttpServletRequest(servletContext));
+        ServletActionContext.setResponse(new MockHttpServletResponse());
+        return dispatcher;
+    }
+
+    public static void cleanup(Dispatcher dispatcher) throws Exception {
+        dispatcher.cleanup();
+        StrutsTestCaseHelper.tearDown();
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.benchmarks;
+
+import com.opensymphony.xwork2.ActionContext;
+import com.opensymphony.xwork2.conversion.impl.XWorkConverter;
+import org.apache.struts2.dispatcher.Dispatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Type conversions done by {@link XWorkConverter} when request parameters are applied.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+    private Dispatcher dispatcher;
+    private XWorkConverter converter;
+    private Map<String, Object> context;
+
+    @Setup
+    public void setUp() {
+        dispatcher = BenchmarkSupport.initDispatcher();
+        converter = dispatcher.getContainer().getInstance(XWorkConverter.class);
+        context = ActionContext.getContext().getContextMap();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        BenchmarkSupport.cleanup(dispatcher);
+    }
+
+    @Benchmark
+    public Object stringToInt() {
+        return converter.convertValue(context, "12345", int.class);
+    }
+
+    @Benchmark
+    public Object stringToBigDecimal() {
+        return converter.convertValue(context, "12345.678", BigDecimal.class);
+    }
+
+    @Benchmark
+    public Object stringToDate() {
+        return converter.convertValue(context, "2019-12-24", Date.class);
+    }
+
+    @Benchmark
+    public Object stringArrayToList() {
+        return converter.convertValue(context, new String[]{"1", "2", "3"}, List.class);
+    }
+
+    @Benchmark
+    public Object intToString() {
+        return converter.convertValue(context, 12345, String.class);
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.benchmarks;
+
+import com.opensymphony.xwork2.inject.Container;
+import com.opensymphony.xwork2.inject.ContainerBuilder;
+import com.opensymphony.xwork2.inject.Inject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link Container#inject(Object)} with setting the same field and calling the same method
+ * via plain reflection.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InjectionBenchmark {
+
+    private Container container;
+    private Target target;
+
+    private Field nameField;
+    private Method setTimeoutAndService;
+    private String name;
+    private Integer timeout;
+    private Service service;
+
+    @Setup
+    public void setUp() throws Exception {
+        ContainerBuilder builder = new ContainerBuilder();
+        builder.constant("benchmark.name", "benchmark");
+        builder.constant("benchmark.timeout", 30);
+        builder.factory(Service.class, Service.class, com.opensymphony.xwork2.inject.Scope.SINGLETON);
+        container = builder.create(false);
+
+        nameField = Target.class.getDeclaredField("name");
+        nameField.setAccessible(true);
+        setTimeoutAndService = Target.class.getDeclaredMethod("setTimeoutAndService", int.class, Service.class);
+        setTimeoutAndService.setAccessible(true);
+        name = container.getInstance(String.class, "benchmark.name");
+        timeout = container.getInstance(int.class, "benchmark.timeout");
+        service = container.getInstance(Service.class);
+
+        target = new Target();
+    }
+
+    @Benchmark
+    public Target containerInject() {
+        container.inject(target);
+        return target;
+    }
+
+    @Benchmark
+    public Target reflection() throws Exception {
+        nameField.set(target, name);
+        setTimeoutAndService.invoke(target, timeout, service);
+        return target;
+    }
+
+    public static class Service {
+    }
+
+    public static class Target {
+
+        @Inject("benchmark.name")
+        private String name;
+
+        private int timeout;
+        private Service service;
+
+        @Inject
+        private void setTimeoutAndService(@Inject("benchmark.timeout") int timeout, @Inject Service service) {
+            this.timeout = timeout;
+            this.service = service;
+        }
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.benchmarks;
+
+import com.opensymphony.xwork2.ActionContext;
+import com.opensymphony.xwork2.interceptor.ParametersInterceptor;
+import com.opensymphony.xwork2.mock.MockActionInvocation;
+import com.opensymphony.xwork2.util.ValueStack;
+import com.opensymphony.xwork2.util.ValueStackFactory;
+import org.apache.struts2.dispatcher.Dispatcher;
+import org.apache.struts2.dispatcher.HttpParameters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ParametersInterceptor#doIntercept(com.opensymphony.xwork2.ActionInvocation)} with a realistic
+ * form submission: nested objects which have to be created, indexed collections and type conversion.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParametersInterceptorBenchmark {
+
+    @Param({"1", "10"})
+    public int items;
+
+    private Dispatcher dispatcher;
+    private ParametersInterceptor interceptor;
+    private ValueStackFactory valueStackFactory;
+    private Map<String, Object> requestParameters;
+    private MockActionInvocation invocation;
+
+    @Setup
+    public void setUp() {
+        dispatcher = BenchmarkSupport.initDispatcher();
+        interceptor = dispatcher.getContainer().inject(ParametersInterceptor.class);
+        valueStackFactory = dispatcher.getContainer().getInstance(ValueStackFactory.class);
+
+        requestParameters = new HashMap<>();
+        requestParameters.put("order.id", "42");
+        requestParameters.put("order.status", "NEW");
+        requestParameters.put("order.customer.name", "Jane Doe");
+        requestParameters.put("order.customer.email", "jane@example.com");
+        requestParameters.put("order.customer.age", "37");
+        requestParameters.put("order.customer.address.street", "Main Street 1");
+        requestParameters.put("order.customer.address.city", "Springfield");
+        requestParameters.put("order.customer.address.zip", "12345");
+        for (int i = 0; i < items; i++) {
+            requestParameters.put("order.items[" + i + "].name", "item-" + i);
+            requestParameters.put("order.items[" + i + "].quantity", String.valueOf(i + 1));
+            requestParameters.put("order.items[" + i + "].price", "9.99");
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareInvocation() {
+        OrderAction action = new OrderAction();
+        action.getOrder().getItems().addAll(Order.sample(items).getItems());
+
+        ValueStack stack = valueStackFactory.createValueStack();
+        stack.push(action);
+        ActionContext context = new ActionContext(stack.getContext());
+        context.setParameters(HttpParameters.create(requestParameters).build());
+
+        invocation = new MockActionInvocation();
+        invocation.setAction(action);
+        invocation.setStack(stack);
+        invocation.setInvocationContext(context);
+        invocation.setResultCode(OrderAction.SUCCESS);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        BenchmarkSupport.cleanup(dispatcher);
+    }
+
+    @Benchmark
+    public String doIntercept() throws Exception {
+        return interceptor.doIntercept(invocation);
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.benchmarks;
+
+import com.opensymphony.xwork2.config.RuntimeConfiguration;
+import com.opensymphony.xwork2.config.entities.ActionConfig;
+import org.apache.struts2.StrutsConstants;
+import org.apache.struts2.dispatcher.Dispatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RuntimeConfiguration#getActionConfig(String, String)} for literal and wildcard action names,
+ * with and without the cache of resolved action configs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuntimeConfigurationBenchmark {
+
+    @Param({"0", "1000"})
+    public String cacheMaxSize;
+
+    @Param({"false", "true"})
+    public String compiledWildcards;
+
+    private Dispatcher dispatcher;
+    private RuntimeConfiguration runtimeConfiguration;
+
+    @Setup
+    public void setUp() {
+        Map<String, String> params = new HashMap<>();
+        params.put(StrutsConstants.STRUTS_ACTION_CONFIG_CACHE_MAX_SIZE, cacheMaxSize);
+        params.put(StrutsConstants.STRUTS_MATCHER_COMPILED_WILDCARDS, compiledWildcards);
+        dispatcher = BenchmarkSupport.initDispatcher(params);
+        runtimeConfiguration = dispatcher.getConfigurationManager().getConfiguration().getRuntimeConfiguration();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        BenchmarkSupport.cleanup(dispatcher);
+    }
+
+    @Benchmark
+    public ActionConfig literalName() {
+        return runtimeConfiguration.getActionConfig("/shop", "order-list");
+    }
+
+    @Benchmark
+    public ActionConfig wildcardName() {
+        return runtimeConfiguration.getActionConfig("/shop", "order-save");
+    }
+
+    @Benchmark
+    public ActionConfig multipleWildcards() {
+        return runtimeConfiguration.getActionConfig("/shop", "invoice_save");
+    }
+
+    @Benchmark
+    public ActionConfig wildcardInOtherNamespace() {
+        return runtimeConfiguration.getActionConfig("/admin", "users");
+    }
+
+}
@@ -0,0 +1,435 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.benchmarks;
+
+import org.apache.struts2.dispatcher.filter.StrutsPrepareAndExecuteFilter;
+import org.springframework.core.io.FileSystemResourceLoader;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockFilterConfig;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.context.ContextLoader;
+
+import javax.servlet.ServletException;
+import java.io.File;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * In-process load harness which drives complete requests through the {@link StrutsPrepareAndExecuteFilter}
+ * using the Spring servlet mocks, the same ones used by {@code StrutsTestCase}. There is no container and
+ * no network involved, so the numbers show how the whole request pipeline scales across cores.
+ * </p>
+ *
+ * <p>
+ * Run it with {@code java -cp benchmarks/target/benchmarks.jar org.apache.struts2.benchmarks.ThroughputHarness}
+ * and optional {@code key=value} arguments:
+ * </p>
+ *
+ * <ul>
+ *     <li>threads - number of concurrent clients, defaults to the number of available processors</li>
+ *     <li>warmup - seconds of warm up which are not measured, defaults to 10</li>
+ *     <li>duration - seconds of measurement, defaults to 30</li>
+ *     <li>urls - comma separated list of request paths, each may contain a query string</li>
+ *     <li>config - the Struts configuration files to load</li>
+ *     <li>webapp - directory used as the root of the servlet context, e.g. apps/showcase/src/main/webapp</li>
+ *     <li>app=showcase - presets for the showcase application, which must be on the classpath,
+ *     see the showcase profile of the benchmarks module</li>
+ *     <li>struts.* - any other Struts constant passed to the filter as an init parameter</li>
+ * </ul>
+ *
+ * <p>
+ * The report contains the throughput, the latency percentiles and the number of bytes allocated per request.
+ * </p>
+ */
+public class ThroughputHarness {
+
+    static final String DEFAULT_URLS = "/index.action,/shop/order-list.action,"
+            + "/shop/order-save.action?order.id=1&order.customer.name=Jane&order.customer.address.city=Springfield,"
+            + "/shop/catalog/browse.action,/admin/users.action";
+
+    static final String SHOWCASE_URLS = "/showcase.action,/employee/list.action,/skill/list.action,"
+            + "/employee/edit-1.action,/conversion/enterPersonsInfo.action,/freemarker/customFreemarkerManagerDemo.action";
+
+    static final String SHOWCASE_CONFIG = "struts-default.xml,struts-plugin.xml,struts.xml";
+
+    static final String SHOWCASE_WEBAPP = "apps/showcase/src/main/webapp";
+
+    private final MockServletContext servletContext;
+    private final StrutsPrepareAndExecuteFilter filter;
+    private final List<Request> requests;
+    private final boolean springContext;
+
+    public ThroughputHarness(String webapp, String config, Map<String, String> constants, List<String> urls) throws ServletException {
+        if (webapp != null) {
+            servletContext = new MockServletContext(new File(webapp).getAbsolutePath(), new FileSystemResourceLoader());
+        } else {
+            servletContext = new MockServletContext();
+        }
+
+        springContext = webapp != null && new File(webapp, "WEB-INF/applicationContext.xml").exists();
+        if (springContext) {
+            new ContextLoader().initWebApplicationContext(servletContext);
+        }
+
+        MockFilterConfig filterConfig = new MockFilterConfig(servletContext, "struts");
+        filterConfig.addInitParameter("config", config);
+        for (Map.Entry<String, String> constant : constants.entrySet()) {
+            filterConfig.addInitParameter(constant.getKey(), constant.getValue());
+        }
+        filter = new StrutsPrepareAndExecuteFilter();
+        filter.init(filterConfig);
+
+        requests = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            requests.add(new Request(url.trim()));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 1) {
+                throw new IllegalArgumentException("Arguments must be given as key=value, got: " + arg);
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+
+        boolean showcase = "showcase".equals(options.remove("app"));
+        int threads = Integer.parseInt(option(options, "threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        int warmup = Integer.parseInt(option(options, "warmup", "10"));
+        int duration = Integer.parseInt(option(options, "duration", "30"));
+        String urls = option(options, "urls", showcase ? SHOWCASE_URLS : DEFAULT_URLS);
+        String config = option(options, "config", showcase ? SHOWCASE_CONFIG : BenchmarkSupport.CONFIG);
+        String webapp = option(options, "webapp", showcase ? SHOWCASE_WEBAPP : null);
+
+        Map<String, String> constants = new LinkedHashMap<>();
+        constants.put("struts.metrics.jmx", "false");
+        for (Map.Entry<String, String> entry : options.entrySet()) {
+            if (!entry.getKey().startsWith("struts.")) {
+                throw new IllegalArgumentException("Unknown option: " + entry.getKey());
+            }
+            constants.put(entry.getKey(), entry.getValue());
+        }
+
+        ThroughputHarness harness = new ThroughputHarness(webapp, config, constants, Arrays.asList(urls.split(",")));
+        try {
+            System.out.printf("Warming up %d thread(s) for %ds%n", threads, warmup);
+            harness.run(threads, warmup);
+
+            System.out.printf("Measuring %d thread(s) for %ds%n", threads, duration);
+            Result result = harness.run(threads, duration);
+            System.out.println(result.report());
+        } finally {
+            harness.destroy();
+        }
+    }
+
+    private static String option(Map<String, String> options, String key, String defaultValue) {
+        String value = options.remove(key);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Sends requests from the given number of threads for the given time.
+     *
+     * @param threads number of concurrent clients
+     * @param seconds how long to run
+     * @return the merged result of all the clients
+     * @throws InterruptedException if interrupted while waiting for the clients
+     */
+    public Result run(int threads, int seconds) throws InterruptedException {
+        final CountDownLatch start = new CountDownLatch(1);
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+
+        List<Client> clients = new ArrayList<>(threads);
+        List<Thread> workers = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            Client client = new Client(i, start, deadline);
+            clients.add(client);
+            Thread worker = new Thread(client, "harness-" + i);
+            workers.add(worker);
+            worker.start();
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        return Result.merge(clients, threads, elapsed);
+    }
+
+    public void destroy() {
+        filter.destroy();
+        if (springContext) {
+            new ContextLoader().closeWebApplicationContext(servletContext);
+        }
+    }
+
+    boolean execute(Request request) throws IOException, ServletException {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest(servletContext, "GET", request.path);
+        servletRequest.setServletPath(request.path);
+        servletRequest.setQueryString(request.query);
+        servletRequest.setParameters(request.parameters);
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        filter.doFilter(servletRequest, servletResponse, new MockFilterChain());
+        return servletResponse.getStatus() < 400;
+    }
+
+    static class Request {
+
+        final String path;
+        final String query;
+        final Map<String, String[]> parameters = new LinkedHashMap<>();
+
+        Request(String url) {
+            int separator = url.indexOf('?');
+            if (separator < 0) {
+                path = url;
+                query = null;
+                return;
+            }
+            path = url.substring(0, separator);
+            query = url.substring(separator + 1);
+            for (String pair : query.split("&")) {
+                int equals = pair.indexOf('=');
+                String name = equals < 0 ? pair : pair.substring(0, equals);
+                String value = equals < 0 ? "" : pair.substring(equals + 1);
+                String[] values = parameters.get(decode(name));
+                if (values == null) {
+                    values = new String[]{decode(value)};
+                } else {
+                    values = Arrays.copyOf(values, values.length + 1);
+                    values[values.length - 1] = decode(value);
+                }
+                parameters.put(decode(name), values);
+            }
+        }
+
+        private static String decode(String value) {
+            try {
+                return URLDecoder.decode(value, "UTF-8");
+            } catch (UnsupportedEncodingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * A single client, sends the configured requests in turn and records the latency of each of them.
+     */
+    class Client implements Runnable {
+
+        private final int offset;
+        private final CountDownLatch start;
+        private final long deadline;
+
+        long[] latencies = new long[1024];
+        int count;
+        long errors;
+        long allocatedBytes = -1;
+        Throwable failure;
+
+        Client(int offset, CountDownLatch start, long deadline) {
+            this.offset = offset;
+            this.start = start;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void run() {
+            try {
+                start.await();
+                long allocatedBefore = allocatedBytes();
+                int next = offset;
+                long now = System.nanoTime();
+                while (now < deadline) {
+                    Request request = requests.get(next++ % requests.size());
+                    boolean success;
+                    try {
+                        success = execute(request);
+                    } catch (Exception e) {
+                        if (failure == null) {
+                            failure = e;
+                        }
+                        success = false;
+                    }
+                    long end = System.nanoTime();
+                    record(end - now, success);
+                    now = end;
+                }
+                long allocatedAfter = allocatedBytes();
+                if (allocatedBefore >= 0 && allocatedAfter >= 0) {
+                    allocatedBytes = allocatedAfter - allocatedBefore;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void record(long latency, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latency;
+            if (!success) {
+                errors++;
+            }
+        }
+    }
+
+    private static long allocatedBytes() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            if (allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled()) {
+                return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Merged outcome of all clients of a single run.
+     */
+    public static class Result {
+
+        private final int threads;
+        private final long elapsedNanos;
+        private final long[] latencies;
+        private final long errors;
+        private final long allocatedBytes;
+        private final Throwable failure;
+
+        Result(int threads, long elapsedNanos, long[] latencies, long errors, long allocatedBytes, Throwable failure) {
+            this.threads = threads;
+            this.elapsedNanos = elapsedNanos;
+            this.latencies = latencies;
+            this.errors = errors;
+            this.allocatedBytes = allocatedBytes;
+            this.failure = failure;
+        }
+
+        static Result merge(List<Client> clients, int threads, long elapsedNanos) {
+            int total = 0;
+            for (Client client : clients) {
+                total += client.count;
+            }
+
+            long[] latencies = new long[total];
+            int position = 0;
+            long errors = 0;
+            long allocatedBytes = 0;
+            Throwable failure = null;
+            for (Client client : clients) {
+                System.arraycopy(client.latencies, 0, latencies, position, client.count);
+                position += client.count;
+                errors += client.errors;
+                if (allocatedBytes >= 0) {
+                    allocatedBytes = client.allocatedBytes >= 0 ? allocatedBytes + client.allocatedBytes : -1;
+                }
+                if (failure == null) {
+                    failure = client.failure;
+                }
+            }
+            Arrays.sort(latencies);
+
+            return new Result(threads, elapsedNanos, latencies, errors, allocatedBytes, failure);
+        }
+
+        public long getRequests() {
+            return latencies.length;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public double getThroughput() {
+            return latencies.length / (elapsedNanos / 1e9);
+        }
+
+        /**
+         * @param percentile between 0 and 100
+         * @return the latency in nanoseconds
+         */
+        public long getLatency(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * latencies.length) - 1;
+            return latencies[Math.max(0, Math.min(index, latencies.length - 1))];
+        }
+
+        /**
+         * @return bytes allocated per request or -1 if the JVM doesn't support measuring allocations
+         */
+        public long getAllocatedBytesPerRequest() {
+            if (allocatedBytes < 0 || latencies.length == 0) {
+                return -1;
+            }
+            return allocatedBytes / latencies.length;
+        }
+
+        public String report() {
+            StringBuilder report = new StringBuilder();
+            report.append(String.format(Locale.ROOT, "Threads:    %d%n", threads));
+            report.append(String.format(Locale.ROOT, "Requests:   %d (%d errors)%n", getRequests(), getErrors()));
+            report.append(String.format(Locale.ROOT, "Throughput: %.1f req/s%n", getThroughput()));
+            report.append(String.format(Locale.ROOT, "Latency:    p50 %.1fus, p90 %.1fus, p99 %.1fus, p99.9 %.1fus, max %.1fus%n",
+                    micros(getLatency(50)), micros(getLatency(90)), micros(getLatency(99)),
+                    micros(getLatency(99.9)), micros(getLatency(100))));
+            long perRequest = getAllocatedBytesPerRequest();
+            if (perRequest >= 0) {
+                double bytesPerSecond = allocatedBytes / (elapsedNanos / 1e9);
+                report.append(String.format(Locale.ROOT, "Allocation: %d bytes/request (%.1f MB/s)%n",
+                        perRequest, bytesPerSecond / (1024 * 1024)));
+            } else {
+                report.append(String.format("Allocation: not supported by this JVM%n"));
+            }
+            if (failure != null) {
+                report.append(String.format("First failure: %s%n", failure));
+            }
+            return report.toString();
+        }
+
+        private static double micros(long nanos) {
+            return nanos / 1000.0;
+        }
+    }
+
+}
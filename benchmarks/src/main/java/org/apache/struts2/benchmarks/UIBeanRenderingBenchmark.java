@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.benchmarks;
+
+import com.opensymphony.xwork2.ActionContext;
+import com.opensymphony.xwork2.util.ValueStack;
+import org.apache.struts2.ServletActionContext;
+import org.apache.struts2.components.Select;
+import org.apache.struts2.components.TextField;
+import org.apache.struts2.components.UIBean;
+import org.apache.struts2.dispatcher.Dispatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders {@link UIBean}s through the {@link org.apache.struts2.views.freemarker.FreemarkerTemplateEngine}
+ * the same way the JSP tags do, using the simple and the xhtml themes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UIBeanRenderingBenchmark {
+
+    @Param({"simple", "xhtml"})
+    public String theme;
+
+    private Dispatcher dispatcher;
+    private ValueStack stack;
+    private HttpServletRequest request;
+    private HttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        dispatcher = BenchmarkSupport.initDispatcher();
+        stack = ActionContext.getContext().getValueStack();
+        OrderAction action = new OrderAction();
+        action.setOrder(Order.sample(10));
+        stack.push(action);
+        request = ServletActionContext.getRequest();
+        response = ServletActionContext.getResponse();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        BenchmarkSupport.cleanup(dispatcher);
+    }
+
+    @Benchmark
+    public String textField() {
+        TextField textField = new TextField(stack, request, response);
+        textField.setName("order.customer.name");
+        textField.setLabel("Name");
+        return render(textField);
+    }
+
+    @Benchmark
+    public String select() {
+        Select select = new Select(stack, request, response);
+        select.setName("order.status");
+        select.setLabel("Status");
+        select.setList("{'NEW', 'PAID', 'SHIPPED', 'CANCELLED'}");
+        return render(select);
+    }
+
+    private String render(UIBean bean) {
+        dispatcher.getContainer().inject(bean);
+        bean.setTheme(theme);
+        StringWriter writer = new StringWriter();
+        bean.start(writer);
+        bean.end(writer, "");
+        return writer.toString();
+    }
+
+}
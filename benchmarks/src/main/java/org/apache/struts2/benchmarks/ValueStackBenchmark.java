@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.benchmarks;
+
+import com.opensymphony.xwork2.util.ValueStack;
+import com.opensymphony.xwork2.util.ValueStackFactory;
+import org.apache.struts2.dispatcher.Dispatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ValueStack#findValue(String)} and {@link ValueStack#setValue(String, Object)} on nested properties.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueStackBenchmark {
+
+    private Dispatcher dispatcher;
+    private ValueStack stack;
+
+    @Setup
+    public void setUp() {
+        dispatcher = BenchmarkSupport.initDispatcher();
+        stack = dispatcher.getContainer().getInstance(ValueStackFactory.class).createValueStack();
+        OrderAction action = new OrderAction();
+        action.setOrder(Order.sample(5));
+        stack.push(action);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        BenchmarkSupport.cleanup(dispatcher);
+    }
+
+    @Benchmark
+    public Object findSimpleValue() {
+        return stack.findValue("order.status");
+    }
+
+    @Benchmark
+    public Object findNestedValue() {
+        return stack.findValue("order.customer.address.city");
+    }
+
+    @Benchmark
+    public Object findIndexedValue() {
+        return stack.findValue("order.items[3].name");
+    }
+
+    @Benchmark
+    public Object findConvertedValue() {
+        return stack.findValue("order.customer.age", String.class);
+    }
+
+    @Benchmark
+    public Object findStringExpression() {
+        return stack.findString("order.customer.name");
+    }
+
+    @Benchmark
+    public void setNestedValue() {
+        stack.setValue("order.customer.address.zip", "54321");
+    }
+
+    @Benchmark
+    public void setConvertedValue() {
+        stack.setValue("order.customer.age", "38");
+    }
+
+}
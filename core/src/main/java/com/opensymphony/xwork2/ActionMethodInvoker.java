@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2;
+
+import ognl.MethodFailedException;
+import ognl.OgnlException;
+
+import java.util.Map;
+
+/**
+ * Executes the method of an action. The invoker is asked for every executed action, thus implementations should
+ * resolve the method once and reuse it.
+ *
+ * @see com.opensymphony.xwork2.DefaultActionMethodInvoker
+ * @see com.opensymphony.xwork2.OgnlActionMethodInvoker
+ * @since 2.6
+ */
+public interface ActionMethodInvoker {
+
+    /**
+     * Invokes a no-arg method of the given action.
+     *
+     * @param action     action's instance
+     * @param methodName name of the method to invoke
+     * @param context    the current OGNL context of the action's value stack
+     * @return value returned by the method
+     * @throws MethodFailedException if there is no accessible method of the given name, the reason is then
+     *                               a {@link NoSuchMethodException}, or if the method itself failed, the cause is then
+     *                               the original exception
+     * @throws OgnlException         if the method couldn't be evaluated, e.g. a {@link ognl.NoSuchPropertyException}
+     */
+    Object invoke(Object action, String methodName, Map<String, Object> context) throws OgnlException;
+
+}
@@ -19,10 +19,12 @@
 package com.opensymphony.xwork2;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Adds support for invoke async actions. This allows us to support action methods that return {@link Callable}
  * as well as invoking them in separate not-container thread then executing the result in another container thread.
+ * Action methods can also return a {@link CompletionStage}, the result is then executed once the stage completes.
  *
  * @since 2.6
  */
@@ -32,4 +34,20 @@ public interface AsyncManager {
     Object getAsyncActionResult();
 
     void invokeAsyncAction(Callable asyncAction);
+
+    /**
+     * Executes the result once the given stage completes. The default implementation waits for the stage
+     * in an async action, implementations should rather register a callback on the stage.
+     *
+     * @param asyncAction the stage returned by the action method
+     * @since 2.6
+     */
+    default void invokeAsyncAction(final CompletionStage asyncAction) {
+        invokeAsyncAction(new Callable() {
+            @Override
+            public Object call() throws Exception {
+                return asyncAction.toCompletableFuture().get();
+            }
+        });
+    }
 }
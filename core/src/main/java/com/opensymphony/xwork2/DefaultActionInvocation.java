@@ -30,6 +30,7 @@ import com.opensymphony.xwork2.interceptor.WithLazyParams;
 import com.opensymphony.xwork2.ognl.OgnlUtil;
 import com.opensymphony.xwork2.util.ValueStack;
 import com.opensymphony.xwork2.util.ValueStackFactory;
+import com.opensymphony.xwork2.util.profiling.UtilTimerStack;
 import ognl.MethodFailedException;
 import ognl.NoSuchPropertyException;
 import org.apache.logging.log4j.LogManager;
@@ -41,6 +42,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
 
 /**
  * The Default ActionInvocation implementation
@@ -72,8 +74,10 @@ public class DefaultActionInvocation implements ActionInvocation {
     protected Container container;
     protected UnknownHandlerManager unknownHandlerManager;
     protected OgnlUtil ognlUtil;
+    protected ActionMethodInvoker actionMethodInvoker;
     protected AsyncManager asyncManager;
     protected Callable asyncAction;
+    protected CompletionStage asyncStage;
     protected WithLazyParams.LazyParamInjector lazyParamInjector;
 
     public DefaultActionInvocation(final Map<String, Object> extraContext, final boolean pushAction) {
@@ -111,6 +115,11 @@ public class DefaultActionInvocation implements ActionInvocation {
         this.ognlUtil = ognlUtil;
     }
 
+    @Inject(required=false)
+    public void setActionMethodInvoker(ActionMethodInvoker actionMethodInvoker) {
+        this.actionMethodInvoker = actionMethodInvoker;
+    }
+
     @Inject(required=false)
     public void setAsyncManager(AsyncManager asyncManager) {
         this.asyncManager = asyncManager;
@@ -246,9 +255,30 @@ public class DefaultActionInvocation implements ActionInvocation {
                 final InterceptorMapping interceptorMapping = interceptors.next();
                 Interceptor interceptor = interceptorMapping.getInterceptor();
                 if (interceptor instanceof WithLazyParams) {
+                    if (lazyParamInjector == null) {
+                        prepareLazyParamInjector(invocationContext.getValueStack());
+                    }
                     interceptor = lazyParamInjector.injectParams(interceptor, interceptorMapping.getParams(), invocationContext);
                 }
-                resultCode = interceptor.intercept(DefaultActionInvocation.this);
+                if (UtilTimerStack.isActive()) {
+                    String timerKey = "interceptor: " + interceptorMapping.getName();
+                    try {
+                        UtilTimerStack.push(timerKey);
+                        resultCode = interceptor.intercept(DefaultActionInvocation.this);
+                    } finally {
+                        UtilTimerStack.pop(timerKey);
+                    }
+                } else {
+                    resultCode = interceptor.intercept(DefaultActionInvocation.this);
+                }
+            } else if (UtilTimerStack.isActive()) {
+                String timerKey = "invokeAction: " + proxy.getActionName() + "!" + proxy.getMethod();
+                try {
+                    UtilTimerStack.push(timerKey);
+                    resultCode = invokeActionOnly();
+                } finally {
+                    UtilTimerStack.pop(timerKey);
+                }
             } else {
                 resultCode = invokeActionOnly();
             }
@@ -258,10 +288,11 @@ public class DefaultActionInvocation implements ActionInvocation {
                 throw new Exception((Throwable) asyncActionResult);
             }
             asyncAction = null;
+            asyncStage = null;
             resultCode = saveResult(proxy.getConfig(), asyncActionResult);
         }
 
-        if (asyncManager == null || asyncAction == null) {
+        if (asyncManager == null || (asyncAction == null && asyncStage == null)) {
             // this is needed because the result will be executed, then control will return to the Interceptor, which will
             // return above and flow through again
             if (!executed) {
@@ -282,6 +313,8 @@ public class DefaultActionInvocation implements ActionInvocation {
 
                 executed = true;
             }
+        } else if (asyncStage != null) {
+            asyncManager.invokeAsyncAction(asyncStage);
         } else {
             asyncManager.invokeAsyncAction(asyncAction);
         }
@@ -365,7 +398,17 @@ public class DefaultActionInvocation implements ActionInvocation {
         result = createResult();
 
         if (result != null) {
-            result.execute(this);
+            if (UtilTimerStack.isActive()) {
+                String timerKey = "executeResult: " + resultCode;
+                try {
+                    UtilTimerStack.push(timerKey);
+                    result.execute(this);
+                } finally {
+                    UtilTimerStack.pop(timerKey);
+                }
+            } else {
+                result.execute(this);
+            }
         } else if (resultCode != null && !Action.NONE.equals(resultCode)) {
             throw new ConfigurationException("No result defined for action " + getAction().getClass().getName()
                     + " and result " + getResultCode(), proxy.getConfig());
@@ -400,7 +443,9 @@ public class DefaultActionInvocation implements ActionInvocation {
 
         createInterceptors(proxy);
 
-        prepareLazyParamInjector(invocationContext.getValueStack());
+        if (proxy.getConfig().getInterceptorChain().hasLazyParams()) {
+            prepareLazyParamInjector(invocationContext.getValueStack());
+        }
     }
 
     protected void prepareLazyParamInjector(ValueStack valueStack) {
@@ -409,9 +454,21 @@ public class DefaultActionInvocation implements ActionInvocation {
     }
 
     protected void createInterceptors(ActionProxy proxy) {
-        // Get a new List so we don't get problems with the iterator if someone changes the original list
-        List<InterceptorMapping> interceptorList = new ArrayList<>(proxy.getConfig().getInterceptors());
-        interceptors = interceptorList.iterator();
+        // The chain is immutable and shared by all invocations of the action, its iterator doesn't copy it
+        interceptors = proxy.getConfig().getInterceptorChain().iterator();
+    }
+
+    /**
+     * Falls back to {@link OgnlActionMethodInvoker} for invocations which weren't created by the container,
+     * so they keep calling the action method via OGNL as before
+     */
+    protected ActionMethodInvoker getActionMethodInvoker() {
+        if (actionMethodInvoker == null) {
+            OgnlActionMethodInvoker invoker = new OgnlActionMethodInvoker();
+            invoker.setOgnlUtil(ognlUtil);
+            actionMethodInvoker = invoker;
+        }
+        return actionMethodInvoker;
     }
 
     protected String invokeAction(Object action, ActionConfig actionConfig) throws Exception {
@@ -422,7 +479,7 @@ public class DefaultActionInvocation implements ActionInvocation {
         try {
             Object methodResult;
             try {
-                methodResult = ognlUtil.callMethod(methodName + "()", getStack().getContext(), action);
+                methodResult = getActionMethodInvoker().invoke(action, methodName, getStack().getContext());
             } catch (MethodFailedException e) {
                 // if reason is missing method,  try checking UnknownHandlers
                 if (e.getReason() instanceof NoSuchMethodException) {
@@ -483,6 +540,9 @@ public class DefaultActionInvocation implements ActionInvocation {
         } else if (methodResult instanceof Callable) {
             asyncAction = (Callable) methodResult;
             return null;
+        } else if (methodResult instanceof CompletionStage) {
+            asyncStage = (CompletionStage) methodResult;
+            return null;
         } else {
             return (String) methodResult;
         }
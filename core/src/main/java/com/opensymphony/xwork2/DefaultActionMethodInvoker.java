@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2;
+
+import com.opensymphony.xwork2.util.reflection.ReflectionContextState;
+import ognl.MethodFailedException;
+import ognl.OgnlContext;
+import ognl.OgnlRuntime;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Default implementation of {@link ActionMethodInvoker} which resolves a {@link MethodHandle} once per action class
+ * and method name and then invokes it directly, without parsing and evaluating an OGNL expression per request.
+ *
+ * Only public methods are resolved and the {@link ognl.MemberAccess} of the passed context is still consulted
+ * before each invocation, so the same security rules apply as when the method is called via OGNL.
+ *
+ * @since 2.6
+ */
+public class DefaultActionMethodInvoker implements ActionMethodInvoker {
+
+    private static final Logger LOG = LogManager.getLogger(DefaultActionMethodInvoker.class);
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, ActionMethod>> actionMethods = new ConcurrentHashMap<>();
+
+    @Override
+    public Object invoke(Object action, String methodName, Map<String, Object> context) throws MethodFailedException {
+        if (ReflectionContextState.isDenyMethodExecution(context)) {
+            LOG.debug("Method execution is denied, skipping invocation of method [{}]", methodName);
+            return null;
+        }
+
+        ActionMethod actionMethod = getActionMethod(action.getClass(), methodName);
+        if (actionMethod == null || !isAccessible(context, action, actionMethod.method)) {
+            throw new MethodFailedException(action, methodName,
+                    new NoSuchMethodException(action.getClass().getName() + "." + methodName + "()"));
+        }
+
+        try {
+            return actionMethod.invoke(action);
+        } catch (InvocationTargetException e) {
+            if (e.getTargetException() instanceof Error) {
+                throw (Error) e.getTargetException();
+            }
+            throw new MethodFailedException(action, methodName, e.getTargetException());
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new MethodFailedException(action, methodName, t);
+        }
+    }
+
+    protected ActionMethod getActionMethod(Class<?> actionClass, String methodName) {
+        ConcurrentMap<String, ActionMethod> methods = actionMethods.get(actionClass);
+        if (methods == null) {
+            methods = new ConcurrentHashMap<>();
+            ConcurrentMap<String, ActionMethod> existing = actionMethods.putIfAbsent(actionClass, methods);
+            if (existing != null) {
+                methods = existing;
+            }
+        }
+
+        ActionMethod actionMethod = methods.get(methodName);
+        if (actionMethod == null) {
+            actionMethod = resolveActionMethod(actionClass, methodName);
+            // missing methods aren't cached, method names come from the request
+            if (actionMethod != null) {
+                methods.putIfAbsent(methodName, actionMethod);
+            }
+        }
+        return actionMethod;
+    }
+
+    protected ActionMethod resolveActionMethod(Class<?> actionClass, String methodName) {
+        Method method;
+        try {
+            method = actionClass.getMethod(methodName);
+        } catch (NoSuchMethodException e) {
+            LOG.debug("Action [{}] has no public method [{}]", actionClass.getName(), methodName);
+            return null;
+        }
+
+        MethodHandle handle = unreflect(method);
+        if (handle == null) {
+            // e.g. proxies defined in a not exported package, try to call the method via an interface
+            for (Class<?> type : ClassUtils.getAllInterfaces(actionClass)) {
+                try {
+                    handle = unreflect(type.getMethod(methodName));
+                } catch (NoSuchMethodException e) {
+                    continue;
+                }
+                if (handle != null) {
+                    break;
+                }
+            }
+        }
+        if (handle == null) {
+            LOG.debug("Cannot create method handle for [{}], falling back to reflection", method);
+        }
+        return new ActionMethod(method, handle);
+    }
+
+    private MethodHandle unreflect(Method method) {
+        try {
+            // same as OGNL does, only public methods declared by a non-public class are made accessible
+            if (Modifier.isPublic(method.getModifiers()) && !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                method.setAccessible(true);
+            }
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(INVOKER_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            LOG.trace("Cannot unreflect method [{}]", method, e);
+            return null;
+        }
+    }
+
+    protected boolean isAccessible(Map<String, Object> context, Object action, Method method) {
+        if (context instanceof OgnlContext) {
+            return OgnlRuntime.isMethodAccessible((OgnlContext) context, action, method, null);
+        }
+        return true;
+    }
+
+    /**
+     * Resolved action method, the handle is null if the method can be only called via reflection
+     */
+    protected static class ActionMethod {
+        final Method method;
+        final MethodHandle handle;
+
+        ActionMethod(Method method, MethodHandle handle) {
+            this.method = method;
+            this.handle = handle;
+        }
+
+        Object invoke(Object action) throws Throwable {
+            if (handle != null) {
+                return handle.invokeExact(action);
+            }
+            return method.invoke(action);
+        }
+    }
+
+}
@@ -26,6 +26,7 @@ import org.apache.commons.text.StringEscapeUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.struts2.metrics.StrutsMetrics;
 
 import java.io.Serializable;
 import java.util.Locale;
@@ -48,6 +49,7 @@ public class DefaultActionProxy implements ActionProxy, Serializable {
     protected ActionConfig config;
     protected ActionInvocation invocation;
     protected UnknownHandlerManager unknownHandlerManager;
+    protected StrutsMetrics metrics;
     protected LocalizedTextProvider localizedTextProvider;
 
     protected String actionName;
@@ -115,6 +117,11 @@ public class DefaultActionProxy implements ActionProxy, Serializable {
         this.localizedTextProvider = localizedTextProvider;
     }
 
+    @Inject(required = false)
+    public void setMetrics(StrutsMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     public Object getAction() {
         return invocation.getAction();
     }
@@ -148,10 +155,19 @@ public class DefaultActionProxy implements ActionProxy, Serializable {
         ActionContext.setContext(invocation.getInvocationContext());
 
         String retCode = null;
+        boolean measured = metrics != null && metrics.isEnabled();
+        long start = measured ? System.nanoTime() : 0;
+        Throwable failure = null;
 
         try {
             retCode = invocation.invoke();
+        } catch (Exception | Error e) {
+            failure = e;
+            throw e;
         } finally {
+            if (measured) {
+                metrics.recordAction(namespace, actionName, retCode, System.nanoTime() - start, failure);
+            }
             if (cleanupContext) {
                 ActionContext.setContext(nestedContext);
             }
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2;
+
+import com.opensymphony.xwork2.inject.Inject;
+import com.opensymphony.xwork2.ognl.OgnlUtil;
+import ognl.OgnlException;
+
+import java.util.Map;
+
+/**
+ * Invokes action methods by evaluating them as OGNL expressions, this was the only available strategy before
+ * {@link DefaultActionMethodInvoker} has been introduced.
+ *
+ * @since 2.6
+ */
+public class OgnlActionMethodInvoker implements ActionMethodInvoker {
+
+    private OgnlUtil ognlUtil;
+
+    @Inject
+    public void setOgnlUtil(OgnlUtil ognlUtil) {
+        this.ognlUtil = ognlUtil;
+    }
+
+    @Override
+    public Object invoke(Object action, String methodName, Map<String, Object> context) throws OgnlException {
+        return ognlUtil.callMethod(methodName + "()", context, action);
+    }
+
+}
@@ -25,8 +25,12 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.struts2.StrutsConstants;
 
+import java.lang.ref.WeakReference;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -42,47 +46,129 @@ import java.util.concurrent.locks.ReentrantLock;
 public class ConfigurationManager {
 
     protected static final Logger LOG = LogManager.getLogger(ConfigurationManager.class);
-    protected Configuration configuration;
+    protected volatile Configuration configuration;
     protected Lock providerLock = new ReentrantLock();
+    private final Lock reloadLock = new ReentrantLock();
     private List<ContainerProvider> containerProviders = new CopyOnWriteArrayList<>();
     private List<PackageProvider> packageProviders = new CopyOnWriteArrayList<>();
     protected String defaultFrameworkBeanName;
-    private boolean providersChanged = false;
-    private boolean reloadConfigs = true; // for the first time
+    private volatile boolean providersChanged = false;
+    private volatile boolean reloadConfigs = true; // for the first time
+    private long reloadCheckInterval = DEFAULT_RELOAD_CHECK_INTERVAL;
+    private volatile ReloadCheck reloadCheck;
+    private final List<ConfigurationReloadListener> reloadListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Default interval in milliseconds between two background reload checks
+     */
+    public static final long DEFAULT_RELOAD_CHECK_INTERVAL = 1000;
 
     public ConfigurationManager(String name) {
         this.defaultFrameworkBeanName = name;
     }
 
     /**
+     * <p>
+     * Once loaded, the configuration is published as an immutable snapshot and read without any locking. A reload
+     * never modifies the published snapshot, instead a new {@link Configuration} with its own {@link com.opensymphony.xwork2.inject.Container}
+     * is fully built and then swapped in, see {@link #conditionalReload()}.
+     * </p>
+     *
+     * <p>
+     * When {@link StrutsConstants#STRUTS_CONFIGURATION_XML_RELOAD} is enabled (dev mode), the providers are checked
+     * for changes by a background thread every {@link #setReloadCheckInterval(long) reload check interval}, so the
+     * calling thread never performs that check. Only changed providers, or a configuration which hasn't been checked
+     * yet, are reloaded before returning.
+     * </p>
+     *
      * @return the current XWork configuration object. By default an instance of DefaultConfiguration will be returned
      *
      * @see com.opensymphony.xwork2.config.impl.DefaultConfiguration
      */
-    public synchronized Configuration getConfiguration() {
-        if (configuration == null) {
-            setConfiguration(createConfiguration(defaultFrameworkBeanName));
-            try {
-                configuration.reloadContainer(getContainerProviders());
-            } catch (ConfigurationException e) {
-                setConfiguration(null);
-                throw new ConfigurationException("Unable to load configuration.", e);
-            }
-        } else {
+    public Configuration getConfiguration() {
+        Configuration current = configuration;
+        if (current == null) {
+            return initConfiguration();
+        }
+        if (providersChanged || (reloadConfigs && reloadCheck == null)) {
             conditionalReload();
+            current = configuration;
         }
+        return current;
+    }
 
-        return configuration;
+    private Configuration initConfiguration() {
+        reloadLock.lock();
+        try {
+            if (configuration == null) {
+                Configuration newConfiguration = createConfiguration(defaultFrameworkBeanName);
+                try {
+                    newConfiguration.reloadContainer(getContainerProviders());
+                } catch (ConfigurationException e) {
+                    throw new ConfigurationException("Unable to load configuration.", e);
+                }
+                setConfiguration(newConfiguration);
+                updateReloadConfigsFlag();
+            }
+            return configuration;
+        } finally {
+            reloadLock.unlock();
+        }
     }
 
     protected Configuration createConfiguration(String beanName) {
         return new DefaultConfiguration(beanName);
     }
 
-    public synchronized void setConfiguration(Configuration configuration) {
+    public void setConfiguration(Configuration configuration) {
         this.configuration = configuration;
     }
 
+    /**
+     * Publishes the new configuration, notifies the listeners and only then destroys the previous configuration
+     */
+    private void swapConfiguration(Configuration newConfiguration) {
+        Configuration oldConfiguration = configuration;
+        setConfiguration(newConfiguration);
+        for (ConfigurationReloadListener listener : reloadListeners) {
+            try {
+                listener.configurationReloaded(newConfiguration);
+            } catch (Exception e) {
+                LOG.warn("Error while notifying reload listener [{}]", listener, e);
+            }
+        }
+        if (oldConfiguration != null && oldConfiguration != newConfiguration) {
+            oldConfiguration.destroy();
+        }
+    }
+
+    /**
+     * Registers a listener notified whenever a reloaded configuration has been swapped in
+     *
+     * @param listener the listener to add
+     * @since 2.6
+     */
+    public void addReloadListener(ConfigurationReloadListener listener) {
+        reloadListeners.add(listener);
+    }
+
+    public void removeReloadListener(ConfigurationReloadListener listener) {
+        reloadListeners.remove(listener);
+    }
+
+    /**
+     * Sets the interval between two background reload checks, applies to checks scheduled afterwards
+     *
+     * @param reloadCheckInterval interval in milliseconds, defaults to {@link #DEFAULT_RELOAD_CHECK_INTERVAL}
+     * @since 2.6
+     */
+    public void setReloadCheckInterval(long reloadCheckInterval) {
+        if (reloadCheckInterval <= 0) {
+            throw new IllegalArgumentException("reloadCheckInterval must be positive, got " + reloadCheckInterval);
+        }
+        this.reloadCheckInterval = reloadCheckInterval;
+    }
+
     /**
      * <p>
      * Get the current list of ConfigurationProviders. If no custom ConfigurationProviders have been added, this method
@@ -158,39 +244,84 @@ public class ConfigurationManager {
     /**
      * Destroy its managing Configuration instance
      */
-    public synchronized void destroyConfiguration() {
-        clearContainerProviders(); // let's destroy the ConfigurationProvider first
-        containerProviders = new CopyOnWriteArrayList<ContainerProvider>();
-        if (configuration != null)
-            configuration.destroy(); // let's destroy it first, before nulling it.
-        configuration = null;
+    public void destroyConfiguration() {
+        reloadLock.lock();
+        try {
+            cancelReloadCheck();
+            clearContainerProviders(); // let's destroy the ConfigurationProvider first
+            containerProviders = new CopyOnWriteArrayList<ContainerProvider>();
+            if (configuration != null)
+                configuration.destroy(); // let's destroy it first, before nulling it.
+            configuration = null;
+        } finally {
+            reloadLock.unlock();
+        }
     }
 
 
     /**
      * Reloads the Configuration files if the configuration files indicate that they need to be reloaded.
+     * <p>
+     * Only one thread at a time checks the providers. When the check was triggered by the
+     * {@link StrutsConstants#STRUTS_CONFIGURATION_XML_RELOAD} flag (dev mode), usually by the background reload check,
+     * other threads don't wait for it and keep using the currently published configuration until the new one has been
+     * swapped in. Changed providers are always awaited, as they have to take effect before the configuration is used.
+     * </p>
      */
-    public synchronized void conditionalReload() {
-        if (reloadConfigs || providersChanged) {
-            LOG.debug("Checking ConfigurationProviders for reload.");
-            List<ContainerProvider> providers = getContainerProviders();
-            boolean reload = needReloadContainerProviders(providers);
-            if (!reload) {
-                reload = needReloadPackageProviders();
-            }
-            if (reload) {
-                reloadProviders(providers);
+    public void conditionalReload() {
+        if (!reloadConfigs && !providersChanged) {
+            return;
+        }
+        if (providersChanged) {
+            reloadLock.lock();
+        } else if (!reloadLock.tryLock()) {
+            LOG.trace("Reload check already in progress, using current configuration");
+            return;
+        }
+        try {
+            if ((reloadConfigs || providersChanged) && configuration != null) {
+                LOG.debug("Checking ConfigurationProviders for reload.");
+                List<ContainerProvider> providers = getContainerProviders();
+                boolean reload = needReloadContainerProviders(providers);
+                if (!reload) {
+                    reload = needReloadPackageProviders();
+                }
+                if (reload) {
+                    reloadProviders(providers);
+                }
+                updateReloadConfigsFlag();
+                providersChanged = false;
             }
-            updateReloadConfigsFlag();
-            providersChanged = false;
+        } finally {
+            reloadLock.unlock();
         }
     }
 
     private void updateReloadConfigsFlag() {
-        reloadConfigs = Boolean.parseBoolean(configuration.getContainer().getInstance(String.class, StrutsConstants.STRUTS_CONFIGURATION_XML_RELOAD));
+        boolean newReloadConfigs = Boolean.parseBoolean(configuration.getContainer().getInstance(String.class, StrutsConstants.STRUTS_CONFIGURATION_XML_RELOAD));
         if (LOG.isDebugEnabled()) {
             LOG.debug("Updating [{}], current value is [{}], new value [{}]",
-                    StrutsConstants.STRUTS_CONFIGURATION_XML_RELOAD, String.valueOf(reloadConfigs), String.valueOf(reloadConfigs));
+                    StrutsConstants.STRUTS_CONFIGURATION_XML_RELOAD, String.valueOf(reloadConfigs), String.valueOf(newReloadConfigs));
+        }
+        reloadConfigs = newReloadConfigs;
+        if (reloadConfigs) {
+            scheduleReloadCheck();
+        } else {
+            cancelReloadCheck();
+        }
+    }
+
+    private void scheduleReloadCheck() {
+        if (reloadCheck == null) {
+            LOG.debug("Checking ConfigurationProviders for reload every [{}] ms in the background", reloadCheckInterval);
+            reloadCheck = new ReloadCheck(this, reloadCheckInterval);
+        }
+    }
+
+    private void cancelReloadCheck() {
+        if (reloadCheck != null) {
+            reloadCheck.cancel();
+            reloadCheck = null;
         }
     }
 
@@ -216,19 +347,89 @@ public class ConfigurationManager {
         return false;
     }
 
+    /**
+     * The new configuration is built and published before the old configuration and the providers are destroyed,
+     * so requests still served by the old configuration never see it half destroyed.
+     */
     private void reloadProviders(List<ContainerProvider> providers) {
-        for (ContainerProvider containerProvider : containerProviders) {
+        Configuration newConfiguration = createConfiguration(defaultFrameworkBeanName);
+        packageProviders = newConfiguration.reloadContainer(providers);
+        swapConfiguration(newConfiguration);
+        for (ContainerProvider containerProvider : providers) {
             try {
                 containerProvider.destroy();
             } catch (Exception e) {
                 LOG.warn("error while destroying configuration provider [{}]", containerProvider, e);
             }
         }
-        packageProviders = this.configuration.reloadContainer(providers);
     }
 
-    public synchronized void reload() {
-        packageProviders = getConfiguration().reloadContainer(getContainerProviders());
+    /**
+     * Unconditionally reloads all providers into a new configuration which is swapped in once it has been fully built.
+     * The previous configuration is destroyed afterwards, its runtime configuration stays usable for requests still
+     * in flight.
+     */
+    public void reload() {
+        reloadLock.lock();
+        try {
+            List<ContainerProvider> providers = getContainerProviders();
+            Configuration newConfiguration = createConfiguration(defaultFrameworkBeanName);
+            packageProviders = newConfiguration.reloadContainer(providers);
+            swapConfiguration(newConfiguration);
+            updateReloadConfigsFlag();
+            providersChanged = false;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * Periodically runs {@link #conditionalReload()} on behalf of a manager on its own daemon thread, which is
+     * stopped when the check is cancelled. Only weakly references the manager, so a manager dropped without being
+     * destroyed stops its check too.
+     */
+    private static class ReloadCheck implements Runnable {
+
+        private final WeakReference<ConfigurationManager> manager;
+        private final ClassLoader classLoader;
+        private final ScheduledThreadPoolExecutor executor;
+
+        ReloadCheck(ConfigurationManager manager, long interval) {
+            this.manager = new WeakReference<>(manager);
+            this.classLoader = Thread.currentThread().getContextClassLoader();
+            executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, ConfigurationManager.class.getSimpleName() + "-ReloadCheck");
+                    thread.setDaemon(true);
+                    thread.setContextClassLoader(null);
+                    return thread;
+                }
+            });
+            executor.scheduleWithFixedDelay(this, interval, interval, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void run() {
+            ConfigurationManager configurationManager = manager.get();
+            if (configurationManager == null) {
+                cancel();
+                return;
+            }
+            Thread thread = Thread.currentThread();
+            thread.setContextClassLoader(classLoader);
+            try {
+                configurationManager.conditionalReload();
+            } catch (Exception e) {
+                LOG.error("Cannot reload configuration, keeping the current one", e);
+            } finally {
+                thread.setContextClassLoader(null);
+            }
+        }
+
+        void cancel() {
+            executor.shutdown();
+        }
     }
 
 }
@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.config;
+
+/**
+ * Notified by the {@link ConfigurationManager} whenever a reloaded {@link Configuration} has been swapped in.
+ * Anything bound to the container of the previous configuration should be rebound to the new one.
+ *
+ * @since 2.6
+ */
+public interface ConfigurationReloadListener {
+
+    /**
+     * Called after the new configuration has been published, possibly on a background thread.
+     *
+     * @param configuration the configuration now returned by {@link ConfigurationManager#getConfiguration()}
+     */
+    void configurationReloaded(Configuration configuration);
+
+}
@@ -19,6 +19,7 @@
 package com.opensymphony.xwork2.config;
 
 import com.opensymphony.xwork2.config.entities.ActionConfig;
+import com.opensymphony.xwork2.util.CacheStats;
 
 import java.io.Serializable;
 import java.util.Map;
@@ -53,4 +54,15 @@ public interface RuntimeConfiguration extends Serializable {
      *         should return a valid config for valid namespace/name pairs
      */
     Map<String, Map<String, ActionConfig>> getActionConfigs();
+
+    /**
+     * returns usage statistics of the cache keeping ActionConfigs resolved by wildcards, default action refs
+     * and fail over to the empty namespace
+     *
+     * @return cache statistics or null if this runtime configuration doesn't cache resolved ActionConfigs
+     * @since 2.6
+     */
+    default CacheStats getActionConfigCacheStats() {
+        return null;
+    }
 }
@@ -58,6 +58,7 @@ public class ActionConfig extends Located implements Serializable {
     protected String name;
     protected boolean strictMethodInvocation = true;
     protected AllowedMethods allowedMethods;
+    protected InterceptorChain interceptorChain;
 
     protected ActionConfig(String packageName, String name, String className) {
         this.packageName = packageName;
@@ -103,6 +104,17 @@ public class ActionConfig extends Located implements Serializable {
         return interceptors;
     }
 
+    /**
+     * @return interceptors of this action compiled into an immutable chain
+     * @since 2.6
+     */
+    public InterceptorChain getInterceptorChain() {
+        if (interceptorChain == null) {
+            interceptorChain = new InterceptorChain(interceptors);
+        }
+        return interceptorChain;
+    }
+
     public Set<String> getAllowedMethods() {
         return allowedMethods.list();
     }
@@ -350,6 +362,7 @@ public class ActionConfig extends Located implements Serializable {
             target.params = Collections.unmodifiableMap(target.params);
             target.results = Collections.unmodifiableMap(target.results);
             target.interceptors = Collections.unmodifiableList(target.interceptors);
+            target.interceptorChain = new InterceptorChain(target.interceptors);
             target.exceptionMappings = Collections.unmodifiableList(target.exceptionMappings);
             target.allowedMethods = AllowedMethods.build(target.strictMethodInvocation, allowedMethods, methodRegex != null ? methodRegex : DEFAULT_METHOD_REGEX);
 
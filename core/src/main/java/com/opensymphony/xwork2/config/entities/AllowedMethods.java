@@ -21,19 +21,41 @@ package com.opensymphony.xwork2.config.entities;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 public class AllowedMethods {
 
     private static final Logger LOG = LogManager.getLogger(AllowedMethods.class);
 
+    /**
+     * Maximum number of method names for which decisions of the patterns are cached, this limits memory
+     * used when the method name comes from the request
+     */
+    static final int MAX_CACHED_DECISIONS = 256;
+
+    /**
+     * Back references and named groups depend on group numbering/names which change when patterns are combined,
+     * an unterminated quote would swallow the following patterns
+     */
+    private static final Pattern NOT_COMBINABLE = Pattern.compile("\\\\[0-9kQ]|\\(\\?<[a-zA-Z]");
+
     private Set<AllowedMethod> allowedMethods;
     private final boolean strictMethodInvocation;
     private String defaultRegex;
 
+    private final Set<String> literalMethods;
+    private final List<PatternAllowedMethod> patternMethods;
+    private final Pattern combinedPattern;
+    private final ConcurrentMap<String, Boolean> decisions = new ConcurrentHashMap<>();
+
     public static AllowedMethods build(boolean strictMethodInvocation, Set<String> methods, String defaultRegex) {
 
         Set<AllowedMethod> allowedMethods = new HashSet<>();
@@ -77,10 +99,77 @@ public class AllowedMethods {
         this.strictMethodInvocation = strictMethodInvocation;
         this.defaultRegex = defaultRegex;
         this.allowedMethods = Collections.unmodifiableSet(methods);
+
+        Set<String> literals = new HashSet<>();
+        List<PatternAllowedMethod> patterns = new ArrayList<>();
+        for (AllowedMethod method : methods) {
+            if (method instanceof LiteralAllowedMethod) {
+                literals.add(method.original());
+            } else {
+                patterns.add((PatternAllowedMethod) method);
+            }
+        }
+        this.literalMethods = literals;
+        this.patternMethods = patterns;
+        this.combinedPattern = combine(patterns);
+    }
+
+    /**
+     * Joins all the patterns into a single alternation, so a method name is matched only once. Each pattern has
+     * already been compiled on its own, so invalid patterns are reported before they could be masked when combined.
+     *
+     * @param patterns patterns to combine
+     * @return combined pattern or null if patterns must be matched one by one
+     */
+    private static Pattern combine(List<PatternAllowedMethod> patterns) {
+        if (patterns.isEmpty()) {
+            return null;
+        }
+        if (patterns.size() == 1) {
+            return patterns.get(0).getPattern();
+        }
+        StringBuilder combined = new StringBuilder();
+        for (PatternAllowedMethod pattern : patterns) {
+            if (NOT_COMBINABLE.matcher(pattern.pattern).find()) {
+                LOG.trace("Pattern [{}] uses group references or quotes, patterns won't be combined", pattern.pattern);
+                return null;
+            }
+            if (combined.length() > 0) {
+                combined.append('|');
+            }
+            combined.append("(?:").append(pattern.pattern).append(')');
+        }
+        try {
+            return Pattern.compile(combined.toString());
+        } catch (PatternSyntaxException e) {
+            LOG.trace("Cannot combine patterns {}, they will be matched one by one", patterns, e);
+            return null;
+        }
     }
 
     public boolean isAllowed(String method) {
-        for (AllowedMethod allowedMethod : allowedMethods) {
+        if (literalMethods.contains(method)) {
+            return true;
+        }
+        if (patternMethods.isEmpty()) {
+            return false;
+        }
+
+        Boolean allowed = decisions.get(method);
+        if (allowed == null) {
+            allowed = matchesPattern(method);
+            if (decisions.size() < MAX_CACHED_DECISIONS) {
+                decisions.putIfAbsent(method, allowed);
+            }
+        }
+        return allowed;
+    }
+
+    private boolean matchesPattern(String method) {
+        if (combinedPattern != null) {
+            return combinedPattern.matcher(method).matches();
+        }
+        for (PatternAllowedMethod allowedMethod : patternMethods) {
             if (allowedMethod.isAllowed(method)) {
                 return true;
             }
@@ -132,14 +221,20 @@ public class AllowedMethods {
 
     private static class PatternAllowedMethod implements AllowedMethod {
 
+        private final String pattern;
         private final Pattern allowedMethodPattern;
         private String original;
 
         public PatternAllowedMethod(String pattern, String original) {
             this.original = original;
+            this.pattern = pattern;
             allowedMethodPattern = Pattern.compile(pattern);
         }
 
+        Pattern getPattern() {
+            return allowedMethodPattern;
+        }
+
         @Override
         public boolean isAllowed(String methodName) {
             return allowedMethodPattern.matcher(methodName).matches();
@@ -157,19 +252,19 @@ public class AllowedMethods {
 
             PatternAllowedMethod that = (PatternAllowedMethod) o;
 
-            return allowedMethodPattern.pattern().equals(that.allowedMethodPattern.pattern());
+            return pattern.equals(that.pattern);
 
         }
 
         @Override
         public int hashCode() {
-            return allowedMethodPattern.pattern().hashCode();
+            return pattern.hashCode();
         }
 
         @Override
         public String toString() {
             return "PatternAllowedMethod{" +
-                    "allowedMethodPattern=" + allowedMethodPattern +
+                    "allowedMethodPattern=" + pattern +
                     ", original='" + original + '\'' +
                     '}';
         }
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.config.entities;
+
+import com.opensymphony.xwork2.interceptor.Interceptor;
+import com.opensymphony.xwork2.interceptor.WithLazyParams;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable, array backed chain of interceptors compiled once per {@link ActionConfig}. It already knows which of
+ * the interceptors implement {@link WithLazyParams}. Its iterator walks the chain without copying it, so an invocation
+ * only has to keep the position in the chain.
+ *
+ * @since 2.6
+ */
+public final class InterceptorChain implements Iterable<InterceptorMapping>, Serializable {
+
+    private final InterceptorMapping[] mappings;
+    private final Interceptor[] interceptors;
+    private final boolean[] withLazyParams;
+    private final boolean hasLazyParams;
+
+    public InterceptorChain(List<InterceptorMapping> mappings) {
+        this.mappings = mappings.toArray(new InterceptorMapping[0]);
+        this.interceptors = new Interceptor[this.mappings.length];
+        this.withLazyParams = new boolean[this.mappings.length];
+
+        boolean lazy = false;
+        for (int i = 0; i < this.mappings.length; i++) {
+            interceptors[i] = this.mappings[i].getInterceptor();
+            withLazyParams[i] = interceptors[i] instanceof WithLazyParams;
+            lazy |= withLazyParams[i];
+        }
+        this.hasLazyParams = lazy;
+    }
+
+    public int size() {
+        return mappings.length;
+    }
+
+    public InterceptorMapping getMapping(int index) {
+        return mappings[index];
+    }
+
+    public Interceptor getInterceptor(int index) {
+        return interceptors[index];
+    }
+
+    /**
+     * @param index position of the interceptor in the chain
+     * @return true if params of the interceptor must be injected just before it is used
+     */
+    public boolean isWithLazyParams(int index) {
+        return withLazyParams[index];
+    }
+
+    /**
+     * @return true if at least one interceptor of the chain implements {@link WithLazyParams}
+     */
+    public boolean hasLazyParams() {
+        return hasLazyParams;
+    }
+
+    @Override
+    public Iterator<InterceptorMapping> iterator() {
+        return new Iterator<InterceptorMapping>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < mappings.length;
+            }
+
+            @Override
+            public InterceptorMapping next() {
+                if (index >= mappings.length) {
+                    throw new NoSuchElementException();
+                }
+                return mappings[index++];
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "InterceptorChain{size=" + mappings.length + ", hasLazyParams=" + hasLazyParams + "}";
+    }
+}
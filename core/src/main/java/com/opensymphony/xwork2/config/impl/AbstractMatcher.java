@@ -19,6 +19,7 @@
 package com.opensymphony.xwork2.config.impl;
 
 import com.opensymphony.xwork2.util.PatternMatcher;
+import com.opensymphony.xwork2.util.WildcardHelper;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -51,9 +52,27 @@ public abstract class AbstractMatcher<E> implements Serializable {
      */
     List<Mapping<E>> compiledPatterns = new ArrayList<>();
     ;
-    
+
+    /**
+     * <p> Whether patterns compiled by {@link WildcardHelper} are selected through {@link WildcardPatternIndex} </p>
+     */
+    private final boolean compiledWildcards;
+
+    private transient volatile WildcardPatternIndex patternIndex;
+
     public AbstractMatcher(PatternMatcher<?> helper) {
+        this(helper, false);
+    }
+
+    /**
+     * @param helper            pattern matcher
+     * @param compiledWildcards if true and the pattern matcher is {@link WildcardHelper}, only patterns which can
+     *                          match the leading and trailing literals of the value are tried
+     * @since 2.6
+     */
+    public AbstractMatcher(PatternMatcher<?> helper, boolean compiledWildcards) {
         this.wildcard = (PatternMatcher<Object>) helper;
+        this.compiledWildcards = compiledWildcards && helper != null && helper.getClass() == WildcardHelper.class;
     }
 
     /**
@@ -88,6 +107,7 @@ public abstract class AbstractMatcher<E> implements Serializable {
 
             pattern = wildcard.compilePattern(name);
             compiledPatterns.add(new Mapping<E>(name, pattern, target));
+            patternIndex = null;
 
             if (looseMatch) {
                 int lastStar = name.lastIndexOf('*');
@@ -103,6 +123,7 @@ public abstract class AbstractMatcher<E> implements Serializable {
     
     public void freeze() {
         compiledPatterns = Collections.unmodifiableList(new ArrayList<Mapping<E>>());
+        patternIndex = null;
     }
 
     /**
@@ -117,6 +138,10 @@ public abstract class AbstractMatcher<E> implements Serializable {
         if (compiledPatterns.size() > 0) {
             log.debug("Attempting to match '{}' to a wildcard pattern, {} available", potentialMatch, compiledPatterns.size());
 
+            if (compiledWildcards) {
+                return matchCandidates(potentialMatch);
+            }
+
             Map<String,String> vars = new LinkedHashMap<String,String>();
             for (Mapping<E> m : compiledPatterns) {
                 if (wildcard.match(vars, potentialMatch, m.getPattern())) {
@@ -130,6 +155,38 @@ public abstract class AbstractMatcher<E> implements Serializable {
         return config;
     }
 
+    /**
+     * <p> Matches the path only against patterns selected by {@link WildcardPatternIndex}, in the order
+     * they were added. Variables are collected for each tried pattern separately, thus only variables
+     * of the matched pattern are passed to {@link #convert(String, Object, Map)}. </p>
+     *
+     * @param potentialMatch The portion of the request URI for selecting a config.
+     * @return The action config if matched, else null
+     */
+    private E matchCandidates(String potentialMatch) {
+        WildcardPatternIndex index = patternIndex;
+        if (index == null) {
+            List<int[]> patterns = new ArrayList<>(compiledPatterns.size());
+            for (Mapping<E> m : compiledPatterns) {
+                patterns.add((int[]) m.getPattern());
+            }
+            index = new WildcardPatternIndex(patterns);
+            patternIndex = index;
+        }
+
+        Map<String, String> vars = new LinkedHashMap<>();
+        BitSet candidates = index.candidates(potentialMatch);
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            Mapping<E> m = compiledPatterns.get(i);
+            vars.clear();
+            if (wildcard.match(vars, potentialMatch, m.getPattern())) {
+                log.debug("Value matches pattern '{}'", m.getOriginalPattern());
+                return convert(potentialMatch, m.getTarget(), vars);
+            }
+        }
+        return null;
+    }
+
     /**
      * <p> Clones the target object and its children, replacing various
      * properties with the values of the wildcard-matched strings. </p>
@@ -58,7 +58,24 @@ public class ActionConfigMatcher extends AbstractMatcher<ActionConfig> implement
     public ActionConfigMatcher(PatternMatcher<?> patternMatcher,
             Map<String, ActionConfig> configs,
             boolean looseMatch) {
-        super(patternMatcher);
+        this(patternMatcher, configs, looseMatch, false);
+    }
+
+    /**
+     * <p> Same as {@link #ActionConfigMatcher(PatternMatcher, Map, boolean)}, optionally using
+     * an index of the compiled wildcard patterns to select patterns which are tried. </p>
+     *
+     * @param patternMatcher pattern matcher
+     * @param configs An array of ActionConfig's to process
+     * @param looseMatch To loosely match wildcards or not
+     * @param compiledWildcards To select patterns through the index or not
+     * @since 2.6
+     */
+    public ActionConfigMatcher(PatternMatcher<?> patternMatcher,
+            Map<String, ActionConfig> configs,
+            boolean looseMatch,
+            boolean compiledWildcards) {
+        super(patternMatcher, compiledWildcards);
         for (Map.Entry<String, ActionConfig> entry : configs.entrySet()) {
             addPattern(entry.getKey(), entry.getValue(), looseMatch);
         }
@@ -46,6 +46,7 @@ import org.apache.struts2.conversion.StrutsConversionPropertiesProcessor;
 import org.apache.struts2.conversion.StrutsTypeConverterHolder;
 import org.apache.struts2.conversion.StrutsTypeConverterCreator;
 
+import java.io.Serializable;
 import java.util.*;
 
 
@@ -59,6 +60,8 @@ public class DefaultConfiguration implements Configuration {
 
     protected static final Logger LOG = LogManager.getLogger(DefaultConfiguration.class);
 
+    public static final int DEFAULT_ACTION_CONFIG_CACHE_MAX_SIZE = 1000;
+
     // Programmatic Action Configurations
     protected Map<String, PackageConfig> packageContexts = new LinkedHashMap<>();
     protected RuntimeConfiguration runtimeConfiguration;
@@ -341,7 +344,25 @@ public class DefaultConfiguration implements Configuration {
 
         PatternMatcher<int[]> matcher = container.getInstance(PatternMatcher.class);
         return new RuntimeConfigurationImpl(Collections.unmodifiableMap(namespaceActionConfigs),
-                Collections.unmodifiableMap(namespaceConfigs), matcher);
+                Collections.unmodifiableMap(namespaceConfigs), matcher, isCompiledWildcards(), getActionConfigCacheMaxSize());
+    }
+
+    private boolean isCompiledWildcards() {
+        return Boolean.parseBoolean(container.getInstance(String.class, StrutsConstants.STRUTS_MATCHER_COMPILED_WILDCARDS));
+    }
+
+    private int getActionConfigCacheMaxSize() {
+        String maxSize = container.getInstance(String.class, StrutsConstants.STRUTS_ACTION_CONFIG_CACHE_MAX_SIZE);
+        if (maxSize == null) {
+            return DEFAULT_ACTION_CONFIG_CACHE_MAX_SIZE;
+        }
+        try {
+            return Integer.parseInt(maxSize.trim());
+        } catch (NumberFormatException e) {
+            LOG.warn("Invalid value [{}] of [{}], using default [{}]", maxSize,
+                    StrutsConstants.STRUTS_ACTION_CONFIG_CACHE_MAX_SIZE, DEFAULT_ACTION_CONFIG_CACHE_MAX_SIZE);
+            return DEFAULT_ACTION_CONFIG_CACHE_MAX_SIZE;
+        }
     }
 
     private void setDefaultResults(Map<String, ResultConfig> results, PackageConfig packageContext) {
@@ -412,22 +433,31 @@ public class DefaultConfiguration implements Configuration {
 
     private static class RuntimeConfigurationImpl implements RuntimeConfiguration {
 
+        /**
+         * Marks names which cannot be resolved, {@link BoundedCache} doesn't accept null values
+         */
+        private static final ActionConfig NOT_FOUND = new ActionConfig.Builder("", "", "").build();
+
         private Map<String, Map<String, ActionConfig>> namespaceActionConfigs;
         private Map<String, ActionConfigMatcher> namespaceActionConfigMatchers;
         private NamespaceMatcher namespaceMatcher;
         private Map<String, String> namespaceConfigs;
+        private BoundedCache<ActionConfigKey, ActionConfig> resolvedActionConfigs;
 
         public RuntimeConfigurationImpl(Map<String, Map<String, ActionConfig>> namespaceActionConfigs,
                                         Map<String, String> namespaceConfigs,
-                                        PatternMatcher<int[]> matcher) {
+                                        PatternMatcher<int[]> matcher,
+                                        boolean compiledWildcards,
+                                        int cacheMaxSize) {
             this.namespaceActionConfigs = namespaceActionConfigs;
             this.namespaceConfigs = namespaceConfigs;
+            this.resolvedActionConfigs = new BoundedCache<>(cacheMaxSize);
 
             this.namespaceActionConfigMatchers = new LinkedHashMap<>();
-            this.namespaceMatcher = new NamespaceMatcher(matcher, namespaceActionConfigs.keySet());
+            this.namespaceMatcher = new NamespaceMatcher(matcher, namespaceActionConfigs.keySet(), compiledWildcards);
 
             for (Map.Entry<String, Map<String, ActionConfig>> entry : namespaceActionConfigs.entrySet()) {
-                namespaceActionConfigMatchers.put(entry.getKey(), new ActionConfigMatcher(matcher, entry.getValue(), true));
+                namespaceActionConfigMatchers.put(entry.getKey(), new ActionConfigMatcher(matcher, entry.getValue(), true, compiledWildcards));
             }
         }
 
@@ -441,6 +471,25 @@ public class DefaultConfiguration implements Configuration {
          * @return the configuration information for action requested
          */
         public ActionConfig getActionConfig(String namespace, String name) {
+            Map<String, ActionConfig> actions = namespaceActionConfigs.get(namespace == null ? "" : namespace);
+            if (actions != null) {
+                ActionConfig config = actions.get(name);
+                if (config != null) {
+                    return config;
+                }
+            }
+
+            // everything else is memoized as matching wildcards is expensive
+            ActionConfigKey key = new ActionConfigKey(namespace, name);
+            ActionConfig config = resolvedActionConfigs.get(key);
+            if (config == null) {
+                config = resolveActionConfig(namespace, name);
+                config = resolvedActionConfigs.putIfAbsent(key, config == null ? NOT_FOUND : config);
+            }
+            return config == NOT_FOUND ? null : config;
+        }
+
+        private ActionConfig resolveActionConfig(String namespace, String name) {
             ActionConfig config = findActionConfigInNamespace(namespace, name);
 
             // try wildcarded namespaces
@@ -499,6 +548,11 @@ public class DefaultConfiguration implements Configuration {
             return namespaceActionConfigs;
         }
 
+        @Override
+        public CacheStats getActionConfigCacheStats() {
+            return resolvedActionConfigs.getStats();
+        }
+
         @Override
         public String toString() {
             StringBuilder buff = new StringBuilder("RuntimeConfiguration - actions are\n");
@@ -515,6 +569,38 @@ public class DefaultConfiguration implements Configuration {
         }
     }
 
+    private static final class ActionConfigKey implements Serializable {
+
+        private static final long serialVersionUID = 2375928261376357618L;
+
+        private final String namespace;
+        private final String name;
+        private final int hashCode;
+
+        ActionConfigKey(String namespace, String name) {
+            this.namespace = namespace;
+            this.name = name;
+            this.hashCode = 31 * Objects.hashCode(namespace) + Objects.hashCode(name);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ActionConfigKey)) {
+                return false;
+            }
+            ActionConfigKey that = (ActionConfigKey) o;
+            return Objects.equals(namespace, that.namespace) && Objects.equals(name, that.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
     class ContainerProperties extends LocatableProperties {
         private static final long serialVersionUID = -7320625750836896089L;
 
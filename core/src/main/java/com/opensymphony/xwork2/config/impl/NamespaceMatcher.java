@@ -31,7 +31,18 @@ import java.util.Set;
 public class NamespaceMatcher extends AbstractMatcher<NamespaceMatch> {
      public NamespaceMatcher(PatternMatcher<?> patternMatcher,
             Set<String> namespaces) {
-        super(patternMatcher);
+        this(patternMatcher, namespaces, false);
+    }
+
+    /**
+     * @param patternMatcher    pattern matcher
+     * @param namespaces        namespaces to match
+     * @param compiledWildcards to select patterns through an index of the compiled wildcard patterns or not
+     * @since 2.6
+     */
+    public NamespaceMatcher(PatternMatcher<?> patternMatcher,
+            Set<String> namespaces, boolean compiledWildcards) {
+        super(patternMatcher, compiledWildcards);
         for (String name : namespaces) {
             if (!patternMatcher.isLiteral(name)) {
                 addPattern(name, new NamespaceMatch(name, null), false);
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.config.impl;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Indexes patterns compiled by {@link com.opensymphony.xwork2.util.WildcardHelper} by their leading and trailing
+ * literals. Both are kept in a trie, so patterns which can match a given value are selected walking the value
+ * once from the beginning and once from the end, instead of trying each pattern in turn.
+ * </p>
+ *
+ * <p>
+ * Selected patterns are returned in the order they were defined, they still have to be matched to verify
+ * the middle part and extract the substitution variables.
+ * </p>
+ *
+ * @since 2.6
+ */
+class WildcardPatternIndex {
+
+    /**
+     * Same as WildcardHelper.MATCH_THEEND, closes each compiled pattern
+     */
+    private static final int MATCH_THEEND = -5;
+
+    private final Node prefixes = new Node();
+    private final Node suffixes = new Node();
+    private final int[] minLengths;
+
+    /**
+     * @param patterns patterns compiled by {@link com.opensymphony.xwork2.util.WildcardHelper#compilePattern(String)}
+     */
+    WildcardPatternIndex(List<int[]> patterns) {
+        minLengths = new int[patterns.size()];
+        for (int i = 0; i < patterns.size(); i++) {
+            int[] expr = patterns.get(i);
+            // first element is always MATCH_BEGIN, last MATCH_THEEND
+            int end = expr.length - 1;
+            while (end > 0 && expr[end] != MATCH_THEEND) {
+                end--;
+            }
+
+            int prefixEnd = 1;
+            while (prefixEnd < end && expr[prefixEnd] >= 0) {
+                prefixEnd++;
+            }
+            int suffixStart = end;
+            while (suffixStart > prefixEnd && expr[suffixStart - 1] >= 0) {
+                suffixStart--;
+            }
+
+            Node node = prefixes;
+            for (int x = 1; x < prefixEnd; x++) {
+                node = node.child((char) expr[x]);
+            }
+            node.patterns.set(i);
+
+            node = suffixes;
+            for (int x = end - 1; x >= suffixStart; x--) {
+                node = node.child((char) expr[x]);
+            }
+            node.patterns.set(i);
+
+            int literals = 0;
+            for (int x = 1; x < end; x++) {
+                if (expr[x] >= 0) {
+                    literals++;
+                }
+            }
+            minLengths[i] = literals;
+        }
+    }
+
+    /**
+     * @param value the value to match
+     * @return indexes of the patterns which can match the value, in definition order
+     */
+    BitSet candidates(String value) {
+        BitSet candidates = (BitSet) prefixes.patterns.clone();
+        Node node = prefixes;
+        for (int i = 0; i < value.length() && node != null; i++) {
+            node = node.next.get(value.charAt(i));
+            if (node != null) {
+                candidates.or(node.patterns);
+            }
+        }
+
+        BitSet withSuffix = (BitSet) suffixes.patterns.clone();
+        node = suffixes;
+        for (int i = value.length() - 1; i >= 0 && node != null; i--) {
+            node = node.next.get(value.charAt(i));
+            if (node != null) {
+                withSuffix.or(node.patterns);
+            }
+        }
+        candidates.and(withSuffix);
+
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            if (minLengths[i] > value.length()) {
+                candidates.clear(i);
+            }
+        }
+        return candidates;
+    }
+
+    private static final class Node {
+        final BitSet patterns = new BitSet();
+        final Map<Character, Node> next = new HashMap<>(4);
+
+        Node child(char c) {
+            Node child = next.get(c);
+            if (child == null) {
+                child = new Node();
+                next.put(c, child);
+            }
+            return child;
+        }
+    }
+}
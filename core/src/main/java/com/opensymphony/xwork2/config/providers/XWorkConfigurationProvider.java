@@ -18,7 +18,9 @@
  */
 package com.opensymphony.xwork2.config.providers;
 
+import com.opensymphony.xwork2.ActionMethodInvoker;
 import com.opensymphony.xwork2.ActionProxyFactory;
+import com.opensymphony.xwork2.DefaultActionMethodInvoker;
 import com.opensymphony.xwork2.DefaultActionProxyFactory;
 import com.opensymphony.xwork2.DefaultLocaleProviderFactory;
 import com.opensymphony.xwork2.LocaleProviderFactory;
@@ -112,6 +114,8 @@ import ognl.PropertyAccessor;
 import org.apache.struts2.StrutsConstants;
 import org.apache.struts2.dispatcher.HttpParameters;
 import org.apache.struts2.dispatcher.Parameter;
+import org.apache.struts2.metrics.DefaultStrutsMetrics;
+import org.apache.struts2.metrics.StrutsMetrics;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -176,6 +180,8 @@ public class XWorkConfigurationProvider implements ConfigurationProvider {
                 .factory(PropertyAccessor.class, Enumeration.class.getName(), XWorkEnumerationAccessor.class, Scope.SINGLETON)
 
                 .factory(UnknownHandlerManager.class, DefaultUnknownHandlerManager.class, Scope.SINGLETON)
+                .factory(ActionMethodInvoker.class, DefaultActionMethodInvoker.class, Scope.SINGLETON)
+                .factory(StrutsMetrics.class, DefaultStrutsMetrics.class, Scope.SINGLETON)
 
                 // silly workarounds for ognl since there is no way to flush its caches
                 .factory(PropertyAccessor.class, List.class.getName(), XWorkListPropertyAccessor.class, Scope.SINGLETON)
@@ -26,19 +26,22 @@ import com.opensymphony.xwork2.util.reflection.ReflectionException;
 import com.opensymphony.xwork2.util.reflection.ReflectionExceptionHandler;
 import com.opensymphony.xwork2.util.reflection.ReflectionProvider;
 
+import java.util.List;
 import java.util.Map;
 
 /**
- * Default implementation
+ * Default implementation, result configs are compiled into {@link ResultBuilder}s on first use
  */
 public class DefaultResultFactory implements ResultFactory {
 
     private ObjectFactory objectFactory;
     private ReflectionProvider reflectionProvider;
+    private final ResultBuilderCache resultBuilders = new ResultBuilderCache();
 
     @Inject
     public void setObjectFactory(ObjectFactory objectFactory) {
         this.objectFactory = objectFactory;
+        this.resultBuilders.clear();
     }
 
     @Inject
@@ -51,16 +54,19 @@ public class DefaultResultFactory implements ResultFactory {
         Result result = null;
 
         if (resultClassName != null) {
-            result = (Result) objectFactory.buildBean(resultClassName, extraContext);
-            Map<String, String> params = resultConfig.getParams();
-            if (params != null) {
-                for (Map.Entry<String, String> paramEntry : params.entrySet()) {
-                    try {
-                        reflectionProvider.setProperty(paramEntry.getKey(), paramEntry.getValue(), result, extraContext, true);
-                    } catch (ReflectionException ex) {
-                        if (result instanceof ReflectionExceptionHandler) {
-                            ((ReflectionExceptionHandler) result).handle(ex);
-                        }
+            ResultBuilder builder = resultBuilders.get(resultConfig, objectFactory);
+            result = builder.createResult(objectFactory, extraContext);
+            List<ResultBuilder.Param> params = builder.getParams(result);
+            for (ResultBuilder.Param param : params) {
+                try {
+                    if (param.isCompiled()) {
+                        param.apply(result);
+                    } else {
+                        reflectionProvider.setProperty(param.getName(), param.getValue(), result, extraContext, true);
+                    }
+                } catch (ReflectionException ex) {
+                    if (result instanceof ReflectionExceptionHandler) {
+                        ((ReflectionExceptionHandler) result).handle(ex);
                     }
                 }
             }
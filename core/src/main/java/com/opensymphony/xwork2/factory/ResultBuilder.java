@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.factory;
+
+import com.opensymphony.xwork2.ObjectFactory;
+import com.opensymphony.xwork2.Result;
+import com.opensymphony.xwork2.config.entities.ResultConfig;
+import com.opensymphony.xwork2.util.reflection.ReflectionException;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * Precompiled form of a {@link ResultConfig}, it keeps the resolved result class and, for each param, a typed
+ * setter handle with the already converted value. Params are then applied without going through OGNL.
+ * </p>
+ *
+ * <p>
+ * Params which cannot be precompiled (nested names, overloaded or missing setters, values which require the full
+ * type conversion or contain <code>${...}</code> expressions for a non String property) are left to the
+ * {@link com.opensymphony.xwork2.util.reflection.ReflectionProvider}, see {@link Param#isCompiled()}. Values with
+ * <code>${...}</code> expressions are passed as they are, thus are still evaluated lazily by the result itself.
+ * </p>
+ *
+ * @since 2.6
+ */
+public class ResultBuilder {
+
+    private static final Logger LOG = LogManager.getLogger(ResultBuilder.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final Pattern INTEGER_PATTERN = Pattern.compile("-?[0-9]{1,18}");
+    private static final Pattern PROPERTY_NAME_PATTERN = Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*");
+    private static final Object NOT_CONVERTED = new Object();
+
+    private final ResultConfig resultConfig;
+    private final Class<?> resultClass;
+    private volatile CompiledParams compiledParams;
+
+    protected ResultBuilder(ResultConfig resultConfig, Class<?> resultClass) {
+        this.resultConfig = resultConfig;
+        this.resultClass = resultClass;
+        if (resultClass != null) {
+            this.compiledParams = new CompiledParams(resultClass, compileParams(resultClass, resultConfig.getParams()));
+        }
+    }
+
+    /**
+     * Compiles the given result config, the result class is resolved upfront only if the object factory
+     * creates beans just by their class, otherwise it must be asked for each new result.
+     *
+     * @param resultConfig  config to compile
+     * @param objectFactory object factory used to create results
+     * @return compiled builder
+     * @throws ClassNotFoundException if result class cannot be resolved
+     */
+    public static ResultBuilder compile(ResultConfig resultConfig, ObjectFactory objectFactory) throws ClassNotFoundException {
+        Class<?> resultClass = null;
+        if (buildsBeansByClass(objectFactory)) {
+            resultClass = objectFactory.getClassInstance(resultConfig.getClassName());
+        }
+        return new ResultBuilder(resultConfig, resultClass);
+    }
+
+    public ResultConfig getResultConfig() {
+        return resultConfig;
+    }
+
+    /**
+     * @return resolved result class or null if the class is determined by the object factory for each new result
+     */
+    public Class<?> getResultClass() {
+        return resultClass;
+    }
+
+    /**
+     * Creates a new result instance, params aren't applied
+     *
+     * @param objectFactory object factory used to create the result
+     * @param extraContext  the current context
+     * @return new instance of the result
+     * @throws Exception when result cannot be created
+     */
+    public Result createResult(ObjectFactory objectFactory, Map<String, Object> extraContext) throws Exception {
+        if (resultClass != null) {
+            return (Result) objectFactory.buildBean(resultClass, extraContext);
+        }
+        return (Result) objectFactory.buildBean(resultConfig.getClassName(), extraContext);
+    }
+
+    /**
+     * @param result result instance created with {@link #createResult(ObjectFactory, Map)}
+     * @return params compiled against class of the given result
+     */
+    public List<Param> getParams(Result result) {
+        CompiledParams current = compiledParams;
+        if (current == null || current.type != result.getClass()) {
+            current = new CompiledParams(result.getClass(), compileParams(result.getClass(), resultConfig.getParams()));
+            compiledParams = current;
+        }
+        return current.params;
+    }
+
+    private static List<Param> compileParams(Class<?> type, Map<String, ?> params) {
+        if (params == null || params.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Param> compiled = new ArrayList<>(params.size());
+        // values aren't always Strings when configs were created programmatically
+        for (Map.Entry<String, ?> entry : params.entrySet()) {
+            compiled.add(compileParam(type, entry.getKey(), entry.getValue()));
+        }
+        return Collections.unmodifiableList(compiled);
+    }
+
+    private static Param compileParam(Class<?> type, String name, Object value) {
+        if (name == null || !(value instanceof String) || !PROPERTY_NAME_PATTERN.matcher(name).matches()) {
+            return new Param(name, value, null, null);
+        }
+
+        Method setter = findSetter(type, name);
+        if (setter == null) {
+            return new Param(name, value, null, null);
+        }
+
+        Object converted = convert((String) value, setter.getParameterTypes()[0]);
+        if (converted == NOT_CONVERTED) {
+            return new Param(name, value, null, null);
+        }
+
+        try {
+            if (!Modifier.isPublic(setter.getDeclaringClass().getModifiers())) {
+                setter.setAccessible(true);
+            }
+            MethodHandle handle = MethodHandles.lookup().unreflect(setter).asType(SETTER_TYPE);
+            return new Param(name, value, handle, converted);
+        } catch (IllegalAccessException | RuntimeException e) {
+            LOG.debug("Cannot create setter handle for param [{}] of result [{}]", name, type.getName(), e);
+            return new Param(name, value, null, null);
+        }
+    }
+
+    private static Method findSetter(Class<?> type, String name) {
+        String setterName = "set" + StringUtils.capitalize(name);
+        Method found = null;
+        for (Method method : type.getMethods()) {
+            if (method.getName().equals(setterName) && method.getParameterTypes().length == 1
+                    && !Modifier.isStatic(method.getModifiers())) {
+                if (found != null) {
+                    // overloaded setters are resolved by OGNL
+                    return null;
+                }
+                found = method;
+            }
+        }
+        return found;
+    }
+
+    private static Object convert(String value, Class<?> type) {
+        if (type == String.class || type == Object.class || type == CharSequence.class) {
+            return value;
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            if ("true".equals(value) || "false".equals(value)) {
+                return Boolean.valueOf(value);
+            }
+            return NOT_CONVERTED;
+        }
+        if (!INTEGER_PATTERN.matcher(value).matches()) {
+            return NOT_CONVERTED;
+        }
+        try {
+            if (type == int.class || type == Integer.class) {
+                return Integer.valueOf(value);
+            }
+            if (type == long.class || type == Long.class) {
+                return Long.valueOf(value);
+            }
+            if (type == short.class || type == Short.class) {
+                return Short.valueOf(value);
+            }
+            if (type == byte.class || type == Byte.class) {
+                return Byte.valueOf(value);
+            }
+        } catch (NumberFormatException e) {
+            LOG.trace("Value [{}] doesn't fit into [{}]", value, type.getName());
+        }
+        return NOT_CONVERTED;
+    }
+
+    /**
+     * A single result param
+     */
+    public static final class Param {
+
+        private final String name;
+        private final Object value;
+        private final MethodHandle setter;
+        private final Object convertedValue;
+
+        Param(String name, Object value, MethodHandle setter, Object convertedValue) {
+            this.name = name;
+            this.value = value;
+            this.setter = setter;
+            this.convertedValue = convertedValue;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return value as defined in the result config
+         */
+        public Object getValue() {
+            return value;
+        }
+
+        /**
+         * @return true if param can be applied with {@link #apply(Object)}
+         */
+        public boolean isCompiled() {
+            return setter != null;
+        }
+
+        /**
+         * Sets the precompiled value on the given result
+         *
+         * @param result result to set value on
+         * @throws ReflectionException if setter failed
+         */
+        public void apply(Object result) throws ReflectionException {
+            try {
+                setter.invokeExact(result, convertedValue);
+            } catch (Throwable t) {
+                throw new ReflectionException("Error setting property '" + name + "' on type '" + result.getClass().getName() + "'.", t);
+            }
+        }
+    }
+
+    private static final class CompiledParams {
+        final Class<?> type;
+        final List<Param> params;
+
+        CompiledParams(Class<?> type, List<Param> params) {
+            this.type = type;
+            this.params = params;
+        }
+    }
+
+    private static boolean buildsBeansByClass(ObjectFactory objectFactory) {
+        try {
+            Class<?> type = objectFactory.getClass();
+            return type.getMethod("buildBean", String.class, Map.class).getDeclaringClass() == ObjectFactory.class
+                    && type.getMethod("buildBean", String.class, Map.class, boolean.class).getDeclaringClass() == ObjectFactory.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.factory;
+
+import com.opensymphony.xwork2.ObjectFactory;
+import com.opensymphony.xwork2.config.entities.ResultConfig;
+import com.opensymphony.xwork2.util.BoundedCache;
+
+/**
+ * Keeps {@link ResultBuilder}s compiled on first use of a given {@link ResultConfig}. Result configs are
+ * immutable and shared by all the invocations of an action, so they are looked up by identity instead of
+ * hashing their params on every lookup. Number of cached builders is limited as result configs with substituted
+ * wildcards can be created per request, least recently used builders are evicted once the limit is reached.
+ *
+ * @since 2.6
+ */
+public class ResultBuilderCache {
+
+    public static final int DEFAULT_MAX_SIZE = 2048;
+
+    private final BoundedCache<ConfigKey, ResultBuilder> builders;
+
+    public ResultBuilderCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public ResultBuilderCache(int maxSize) {
+        this.builders = new BoundedCache<>(maxSize);
+    }
+
+    public ResultBuilder get(ResultConfig resultConfig, ObjectFactory objectFactory) throws ClassNotFoundException {
+        ConfigKey key = new ConfigKey(resultConfig);
+        ResultBuilder builder = builders.get(key);
+        if (builder == null) {
+            builder = builders.putIfAbsent(key, ResultBuilder.compile(resultConfig, objectFactory));
+        }
+        return builder;
+    }
+
+    public int size() {
+        return builders.size();
+    }
+
+    public void clear() {
+        builders.clear();
+    }
+
+    /**
+     * Identity of a result config, {@link ResultConfig#equals(Object)} compares all the params
+     */
+    private static final class ConfigKey {
+
+        private final ResultConfig config;
+
+        ConfigKey(ResultConfig config) {
+            this.config = config;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ConfigKey && ((ConfigKey) o).config == config;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(config);
+        }
+    }
+
+}
@@ -17,6 +17,8 @@
 package com.opensymphony.xwork2.inject;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -130,4 +132,15 @@ public interface Container extends Serializable {
    * Removes the scope strategy for the current thread.
    */
   void removeScopeStrategy();
+
+  /**
+   * Returns how many times each dependency was looked up with {@link #getInstance(Class, String)}
+   * or {@link #getInstance(Class)}.
+   *
+   * @return number of lookups keyed by dependency type and name, empty if lookups aren't counted
+   * @since 2.6
+   */
+  default Map<String, Long> getInstanceLookupCounts() {
+    return Collections.emptyMap();
+  }
 }
@@ -537,7 +537,7 @@ public final class ContainerBuilder {
      * @return this builder
      */
     private <T> ContainerBuilder constant(final Class<T> type, final String name, final T value) {
-        InternalFactory<T> factory = new InternalFactory<T>() {
+        InternalFactory<T> factory = new SingletonInternalFactory<T>() {
             public T create(InternalContext ignored) {
                 return value;
             }
@@ -19,10 +19,17 @@ import com.opensymphony.xwork2.inject.util.ReferenceCache;
 
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
 import java.lang.reflect.*;
 import java.security.AccessControlException;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Default {@link Container} implementation.
@@ -160,9 +167,39 @@ class ContainerImpl implements Container {
                 !Modifier.isPublic(member.getDeclaringClass().getModifiers());
     }
 
+    private static final MethodType FIELD_SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType METHOD_INVOKER_TYPE = MethodType.methodType(void.class, Object.class, Object[].class);
+
+    /**
+     * Creates a setter handle of type (Object, Object)void for the given field,
+     * returns null if the field can only be set via reflection
+     */
+    static MethodHandle fieldSetter(Field field) {
+        try {
+            return MethodHandles.lookup().unreflectSetter(field).asType(FIELD_SETTER_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates an invoker handle of type (Object, Object[])void for the given method,
+     * returns null if the method can only be called via reflection
+     */
+    static MethodHandle methodInvoker(Method method) {
+        try {
+            return MethodHandles.lookup().unreflect(method)
+                    .asSpreader(Object[].class, method.getParameterTypes().length)
+                    .asType(METHOD_INVOKER_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
     static class FieldInjector implements Injector {
 
         final Field field;
+        final MethodHandle setter;
         final InternalFactory<?> factory;
         final ExternalContext<?> externalContext;
 
@@ -181,6 +218,7 @@ class ContainerImpl implements Container {
                             + field.getDeclaringClass().getName() + "(" + field.getName() + ")", e);
                 }
             }
+            this.setter = fieldSetter(field);
 
             Key<?> key = Key.newInstance(field.getType(), name);
             factory = container.getFactory(key);
@@ -195,13 +233,34 @@ class ContainerImpl implements Container {
             ExternalContext<?> previous = context.getExternalContext();
             context.setExternalContext(externalContext);
             try {
-                field.set(o, factory.create(context));
+                Object value = factory.create(context);
+                if (setter != null) {
+                    set(o, value);
+                } else {
+                    field.set(o, value);
+                }
             } catch (IllegalAccessException e) {
                 throw new AssertionError(e);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new AssertionError(t);
             } finally {
                 context.setExternalContext(previous);
             }
         }
+
+        /**
+         * Reports a value or target of a wrong type the same way as {@link Field#set(Object, Object)}
+         */
+        private void set(Object o, Object value) throws Throwable {
+            try {
+                setter.invokeExact(o, value);
+            } catch (WrongMethodTypeException | ClassCastException e) {
+                throw new IllegalArgumentException("Can not set " + field + " to "
+                        + (value == null ? "null value" : value.getClass().getName()), e);
+            }
+        }
     }
 
     /**
@@ -257,6 +316,7 @@ class ContainerImpl implements Container {
     static class MethodInjector implements Injector {
 
         final Method method;
+        final MethodHandle invoker;
         final ParameterInjector<?>[] parameterInjectors;
 
         public MethodInjector(ContainerImpl container, Method method, String name) throws MissingDependencyException {
@@ -280,15 +340,36 @@ class ContainerImpl implements Container {
             }
             parameterInjectors = container.getParametersInjectors(
                     method, method.getParameterAnnotations(), parameterTypes, name);
+            invoker = methodInvoker(method);
         }
 
         public void inject(InternalContext context, Object o) {
             try {
-                method.invoke(o, getParameters(method, context, parameterInjectors));
+                Object[] parameters = getParameters(method, context, parameterInjectors);
+                if (invoker != null) {
+                    invoke(invoker, o, parameters);
+                } else {
+                    method.invoke(o, parameters);
+                }
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
         }
+
+        /**
+         * Reports failures the same way as {@link Method#invoke(Object, Object...)}, a target or arguments
+         * of a wrong type with an {@link IllegalArgumentException} and failures of the method
+         * with an {@link InvocationTargetException}
+         */
+        private static void invoke(MethodHandle invoker, Object o, Object[] parameters) throws InvocationTargetException {
+            try {
+                invoker.invokeExact(o, parameters);
+            } catch (WrongMethodTypeException | ClassCastException e) {
+                throw new IllegalArgumentException("argument type mismatch", e);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
     }
 
     Map<Class<?>, ConstructorInjector> constructors =
@@ -518,20 +599,62 @@ class ContainerImpl implements Container {
         });
     }
 
+    @SuppressWarnings("unchecked")
     public <T> T getInstance(final Class<T> type, final String name) {
-        return callInContext(new ContextualCallable<T>() {
+        Key<T> key = Key.newInstance(type, name);
+        Lookup lookup = lookups.get(key);
+        if (lookup == null) {
+            lookup = new Lookup(getFactory(key) instanceof SingletonInternalFactory);
+            Lookup existing = lookups.putIfAbsent(key, lookup);
+            if (existing != null) {
+                lookup = existing;
+            }
+        }
+        lookup.count.increment();
+
+        // fast path, singletons and constants don't need a context once they were created
+        Object instance = lookup.instance;
+        if (instance != null) {
+            return (T) instance;
+        }
+
+        T result = callInContext(new ContextualCallable<T>() {
             public T call(InternalContext context) {
                 return getInstance(type, name, context);
             }
         });
+        if (lookup.singleton) {
+            lookup.instance = result;
+        }
+        return result;
     }
 
     public <T> T getInstance(final Class<T> type) {
-        return callInContext(new ContextualCallable<T>() {
-            public T call(InternalContext context) {
-                return getInstance(type, context);
-            }
-        });
+        return getInstance(type, DEFAULT_NAME);
+    }
+
+    @Override
+    public Map<String, Long> getInstanceLookupCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Entry<Key<?>, Lookup> entry : lookups.entrySet()) {
+            counts.put(entry.getKey().toString(), entry.getValue().count.sum());
+        }
+        return counts;
+    }
+
+    /**
+     * Lookups made through {@link #getInstance(Class, String)}, keeps instances of singletons and constants
+     */
+    final ConcurrentMap<Key<?>, Lookup> lookups = new ConcurrentHashMap<>();
+
+    static class Lookup {
+        final boolean singleton;
+        final LongAdder count = new LongAdder();
+        volatile Object instance;
+
+        Lookup(boolean singleton) {
+            this.singleton = singleton;
+        }
     }
 
     public Set<String> getInstanceNames(final Class<?> type) {
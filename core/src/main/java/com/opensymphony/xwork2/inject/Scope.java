@@ -43,16 +43,21 @@ public enum Scope {
     SINGLETON {
         @Override
         <T> InternalFactory<? extends T> scopeFactory(Class<T> type, String name, final InternalFactory<? extends T> factory) {
-            return new InternalFactory<T>() {
-                T instance;
+            return new SingletonInternalFactory<T>() {
+                volatile T instance;
 
                 public T create(InternalContext context) {
-                    synchronized (context.getContainer()) {
-                        if (instance == null) {
-                            instance = InitializableFactory.wrapIfNeeded(factory).create(context);
+                    T result = instance;
+                    if (result == null) {
+                        synchronized (context.getContainer()) {
+                            result = instance;
+                            if (result == null) {
+                                result = InitializableFactory.wrapIfNeeded(factory).create(context);
+                                instance = result;
+                            }
                         }
-                        return instance;
                     }
+                    return result;
                 }
 
                 @Override
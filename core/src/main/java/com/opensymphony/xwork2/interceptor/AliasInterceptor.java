@@ -195,6 +195,8 @@ public class AliasInterceptor extends AbstractInterceptor {
 
                 if (clearableStack && (stack.getContext() != null) && (newStack.getContext() != null))
                     stack.getContext().put(ActionContext.CONVERSION_ERRORS, newStack.getContext().get(ActionContext.CONVERSION_ERRORS));
+
+                valueStackFactory.releaseValueStack(newStack);
             } else {
                 LOG.debug("invalid alias expression: {}", aliasesKey);
             }
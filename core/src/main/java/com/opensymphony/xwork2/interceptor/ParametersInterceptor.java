@@ -219,6 +219,8 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
         if (clearableStack && (stack.getContext() != null) && (newStack.getContext() != null))
             stack.getContext().put(ActionContext.CONVERSION_ERRORS, newStack.getContext().get(ActionContext.CONVERSION_ERRORS));
 
+        valueStackFactory.releaseValueStack(newStack);
+
         addParametersToContext(ActionContext.getContext(), acceptableParameters);
     }
 
@@ -191,6 +191,8 @@ public class StaticParametersInterceptor extends AbstractInterceptor {
                  if (clearableStack && (stack.getContext() != null) && (newStack.getContext() != null))
                     stack.getContext().put(ActionContext.CONVERSION_ERRORS, newStack.getContext().get(ActionContext.CONVERSION_ERRORS));
 
+                valueStackFactory.releaseValueStack(newStack);
+
                 if (merge)
                     addParametersToContext(ac, parameters);
             } finally {
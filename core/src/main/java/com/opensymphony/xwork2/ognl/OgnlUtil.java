@@ -22,6 +22,8 @@ import com.opensymphony.xwork2.config.ConfigurationException;
 import com.opensymphony.xwork2.conversion.impl.XWorkConverter;
 import com.opensymphony.xwork2.inject.Container;
 import com.opensymphony.xwork2.inject.Inject;
+import com.opensymphony.xwork2.util.BoundedCache;
+import com.opensymphony.xwork2.util.CacheStats;
 import com.opensymphony.xwork2.ognl.accessor.CompoundRootAccessor;
 import com.opensymphony.xwork2.util.CompoundRoot;
 import com.opensymphony.xwork2.util.TextParseUtil;
@@ -40,6 +42,7 @@ import java.lang.reflect.Method;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 
@@ -53,13 +56,18 @@ public class OgnlUtil {
 
     private static final Logger LOG = LogManager.getLogger(OgnlUtil.class);
 
-    private final ConcurrentMap<String, Object> expressions = new ConcurrentHashMap<>();
+    private static final int DEFAULT_EXPRESSION_CACHE_MAX_SIZE = 10000;
+    private static final int DEFAULT_EXPRESSION_COMPILE_THRESHOLD = 100;
+
+    private BoundedCache<String, Object> expressions = createExpressionCache(DEFAULT_EXPRESSION_CACHE_MAX_SIZE);
+    private BoundedCache<String, Object> methodExpressions = createExpressionCache(DEFAULT_EXPRESSION_CACHE_MAX_SIZE);
     private final ConcurrentMap<Class, BeanInfo> beanInfoCache = new ConcurrentHashMap<>();
     private TypeConverter defaultConverter;
 
     private boolean devMode;
     private boolean enableExpressionCache = true;
     private boolean enableEvalExpression;
+    private int expressionCompileThreshold = DEFAULT_EXPRESSION_COMPILE_THRESHOLD;
 
     private Set<Class<?>> excludedClasses;
     private Set<Pattern> excludedPackageNamePatterns;
@@ -94,6 +102,37 @@ public class OgnlUtil {
         enableExpressionCache = BooleanUtils.toBoolean(cache);
     }
 
+    /**
+     * @param maxSize maximum number of parsed expressions kept by each of the expression caches
+     * @since 2.6
+     */
+    @Inject(value = StrutsConstants.STRUTS_OGNL_EXPRESSION_CACHE_MAX_SIZE, required = false)
+    protected void setExpressionCacheMaxSize(String maxSize) {
+        int size = Integer.parseInt(maxSize);
+        this.expressions = createExpressionCache(size);
+        this.methodExpressions = createExpressionCache(size);
+    }
+
+    /**
+     * Creates the caches of parsed expressions, override to use a different eviction policy.
+     *
+     * @param maxSize maximum number of parsed expressions to keep
+     * @return a new cache
+     * @since 2.6
+     */
+    protected BoundedCache<String, Object> createExpressionCache(int maxSize) {
+        return new BoundedCache<>(maxSize);
+    }
+
+    /**
+     * @param threshold number of evaluations after which a cached property navigation expression is compiled,
+     *                  zero or less evaluates expressions always with the OGNL interpreter
+     */
+    @Inject(value = StrutsConstants.STRUTS_OGNL_EXPRESSION_COMPILE_THRESHOLD, required = false)
+    protected void setExpressionCompileThreshold(String threshold) {
+        this.expressionCompileThreshold = Integer.parseInt(threshold);
+    }
+
     @Inject(value = StrutsConstants.STRUTS_ENABLE_OGNL_EVAL_EXPRESSION, required = false)
     protected void setEnableEvalExpression(String evalExpression) {
         this.enableEvalExpression = BooleanUtils.toBoolean(evalExpression);
@@ -241,6 +280,7 @@ public class OgnlUtil {
      */
     public void clearExpressionCache() {
         expressions.clear();
+        methodExpressions.clear();
     }
 
     /**
@@ -251,7 +291,23 @@ public class OgnlUtil {
      * @since 2.5.21
      */
     public int expressionCacheSize() {
-        return expressions.size();
+        return expressions.size() + methodExpressions.size();
+    }
+
+    /**
+     * @return usage statistics of the cache of expressions used to get and set values
+     * @since 2.6
+     */
+    public CacheStats getExpressionCacheStats() {
+        return expressions.getStats();
+    }
+
+    /**
+     * @return usage statistics of the cache of expressions used to call methods
+     * @since 2.6
+     */
+    public CacheStats getMethodExpressionCacheStats() {
+        return methodExpressions.getStats();
     }
 
     /**
@@ -482,11 +538,7 @@ public class OgnlUtil {
     }
 
     public Object getValue(final String name, final Map<String, Object> context, final Object root) throws OgnlException {
-        return compileAndExecute(name, context, new OgnlTask<Object>() {
-            public Object execute(Object tree) throws OgnlException {
-                return Ognl.getValue(tree, context, root);
-            }
-        });
+        return getValue(name, context, root, null);
     }
 
     public Object callMethod(final String name, final Map<String, Object> context, final Object root) throws OgnlException {
@@ -498,11 +550,29 @@ public class OgnlUtil {
     }
 
     public Object getValue(final String name, final Map<String, Object> context, final Object root, final Class resultType) throws OgnlException {
-        return compileAndExecute(name, context, new OgnlTask<Object>() {
-            public Object execute(Object tree) throws OgnlException {
-                return Ognl.getValue(tree, context, root, resultType);
+        CachedExpression expression = getCachedExpression(name);
+        final boolean parsed = expression == null;
+        if (parsed) {
+            expression = parseExpression(name, context);
+        }
+
+        Object result;
+        PropertyChainAccessor accessor = expression.getAccessor(expressionCompileThreshold);
+        if (accessor != null && context instanceof OgnlContext) {
+            Ognl.addDefaultContext(root, context);
+            result = accessor.getValue((OgnlContext) context, root);
+            if (resultType != null) {
+                result = Ognl.getTypeConverter(context).convertValue(context, root, null, null, result, resultType);
             }
-        });
+        } else {
+            result = Ognl.getValue(expression.tree, context, root, resultType);
+        }
+
+        // if cache is enabled and it's a new valid expression, puts it in
+        if (parsed && enableExpressionCache) {
+            expressions.putIfAbsent(name, expression);
+        }
+        return result;
     }
 
 
@@ -511,43 +581,56 @@ public class OgnlUtil {
     }
 
     private <T> Object compileAndExecute(String expression, Map<String, Object> context, OgnlTask<T> task) throws OgnlException {
-        Object tree;
-        if (enableExpressionCache) {
-            tree = expressions.get(expression);
-            if (tree == null) {
-                tree = Ognl.parseExpression(expression);
-                checkEnableEvalExpression(tree, context);
-            }
-        } else {
-            tree = Ognl.parseExpression(expression);
-            checkEnableEvalExpression(tree, context);
+        CachedExpression cached = getCachedExpression(expression);
+        final boolean parsed = cached == null;
+        if (parsed) {
+            cached = parseExpression(expression, context);
         }
 
-        final T exec = task.execute(tree);
-        // if cache is enabled and it's a valid expression, puts it in
-        if (enableExpressionCache) {
-            expressions.putIfAbsent(expression, tree);
+        final T exec = task.execute(cached.tree);
+        // if cache is enabled and it's a new valid expression, puts it in
+        if (parsed && enableExpressionCache) {
+            expressions.putIfAbsent(expression, cached);
         }
         return exec;
     }
 
+    private CachedExpression getCachedExpression(String expression) {
+        if (enableExpressionCache) {
+            return (CachedExpression) expressions.get(expression);
+        }
+        return null;
+    }
+
+    /**
+     * @return the compiled form of a cached expression or null if it wasn't compiled, used by the tests
+     */
+    PropertyChainAccessor getCompiledAccessor(String expression) {
+        CachedExpression cached = getCachedExpression(expression);
+        return cached != null ? cached.accessor : null;
+    }
+
+    private CachedExpression parseExpression(String expression, Map<String, Object> context) throws OgnlException {
+        Object tree = Ognl.parseExpression(expression);
+        checkEnableEvalExpression(tree, context);
+        return new CachedExpression(tree);
+    }
+
     private <T> Object compileAndExecuteMethod(String expression, Map<String, Object> context, OgnlTask<T> task) throws OgnlException {
-        Object tree;
+        Object tree = null;
         if (enableExpressionCache) {
-            tree = expressions.get(expression);
-            if (tree == null) {
-                tree = Ognl.parseExpression(expression);
-                checkSimpleMethod(tree, context);
-            }
-        } else {
+            tree = methodExpressions.get(expression);
+        }
+        final boolean parsed = tree == null;
+        if (parsed) {
             tree = Ognl.parseExpression(expression);
             checkSimpleMethod(tree, context);
         }
 
         final T exec = task.execute(tree);
-        // if cache is enabled and it's a valid expression, puts it in
-        if (enableExpressionCache) {
-            expressions.putIfAbsent(expression, tree);
+        // if cache is enabled and it's a new valid expression, puts it in
+        if (parsed && enableExpressionCache) {
+            methodExpressions.putIfAbsent(expression, tree);
         }
         return exec;
     }
@@ -810,4 +893,40 @@ public class OgnlUtil {
         T execute(Object tree) throws OgnlException;
     }
 
+    /**
+     * Parsed expression kept in the cache, along with the number of times it was evaluated
+     * and its compiled form once it became hot.
+     */
+    private static class CachedExpression {
+
+        private final Object tree;
+        private final AtomicInteger evaluations = new AtomicInteger();
+        private volatile PropertyChainAccessor accessor;
+        private volatile boolean compilable = true;
+
+        CachedExpression(Object tree) {
+            this.tree = tree;
+        }
+
+        PropertyChainAccessor getAccessor(int compileThreshold) {
+            if (compileThreshold < 1) {
+                return null;
+            }
+            PropertyChainAccessor current = accessor;
+            if (current != null || !compilable) {
+                return current;
+            }
+            if (evaluations.incrementAndGet() >= compileThreshold) {
+                current = PropertyChainAccessor.create(tree);
+                if (current == null) {
+                    compilable = false;
+                } else {
+                    LOG.debug("Compiled hot expression [{}]", tree);
+                    accessor = current;
+                }
+            }
+            return current;
+        }
+    }
+
 }
@@ -37,6 +37,7 @@ import org.apache.struts2.StrutsConstants;
 import org.apache.struts2.StrutsException;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -467,6 +468,26 @@ public class OgnlValueStack implements Serializable, ValueStack, ClearableValueS
     }
 
 
+    /**
+     * Prepares the stack to be used again with a new root, the context is cleared and the properties
+     * accepted or excluded by the security member access are reset.
+     *
+     * @param compoundRoot the new root
+     * @since 2.6
+     */
+    protected void recycle(CompoundRoot compoundRoot) {
+        this.root = compoundRoot;
+        this.defaultType = null;
+        this.overrides = null;
+        securityMemberAccess.setAcceptProperties(Collections.<Pattern>emptySet());
+        securityMemberAccess.setExcludeProperties(Collections.<Pattern>emptySet());
+
+        OgnlContext ognlContext = (OgnlContext) context;
+        ognlContext.clear();
+        ognlContext.setRoot(compoundRoot);
+        context.put(VALUE_STACK, this);
+    }
+
     public void clearContextValues() {
         //this is an OGNL ValueStack so the context will be an OgnlContext
         //it would be better to make context of type OgnlContext
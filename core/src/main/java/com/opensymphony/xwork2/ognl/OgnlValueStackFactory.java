@@ -35,6 +35,8 @@ import org.apache.commons.lang3.BooleanUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Map;
 import java.util.Set;
 import org.apache.struts2.StrutsConstants;
@@ -51,6 +53,14 @@ public class OgnlValueStackFactory implements ValueStackFactory {
     protected TextProvider textProvider;
     protected Container container;
 
+    private int poolSize;
+    private final ThreadLocal<Deque<OgnlValueStack>> pool = new ThreadLocal<Deque<OgnlValueStack>>() {
+        @Override
+        protected Deque<OgnlValueStack> initialValue() {
+            return new ArrayDeque<>();
+        }
+    };
+
     @Inject
     protected void setXWorkConverter(XWorkConverter converter) {
         this.xworkConverter = converter;
@@ -61,21 +71,65 @@ public class OgnlValueStackFactory implements ValueStackFactory {
         this.textProvider = textProvider;
     }
 
+    /**
+     * @param poolSize maximum number of released value stacks kept by each thread to be recycled,
+     *                 zero or less always creates new value stacks
+     */
+    @Inject(value = StrutsConstants.STRUTS_VALUE_STACK_POOL_SIZE, required = false)
+    protected void setPoolSize(String poolSize) {
+        this.poolSize = Integer.parseInt(poolSize);
+    }
+
     public ValueStack createValueStack() {
-        ValueStack stack = new OgnlValueStack(xworkConverter, compoundRootAccessor, textProvider,
-                containerAllowsStaticMethodAccess(), containerAllowsStaticFieldAccess());
-        container.inject(stack);
+        OgnlValueStack stack = takeFromPool();
+        if (stack != null) {
+            stack.recycle(new CompoundRoot());
+            stack.push(textProvider);
+        } else {
+            stack = new OgnlValueStack(xworkConverter, compoundRootAccessor, textProvider,
+                    containerAllowsStaticMethodAccess(), containerAllowsStaticFieldAccess());
+            container.inject(stack);
+        }
         stack.getContext().put(ActionContext.CONTAINER, container);
         return stack;
     }
 
     public ValueStack createValueStack(ValueStack stack) {
-        ValueStack result = new OgnlValueStack(stack, xworkConverter, compoundRootAccessor,
-                containerAllowsStaticMethodAccess(), containerAllowsStaticFieldAccess());
-        container.inject(result);
+        OgnlValueStack result = takeFromPool();
+        if (result != null) {
+            result.recycle(new CompoundRoot(stack.getRoot()));
+        } else {
+            result = new OgnlValueStack(stack, xworkConverter, compoundRootAccessor,
+                    containerAllowsStaticMethodAccess(), containerAllowsStaticFieldAccess());
+            container.inject(result);
+        }
         stack.getContext().put(ActionContext.CONTAINER, container);
         return result;
     }
+
+    /**
+     * Keeps the released stack in the pool of the current thread when recycling is enabled. The root
+     * and the context of the stack are cleared right away, so the pool doesn't hold objects of the request.
+     */
+    @Override
+    public void releaseValueStack(ValueStack stack) {
+        if (poolSize < 1 || stack == null || stack.getClass() != OgnlValueStack.class) {
+            return;
+        }
+        Deque<OgnlValueStack> stacks = pool.get();
+        if (stacks.size() < poolSize && !stacks.contains(stack)) {
+            OgnlValueStack released = (OgnlValueStack) stack;
+            released.recycle(new CompoundRoot());
+            stacks.push(released);
+        }
+    }
+
+    private OgnlValueStack takeFromPool() {
+        if (poolSize < 1) {
+            return null;
+        }
+        return pool.get().poll();
+    }
     
     @Inject
     protected void setContainer(Container container) throws ClassNotFoundException {
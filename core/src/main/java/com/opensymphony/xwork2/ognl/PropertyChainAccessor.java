@@ -0,0 +1,342 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.ognl;
+
+import com.opensymphony.xwork2.conversion.impl.XWorkConverter;
+import com.opensymphony.xwork2.ognl.accessor.CompoundRootAccessor;
+import com.opensymphony.xwork2.ognl.accessor.ObjectAccessor;
+import com.opensymphony.xwork2.util.CompoundRoot;
+import com.opensymphony.xwork2.util.reflection.ReflectionContextState;
+import ognl.ASTChain;
+import ognl.ASTConst;
+import ognl.ASTProperty;
+import ognl.ASTVarRef;
+import ognl.NoSuchPropertyException;
+import ognl.Node;
+import ognl.ObjectPropertyAccessor;
+import ognl.OgnlContext;
+import ognl.OgnlException;
+import ognl.OgnlRuntime;
+import ognl.PropertyAccessor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.struts2.StrutsException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compiled form of a plain property navigation expression like <code>action.user.name</code> or
+ * <code>#attr.name</code>, used by {@link OgnlUtil} once an expression has been evaluated often enough.
+ *
+ * <p>
+ * Properties are read through the public getters of the classes of the objects they are read from, invoked
+ * with {@link MethodHandle}s cached per class. Each call is guarded: when a class has no such getter, the
+ * getter is not accessible according to the {@link ognl.MemberAccess} of the context or the class isn't read
+ * through the plain object property accessors, the rest of the chain is interpreted by OGNL as before.
+ * The side effects of {@link ObjectAccessor} and the null handlers are preserved.
+ * </p>
+ *
+ * <p>
+ * When the root is a {@link CompoundRoot}, the first property is looked up top-down in the stack the same
+ * way {@link CompoundRootAccessor#getProperty(java.util.Map, Object, Object)} does. A chain starting with a
+ * variable reads the variable from the context and then continues with the getters.
+ * </p>
+ *
+ * @since 2.6
+ */
+public class PropertyChainAccessor {
+
+    private static final Logger LOG = LogManager.getLogger(PropertyChainAccessor.class);
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final Object NOT_RESOLVED = new Object();
+
+    private static final ClassValue<ConcurrentMap<String, Getter>> GETTERS = new ClassValue<ConcurrentMap<String, Getter>>() {
+        @Override
+        protected ConcurrentMap<String, Getter> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Node[] nodes;
+    private final String[] names;
+    private final String variable;
+    private final LongAdder interpretations = new LongAdder();
+
+    private PropertyChainAccessor(Node[] nodes, String[] names, String variable) {
+        this.nodes = nodes;
+        this.names = names;
+        this.variable = variable;
+    }
+
+    /**
+     * Creates an accessor for the given parsed expression.
+     *
+     * @param tree parsed OGNL expression
+     * @return the accessor or null if the expression isn't a plain chain of named properties
+     */
+    public static PropertyChainAccessor create(Object tree) {
+        Node[] nodes;
+        if (tree instanceof ASTProperty) {
+            nodes = new Node[]{(Node) tree};
+        } else if (tree instanceof ASTChain) {
+            Node chain = (Node) tree;
+            nodes = new Node[chain.jjtGetNumChildren()];
+            for (int i = 0; i < nodes.length; i++) {
+                nodes[i] = chain.jjtGetChild(i);
+            }
+        } else {
+            return null;
+        }
+
+        String[] names = new String[nodes.length];
+        String variable = null;
+        for (int i = 0; i < nodes.length; i++) {
+            Node node = nodes[i];
+            if (i == 0 && node instanceof ASTVarRef && nodes.length > 1) {
+                // ASTVarRef doesn't expose its name, toString() renders it as #name
+                variable = node.toString().substring(1);
+                continue;
+            }
+            if (!(node instanceof ASTProperty) || ((ASTProperty) node).isIndexedAccess() || node.jjtGetNumChildren() != 1) {
+                return null;
+            }
+            Node name = node.jjtGetChild(0);
+            if (!(name instanceof ASTConst) || !(((ASTConst) name).getValue() instanceof String)) {
+                return null;
+            }
+            names[i] = (String) ((ASTConst) name).getValue();
+        }
+        return new PropertyChainAccessor(nodes, names, variable);
+    }
+
+    /**
+     * Evaluates the expression against the given root, the root must already be set in the context.
+     *
+     * @param context OGNL context
+     * @param root    root object
+     * @return value of the expression
+     * @throws OgnlException in the same cases as interpreting the expression
+     */
+    public Object getValue(OgnlContext context, Object root) throws OgnlException {
+        Object target = root;
+        int i = 0;
+        if (variable != null) {
+            context.setCurrentObject(root);
+            target = context.get(variable);
+            i = 1;
+        } else if (root instanceof CompoundRoot) {
+            target = getRootProperty(context, (CompoundRoot) root, names[0]);
+            if (target == NOT_RESOLVED) {
+                return interpret(context, 0, root);
+            }
+            i = 1;
+        }
+
+        for (; i < nodes.length; i++) {
+            if (target == null) {
+                return interpret(context, i, target);
+            }
+            Getter getter = getGetter(context, target.getClass(), names[i]);
+            if (!getter.isBound() || !getter.isAccessible(context, target, names[i])) {
+                return interpret(context, i, target);
+            }
+            Object value = getter.get(context, target, names[i]);
+            if (value == null) {
+                value = OgnlRuntime.getNullHandler(target.getClass()).nullPropertyValue(context, target, names[i]);
+            }
+            target = value;
+        }
+        return target;
+    }
+
+    /**
+     * Looks up the property in the objects of the stack, from the top, like {@link CompoundRootAccessor} does.
+     *
+     * @return value of the property or {@link #NOT_RESOLVED} if an object of the stack needs to be handled by OGNL
+     */
+    private Object getRootProperty(OgnlContext context, CompoundRoot root, String name) throws OgnlException {
+        if (OgnlRuntime.getPropertyAccessor(CompoundRoot.class).getClass() != CompoundRootAccessor.class) {
+            return NOT_RESOLVED;
+        }
+
+        Object value = null;
+        if ("top".equals(name)) {
+            if (root.size() > 0) {
+                value = root.get(0);
+            }
+        } else {
+            boolean found = false;
+            for (Object o : root) {
+                if (o == null) {
+                    continue;
+                }
+                Getter getter = getGetter(context, o.getClass(), name);
+                if (getter.isAbsent()) {
+                    continue;
+                }
+                if (!getter.isBound() || !getter.isAccessible(context, o, name)) {
+                    return NOT_RESOLVED;
+                }
+                try {
+                    value = getter.get(context, o, name);
+                } catch (OgnlException e) {
+                    throw new StrutsException("Caught an Ognl exception while getting property " + name, e);
+                }
+                found = true;
+                break;
+            }
+            if (!found && context.containsKey(OgnlValueStack.THROW_EXCEPTION_ON_FAILURE)) {
+                throw new NoSuchPropertyException(root, name);
+            }
+        }
+
+        if (value == null) {
+            value = OgnlRuntime.getNullHandler(CompoundRoot.class).nullPropertyValue(context, root, name);
+        }
+        return value;
+    }
+
+    private Object interpret(OgnlContext context, int from, Object target) throws OgnlException {
+        interpretations.increment();
+        Object result = target;
+        for (int i = from; i < nodes.length; i++) {
+            result = nodes[i].getValue(context, result);
+        }
+        return result;
+    }
+
+    /**
+     * @return how many times the chain had to be handed over to OGNL, used by the tests
+     */
+    long getInterpretations() {
+        return interpretations.sum();
+    }
+
+    private static Getter getGetter(OgnlContext context, Class<?> type, String name) throws OgnlException {
+        ConcurrentMap<String, Getter> getters = GETTERS.get(type);
+        Getter getter = getters.get(name);
+        if (getter == null) {
+            getter = bind(context, type, name);
+            getters.putIfAbsent(name, getter);
+        }
+        return getter.isCurrent(type) ? getter : Getter.UNBOUND;
+    }
+
+    private static Getter bind(OgnlContext context, Class<?> type, String name) {
+        try {
+            PropertyAccessor accessor = OgnlRuntime.getPropertyAccessor(type);
+            if (type == Class.class || (accessor.getClass() != ObjectAccessor.class && accessor.getClass() != ObjectPropertyAccessor.class)) {
+                return Getter.UNBOUND;
+            }
+            Method method = OgnlRuntime.getGetMethod(context, type, name);
+            if (method == null) {
+                return OgnlRuntime.getField(type, name) == null ? new Getter(accessor, null, null) : Getter.UNBOUND;
+            }
+            if (!isBindable(method)) {
+                return Getter.UNBOUND;
+            }
+            MethodHandle handle = MethodHandles.publicLookup().unreflect(method).asType(GETTER_TYPE);
+            return new Getter(accessor, method, handle);
+        } catch (Exception e) {
+            LOG.debug("Cannot bind property [{}] of [{}], it will be interpreted", name, type, e);
+            return Getter.UNBOUND;
+        }
+    }
+
+    /**
+     * Only public instance getters are bound, the classes refused by OGNL's stricter invocation mode
+     * are always left to OGNL.
+     */
+    private static boolean isBindable(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        return Modifier.isPublic(method.getModifiers())
+                && !Modifier.isStatic(method.getModifiers())
+                && Modifier.isPublic(declaringClass.getModifiers())
+                && method.getParameterTypes().length == 0
+                && !declaringClass.getName().startsWith("ognl.")
+                && !Runtime.class.isAssignableFrom(declaringClass)
+                && !ClassLoader.class.isAssignableFrom(declaringClass)
+                && !ProcessBuilder.class.isAssignableFrom(declaringClass);
+    }
+
+    /**
+     * Getter of a property bound for a class, a getter without method handle is either unbound, the property
+     * is then read by OGNL, or absent when the class has neither a getter nor a field for the property.
+     */
+    private static class Getter {
+
+        static final Getter UNBOUND = new Getter(null, null, null);
+
+        private final PropertyAccessor accessor;
+        private final Method method;
+        private final MethodHandle handle;
+
+        Getter(PropertyAccessor accessor, Method method, MethodHandle handle) {
+            this.accessor = accessor;
+            this.method = method;
+            this.handle = handle;
+        }
+
+        /**
+         * Property accessors can be registered at any time, the binding is only valid as long as the
+         * accessor it was made for is still the one used for the class.
+         */
+        boolean isCurrent(Class<?> type) throws OgnlException {
+            return accessor != null && OgnlRuntime.getPropertyAccessor(type) == accessor;
+        }
+
+        boolean isBound() {
+            return handle != null;
+        }
+
+        boolean isAbsent() {
+            return accessor != null && handle == null;
+        }
+
+        boolean isAccessible(OgnlContext context, Object target, String name) {
+            return context.getMemberAccess().isAccessible(context, target, method, name);
+        }
+
+        Object get(OgnlContext context, Object target, String name) throws OgnlException {
+            context.setCurrentObject(target);
+            Object value;
+            try {
+                value = (Object) handle.invokeExact(target);
+            } catch (Throwable t) {
+                throw new OgnlException(name, t);
+            }
+            if (accessor instanceof ObjectAccessor) {
+                context.put(XWorkConverter.LAST_BEAN_CLASS_ACCESSED, target.getClass());
+                context.put(XWorkConverter.LAST_BEAN_PROPERTY_ACCESSED, name);
+                ReflectionContextState.updateCurrentPropertyPath(context, name);
+            }
+            return value;
+        }
+    }
+
+}
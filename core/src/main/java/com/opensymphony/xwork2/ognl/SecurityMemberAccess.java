@@ -18,6 +18,7 @@
  */
 package com.opensymphony.xwork2.ognl;
 
+import com.opensymphony.xwork2.util.BoundedCache;
 import com.opensymphony.xwork2.util.ProxyUtil;
 import ognl.MemberAccess;
 import org.apache.logging.log4j.LogManager;
@@ -28,8 +29,12 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Modifier;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -41,6 +46,11 @@ public class SecurityMemberAccess implements MemberAccess {
 
     private static final Logger LOG = LogManager.getLogger(SecurityMemberAccess.class);
 
+    private static final int PROPERTY_DECISIONS_MAX_SIZE = 1024;
+
+    private static volatile ClassAccessDecisions sharedClassAccessDecisions;
+    private static final Map<Set<Pattern>, Map<Set<Pattern>, BoundedCache<String, Boolean>>> SHARED_PROPERTY_DECISIONS = new WeakHashMap<>();
+
     private final boolean allowStaticFieldAccess;
     private final boolean allowStaticMethodAccess;
     private Set<Pattern> excludeProperties = Collections.emptySet();
@@ -50,6 +60,9 @@ public class SecurityMemberAccess implements MemberAccess {
     private Set<String> excludedPackageNames = Collections.emptySet();
     private boolean disallowProxyMemberAccess;
 
+    private ClassAccessDecisions classAccessDecisions;
+    private BoundedCache<String, Boolean> propertyDecisions;
+
     /**
      * SecurityMemberAccess
      *   - access decisions based on whether member is static (or not)
@@ -128,24 +141,22 @@ public class SecurityMemberAccess implements MemberAccess {
         }
 
         final Class memberClass = member.getDeclaringClass();
-
-        if (isClassExcluded(memberClass)) {
-            LOG.warn("Declaring class of member type [{}] is excluded!", member);
-            return false;
-        }
-
         // target can be null in case of accessing static fields, since OGNL 3.2.8
         final Class targetClass = Modifier.isStatic(memberModifiers) ? memberClass : target.getClass();
 
-        if (isPackageExcluded(targetClass.getPackage(), memberClass.getPackage())) {
-            LOG.warn("Package [{}] of target class [{}] of target [{}] or package [{}] of member [{}] are excluded!", targetClass.getPackage(), targetClass,
-                    target, memberClass.getPackage(), member);
-            return false;
-        }
-
-        if (isClassExcluded(targetClass)) {
-            LOG.warn("Target class [{}] of target [{}] is excluded!", targetClass, target);
-            return false;
+        switch (getClassAccess(targetClass, member)) {
+            case MEMBER_CLASS_EXCLUDED:
+                LOG.warn("Declaring class of member type [{}] is excluded!", member);
+                return false;
+            case PACKAGE_EXCLUDED:
+                LOG.warn("Package [{}] of target class [{}] of target [{}] or package [{}] of member [{}] are excluded!", targetClass.getPackage(), targetClass,
+                        target, memberClass.getPackage(), member);
+                return false;
+            case TARGET_CLASS_EXCLUDED:
+                LOG.warn("Target class [{}] of target [{}] is excluded!", targetClass, target);
+                return false;
+            default:
+                break;
         }
 
         if (disallowProxyMemberAccess && ProxyUtil.isProxyMember(member, target)) {
@@ -156,6 +167,52 @@ public class SecurityMemberAccess implements MemberAccess {
         return isAcceptableProperty(propertyName);
     }
 
+    /**
+     * Checks the declaring class of the member, the target class and their packages against the excluded
+     * classes and packages. The decision only depends on the classes and the configuration, so it is cached
+     * per target class and member.
+     */
+    private ClassAccess getClassAccess(Class<?> targetClass, Member member) {
+        ClassAccessDecisions decisions = classAccessDecisions;
+        if (decisions == null) {
+            decisions = resolveClassAccessDecisions();
+            classAccessDecisions = decisions;
+        }
+
+        ConcurrentMap<Member, ClassAccess> members = decisions.get(targetClass);
+        ClassAccess access = members.get(member);
+        if (access == null) {
+            final Class<?> memberClass = member.getDeclaringClass();
+            if (isClassExcluded(memberClass)) {
+                access = ClassAccess.MEMBER_CLASS_EXCLUDED;
+            } else if (isPackageExcluded(targetClass.getPackage(), memberClass.getPackage())) {
+                access = ClassAccess.PACKAGE_EXCLUDED;
+            } else if (isClassExcluded(targetClass)) {
+                access = ClassAccess.TARGET_CLASS_EXCLUDED;
+            } else {
+                access = ClassAccess.ALLOWED;
+            }
+            members.putIfAbsent(member, access);
+        }
+        return access;
+    }
+
+    /**
+     * Instances are created for each value stack, the decisions are shared between all the instances
+     * using the same configuration. Subclasses can override the checks, so they keep their own decisions.
+     */
+    private ClassAccessDecisions resolveClassAccessDecisions() {
+        if (getClass() != SecurityMemberAccess.class) {
+            return new ClassAccessDecisions(allowStaticMethodAccess, excludedClasses, excludedPackageNamePatterns, excludedPackageNames);
+        }
+        ClassAccessDecisions decisions = sharedClassAccessDecisions;
+        if (decisions == null || !decisions.matches(allowStaticMethodAccess, excludedClasses, excludedPackageNamePatterns, excludedPackageNames)) {
+            decisions = new ClassAccessDecisions(allowStaticMethodAccess, excludedClasses, excludedPackageNamePatterns, excludedPackageNames);
+            sharedClassAccessDecisions = decisions;
+        }
+        return decisions;
+    }
+
     /**
      * Check access for static method (via modifiers).
      * 
@@ -257,7 +314,49 @@ public class SecurityMemberAccess implements MemberAccess {
     }
 
     protected boolean isAcceptableProperty(String name) {
-        return name == null || ((!isExcluded(name)) && isAccepted(name));
+        if (name == null) {
+            return true;
+        }
+        // subclasses may override isExcluded/isAccepted, so they must be consulted even without patterns
+        if (excludeProperties.isEmpty() && acceptProperties.isEmpty() && getClass() == SecurityMemberAccess.class) {
+            return true;
+        }
+
+        BoundedCache<String, Boolean> decisions = propertyDecisions;
+        if (decisions == null) {
+            decisions = resolvePropertyDecisions();
+            propertyDecisions = decisions;
+        }
+
+        Boolean acceptable = decisions.get(name);
+        if (acceptable == null) {
+            acceptable = (!isExcluded(name)) && isAccepted(name);
+            decisions.putIfAbsent(name, acceptable);
+        }
+        return acceptable;
+    }
+
+    /**
+     * Property names come from requests, so their decisions are kept in a bounded cache shared by all
+     * the instances using the same accepted and excluded patterns.
+     */
+    private BoundedCache<String, Boolean> resolvePropertyDecisions() {
+        if (getClass() != SecurityMemberAccess.class) {
+            return new BoundedCache<>(PROPERTY_DECISIONS_MAX_SIZE);
+        }
+        synchronized (SHARED_PROPERTY_DECISIONS) {
+            Map<Set<Pattern>, BoundedCache<String, Boolean>> byAcceptProperties = SHARED_PROPERTY_DECISIONS.get(excludeProperties);
+            if (byAcceptProperties == null) {
+                byAcceptProperties = new WeakHashMap<>();
+                SHARED_PROPERTY_DECISIONS.put(excludeProperties, byAcceptProperties);
+            }
+            BoundedCache<String, Boolean> decisions = byAcceptProperties.get(acceptProperties);
+            if (decisions == null) {
+                decisions = new BoundedCache<>(PROPERTY_DECISIONS_MAX_SIZE);
+                byAcceptProperties.put(acceptProperties, decisions);
+            }
+            return decisions;
+        }
     }
 
     protected boolean isAccepted(String paramName) {
@@ -291,25 +390,67 @@ public class SecurityMemberAccess implements MemberAccess {
 
     public void setExcludeProperties(Set<Pattern> excludeProperties) {
         this.excludeProperties = excludeProperties;
+        this.propertyDecisions = null;
     }
 
     public void setAcceptProperties(Set<Pattern> acceptedProperties) {
         this.acceptProperties = acceptedProperties;
+        this.propertyDecisions = null;
     }
 
     public void setExcludedClasses(Set<Class<?>> excludedClasses) {
         this.excludedClasses = excludedClasses;
+        this.classAccessDecisions = null;
     }
 
     public void setExcludedPackageNamePatterns(Set<Pattern> excludedPackageNamePatterns) {
         this.excludedPackageNamePatterns = excludedPackageNamePatterns;
+        this.classAccessDecisions = null;
     }
 
     public void setExcludedPackageNames(Set<String> excludedPackageNames) {
         this.excludedPackageNames = excludedPackageNames;
+        this.classAccessDecisions = null;
     }
 
     public void setDisallowProxyMemberAccess(boolean disallowProxyMemberAccess) {
         this.disallowProxyMemberAccess = disallowProxyMemberAccess;
     }
+
+    private enum ClassAccess {
+        ALLOWED, MEMBER_CLASS_EXCLUDED, PACKAGE_EXCLUDED, TARGET_CLASS_EXCLUDED
+    }
+
+    /**
+     * Class access decisions taken with a given configuration, keyed by target class and member. The target
+     * classes are only weakly referenced through a {@link ClassValue}, so their class loaders can be unloaded.
+     */
+    private static class ClassAccessDecisions extends ClassValue<ConcurrentMap<Member, ClassAccess>> {
+
+        private final boolean allowStaticMethodAccess;
+        private final Set<Class<?>> excludedClasses;
+        private final Set<Pattern> excludedPackageNamePatterns;
+        private final Set<String> excludedPackageNames;
+
+        ClassAccessDecisions(boolean allowStaticMethodAccess, Set<Class<?>> excludedClasses,
+                             Set<Pattern> excludedPackageNamePatterns, Set<String> excludedPackageNames) {
+            this.allowStaticMethodAccess = allowStaticMethodAccess;
+            this.excludedClasses = new HashSet<>(excludedClasses);
+            this.excludedPackageNamePatterns = new HashSet<>(excludedPackageNamePatterns);
+            this.excludedPackageNames = new HashSet<>(excludedPackageNames);
+        }
+
+        boolean matches(boolean allowStaticMethodAccess, Set<Class<?>> excludedClasses,
+                        Set<Pattern> excludedPackageNamePatterns, Set<String> excludedPackageNames) {
+            return this.allowStaticMethodAccess == allowStaticMethodAccess
+                    && this.excludedClasses.equals(excludedClasses)
+                    && this.excludedPackageNamePatterns.equals(excludedPackageNamePatterns)
+                    && this.excludedPackageNames.equals(excludedPackageNames);
+        }
+
+        @Override
+        protected ConcurrentMap<Member, ClassAccess> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    }
 }
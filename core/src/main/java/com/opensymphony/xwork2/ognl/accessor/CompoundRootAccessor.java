@@ -118,6 +118,10 @@ public class CompoundRootAccessor implements PropertyAccessor, MethodAccessor, C
         }
     }
 
+    /**
+     * Note: compiled expressions look up plain properties with the same semantics in
+     * {@link com.opensymphony.xwork2.ognl.PropertyChainAccessor}, keep both in sync.
+     */
     public Object getProperty(Map context, Object target, Object name) throws OgnlException {
         CompoundRoot root = (CompoundRoot) target;
         OgnlContext ognlContext = (OgnlContext) context;
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.util;
+
+import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * A concurrent cache with a fixed maximum size. Reads are lock free, least recently used entries are evicted
+ * using the CLOCK (second chance) algorithm: an entry read since the eviction pointer last passed it is kept,
+ * other entries are removed in insertion order.
+ * </p>
+ *
+ * <p>
+ * Null keys and values aren't supported, a cache created with a max size lower than 1 doesn't keep anything.
+ * </p>
+ *
+ * @param <K> type of keys
+ * @param <V> type of values
+ * @since 2.6
+ */
+public class BoundedCache<K, V> implements Serializable {
+
+    private static final long serialVersionUID = 4201851398416294622L;
+
+    private final int maxSize;
+    private final ConcurrentMap<K, Entry<V>> entries;
+    private final ConcurrentLinkedQueue<K> clock = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new ConcurrentHashMap<>(Math.max(16, Math.min(maxSize, 1024)));
+    }
+
+    /**
+     * @param key the key
+     * @return cached value or null if there is no value for the given key
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * Stores the value if there is no value for the given key yet
+     *
+     * @param key   the key
+     * @param value the value to cache
+     * @return value already cached for the key or the given value
+     */
+    public V putIfAbsent(K key, V value) {
+        if (maxSize < 1) {
+            return value;
+        }
+        Entry<V> existing = entries.putIfAbsent(key, new Entry<>(value));
+        if (existing != null) {
+            return existing.value;
+        }
+        clock.offer(key);
+        evict();
+        return value;
+    }
+
+    public V remove(K key) {
+        Entry<V> entry = entries.remove(key);
+        return entry != null ? entry.value : null;
+    }
+
+    public void clear() {
+        entries.clear();
+        clock.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return snapshot of the usage statistics
+     */
+    public CacheStats getStats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), maxSize);
+    }
+
+    private void evict() {
+        // each entry gets at most one second chance, the limit only guards against concurrent readers
+        int attempts = 2 * maxSize + 2;
+        while (entries.size() > maxSize && attempts-- > 0) {
+            K candidate = clock.poll();
+            if (candidate == null) {
+                return;
+            }
+            Entry<V> entry = entries.get(candidate);
+            if (entry == null) {
+                continue;
+            }
+            if (entry.referenced) {
+                entry.referenced = false;
+                clock.offer(candidate);
+            } else if (entries.remove(candidate, entry)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private static final class Entry<V> implements Serializable {
+
+        private static final long serialVersionUID = -2925479374547387154L;
+
+        private final V value;
+        private volatile boolean referenced;
+
+        Entry(V value) {
+            this.value = value;
+        }
+    }
+
+}
@@ -37,5 +37,15 @@ public interface ValueStackFactory {
      * @return  a new {@link com.opensymphony.xwork2.util.ValueStack}.
      */
     ValueStack createValueStack(ValueStack stack);
-    
+
+    /**
+     * Tells the factory that the given stack, created by this factory, won't be used anymore,
+     * so it can be recycled by a next call to one of the create methods.
+     *
+     * @param stack a stack created by this factory, not referenced anymore by the caller
+     * @since 2.6
+     */
+    default void releaseValueStack(ValueStack stack) {
+    }
+
 }
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.util.profiling;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A single node of a profiling tree, records how long a named block of code took
+ * and which nested blocks were executed in the meantime.
+ *
+ * @see UtilTimerStack
+ * @since 2.6
+ */
+public class ProfilingTimerBean implements Serializable {
+
+    private static final long serialVersionUID = -6180672043920208784L;
+
+    private final String name;
+    private final transient ProfilingTimerBean parent;
+    private final List<ProfilingTimerBean> children = new ArrayList<>(2);
+
+    private final long startTime;
+    private long totalTime = -1;
+
+    public ProfilingTimerBean(String name) {
+        this(name, null);
+    }
+
+    protected ProfilingTimerBean(String name, ProfilingTimerBean parent) {
+        this.name = name;
+        this.parent = parent;
+        this.startTime = System.nanoTime();
+    }
+
+    protected ProfilingTimerBean addChild(String name) {
+        ProfilingTimerBean child = new ProfilingTimerBean(name, this);
+        children.add(child);
+        return child;
+    }
+
+    protected void stop() {
+        if (totalTime < 0) {
+            totalTime = System.nanoTime() - startTime;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ProfilingTimerBean getParent() {
+        return parent;
+    }
+
+    public List<ProfilingTimerBean> getChildren() {
+        return Collections.unmodifiableList(children);
+    }
+
+    /**
+     * @return true if the timed block has already finished
+     */
+    public boolean isStopped() {
+        return totalTime >= 0;
+    }
+
+    /**
+     * @return time spent in the timed block in nanoseconds, or the time elapsed so far if the block is still running
+     */
+    public long getTotalTime() {
+        return isStopped() ? totalTime : System.nanoTime() - startTime;
+    }
+
+    /**
+     * Prints this node and all its children as an indented tree, one node per line.
+     *
+     * @param minTime nodes which took less milliseconds than this are omitted
+     * @return printable tree
+     */
+    public String getPrintable(long minTime) {
+        StringBuilder builder = new StringBuilder();
+        print(builder, "", minTime * 1_000_000L);
+        return builder.toString();
+    }
+
+    private void print(StringBuilder builder, String indent, long minTimeNanos) {
+        long time = getTotalTime();
+        if (time < minTimeNanos && parent != null) {
+            return;
+        }
+        builder.append(indent)
+                .append('[').append(time / 1_000_000L).append('.').append(String.format("%03d", (time / 1_000L) % 1_000L)).append("ms] - ")
+                .append(name)
+                .append('\n');
+        for (ProfilingTimerBean child : children) {
+            child.print(builder, indent + "  ", minTimeNanos);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getPrintable(0);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.util.profiling;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Records nested timings of the current thread as a tree of {@link ProfilingTimerBean}s.
+ *
+ * <p>
+ * Profiling is inactive until {@link #start(String)} is called on a thread, so instrumented code pays only
+ * for a thread local lookup in the common case. Instrumented blocks should look like:
+ * </p>
+ *
+ * <pre>
+ * String timerKey = "doSomething";
+ * try {
+ *     UtilTimerStack.push(timerKey);
+ *     doSomething();
+ * } finally {
+ *     UtilTimerStack.pop(timerKey);
+ * }
+ * </pre>
+ *
+ * <p>
+ * Names which have to be computed should be guarded with {@link #isActive()} to avoid building them
+ * when nobody is profiling.
+ * </p>
+ *
+ * @since 2.6
+ */
+public class UtilTimerStack {
+
+    private static final Logger LOG = LogManager.getLogger(UtilTimerStack.class);
+
+    private static final ThreadLocal<ProfilingTimerBean> current = new ThreadLocal<>();
+
+    /**
+     * Starts profiling of the current thread, the given name becomes the root of the tree.
+     *
+     * @param name name of the root node
+     * @return false if the current thread is already being profiled
+     */
+    public static boolean start(String name) {
+        if (current.get() != null) {
+            return false;
+        }
+        current.set(new ProfilingTimerBean(name));
+        return true;
+    }
+
+    /**
+     * Stops profiling of the current thread, any block still open is closed.
+     *
+     * @return the root of the recorded tree or null if the current thread wasn't profiled
+     */
+    public static ProfilingTimerBean stop() {
+        ProfilingTimerBean bean = current.get();
+        if (bean == null) {
+            return null;
+        }
+        current.remove();
+        while (true) {
+            bean.stop();
+            if (bean.getParent() == null) {
+                return bean;
+            }
+            bean = bean.getParent();
+        }
+    }
+
+    /**
+     * @return true if the current thread is being profiled
+     */
+    public static boolean isActive() {
+        return current.get() != null;
+    }
+
+    /**
+     * Opens a nested block, does nothing if the current thread isn't profiled.
+     *
+     * @param name name of the block
+     */
+    public static void push(String name) {
+        ProfilingTimerBean bean = current.get();
+        if (bean != null) {
+            current.set(bean.addChild(name));
+        }
+    }
+
+    /**
+     * Closes the most recent block opened with the given name and any block nested in it,
+     * does nothing if the current thread isn't profiled.
+     *
+     * @param name name of the block
+     */
+    public static void pop(String name) {
+        ProfilingTimerBean bean = current.get();
+        if (bean == null) {
+            return;
+        }
+        ProfilingTimerBean matching = bean;
+        while (matching.getParent() != null && !matching.getName().equals(name)) {
+            matching = matching.getParent();
+        }
+        if (matching.getParent() == null) {
+            LOG.warn("Unmatched timer [{}], current timer is [{}]", name, bean.getName());
+            return;
+        }
+        while (bean != matching) {
+            bean.stop();
+            bean = bean.getParent();
+        }
+        matching.stop();
+        current.set(matching.getParent());
+    }
+
+    /**
+     * Profiles the given block, it is executed as is if the current thread isn't profiled.
+     *
+     * @param name  name of the block
+     * @param block the block to execute
+     * @param <T>   result type
+     * @return the block's result
+     * @throws Exception thrown by the block
+     */
+    public static <T> T profile(String name, ProfilingBlock<T> block) throws Exception {
+        push(name);
+        try {
+            return block.doProfiling();
+        } finally {
+            pop(name);
+        }
+    }
+
+    /**
+     * A block of code which can be profiled with {@link UtilTimerStack#profile(String, ProfilingBlock)}.
+     */
+    public interface ProfilingBlock<T> {
+
+        T doProfiling() throws Exception;
+    }
+}
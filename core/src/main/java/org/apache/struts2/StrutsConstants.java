@@ -234,6 +234,9 @@ public final class StrutsConstants {
     /** The {@link com.opensymphony.xwork2.util.ValueStackFactory} implementation class */
     public static final String STRUTS_VALUESTACKFACTORY = "struts.valueStackFactory";
 
+    /** Maximum number of released value stacks kept by each thread to be recycled, 0 disables recycling */
+    public static final String STRUTS_VALUE_STACK_POOL_SIZE = "struts.valueStack.poolSize";
+
     /** The {@link com.opensymphony.xwork2.util.reflection.ReflectionProvider} implementation class */
     public static final String STRUTS_REFLECTIONPROVIDER = "struts.reflectionProvider";
 
@@ -243,12 +246,18 @@ public final class StrutsConstants {
     /** The {@link com.opensymphony.xwork2.util.PatternMatcher} implementation class */
     public static final String STRUTS_PATTERNMATCHER = "struts.patternMatcher";
 
+    /** Whether wildcard patterns matched by the default pattern matcher are first selected through an index of their literals */
+    public static final String STRUTS_MATCHER_COMPILED_WILDCARDS = "struts.matcher.compiledWildcards";
+
     /** The {@link org.apache.struts2.dispatcher.StaticContentLoader} implementation class */
     public static final String STRUTS_STATIC_CONTENT_LOADER = "struts.staticContentLoader";
 
     /** The {@link com.opensymphony.xwork2.UnknownHandlerManager} implementation class */
     public static final String STRUTS_UNKNOWN_HANDLER_MANAGER = "struts.unknownHandlerManager";
 
+    /** The {@link com.opensymphony.xwork2.ActionMethodInvoker} implementation class */
+    public static final String STRUTS_ACTION_METHOD_INVOKER = "struts.actionMethodInvoker";
+
     /** Throw RuntimeException when a property is not found, or the evaluation of the expression fails */
     public static final String STRUTS_EL_THROW_EXCEPTION = "struts.el.throwExceptionOnFailure";
 
@@ -258,6 +267,12 @@ public final class StrutsConstants {
     /** Enables caching of parsed OGNL expressions */
     public static final String STRUTS_ENABLE_OGNL_EXPRESSION_CACHE = "struts.ognl.enableExpressionCache";
 
+    /** Maximum number of parsed OGNL expressions kept in each of the expression caches */
+    public static final String STRUTS_OGNL_EXPRESSION_CACHE_MAX_SIZE = "struts.ognl.expressionCacheMaxSize";
+
+    /** Number of evaluations after which a cached OGNL property expression is compiled, 0 disables compilation */
+    public static final String STRUTS_OGNL_EXPRESSION_COMPILE_THRESHOLD = "struts.ognl.expressionCompileThreshold";
+
     /** Enables evaluation of OGNL expressions */
     public static final String STRUTS_ENABLE_OGNL_EVAL_EXPRESSION = "struts.ognl.enableOGNLEvalExpression";
 
@@ -341,4 +356,37 @@ public final class StrutsConstants {
     public static final String STRUTS_DISALLOW_PROXY_MEMBER_ACCESS = "struts.disallowProxyMemberAccess";
 
     public static final String STRUTS_OGNL_AUTO_GROWTH_COLLECTION_LIMIT = "struts.ognl.autoGrowthCollectionLimit";
+
+    /** Maximum number of action configs resolved by wildcards kept by the runtime configuration, 0 disables the cache */
+    public static final String STRUTS_ACTION_CONFIG_CACHE_MAX_SIZE = "struts.actionConfig.cacheMaxSize";
+
+    /** Fraction (0.0 - 1.0) of requests which are profiled with {@link com.opensymphony.xwork2.util.profiling.UtilTimerStack} */
+    public static final String STRUTS_PROFILING_SAMPLE_RATE = "struts.profiling.sampleRate";
+
+    /** Profiled blocks which took less milliseconds than this are omitted when a profile is logged */
+    public static final String STRUTS_PROFILING_MIN_TIME = "struts.profiling.minTime";
+
+    /** The {@link org.apache.struts2.metrics.StrutsMetrics} implementation class */
+    public static final String STRUTS_METRICS = "struts.metrics";
+
+    /** Whether the {@link org.apache.struts2.metrics.StrutsMetrics} are registered with the platform MBean server */
+    public static final String STRUTS_METRICS_JMX = "struts.metrics.jmx";
+
+    /** Maximum number of actions and namespaces tracked separately by the default metrics */
+    public static final String STRUTS_METRICS_MAX_ACTIONS = "struts.metrics.maxActions";
+
+    /** Maximum number of background processes of the execAndWait interceptor running at the same time */
+    public static final String STRUTS_EXECUTE_AND_WAIT_MAX_THREADS = "struts.executeAndWait.maxThreads";
+
+    /** Number of background processes which can wait for a free thread, further processes are rejected */
+    public static final String STRUTS_EXECUTE_AND_WAIT_QUEUE_SIZE = "struts.executeAndWait.queueSize";
+
+    /** The {@link org.apache.struts2.result.ResponseContentWriter} used by results to write the response body */
+    public static final String STRUTS_RESULT_CONTENT_WRITER = "struts.result.contentWriter";
+
+    /** Maximum number of static resources kept in memory by the default static content loader, 0 disables the cache */
+    public static final String STRUTS_SERVE_STATIC_CACHE_MAX_SIZE = "struts.serve.static.cacheMaxSize";
+
+    /** Static resources larger than this number of bytes are streamed from the class path on every request */
+    public static final String STRUTS_SERVE_STATIC_CACHE_MAX_RESOURCE_SIZE = "struts.serve.static.cacheMaxResourceSize";
 }
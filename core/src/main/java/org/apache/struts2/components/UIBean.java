@@ -21,6 +21,7 @@ package org.apache.struts2.components;
 import com.opensymphony.xwork2.config.ConfigurationException;
 import com.opensymphony.xwork2.inject.Inject;
 import com.opensymphony.xwork2.util.ValueStack;
+import com.opensymphony.xwork2.util.profiling.UtilTimerStack;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -577,7 +578,17 @@ public abstract class UIBean extends Component {
         LOG.debug("Rendering template {}", template);
 
         final TemplateRenderingContext context = new TemplateRenderingContext(template, writer, getStack(), getParameters(), this);
-        engine.renderTemplate(context);
+        if (UtilTimerStack.isActive()) {
+            String timerKey = "template: " + template;
+            try {
+                UtilTimerStack.push(timerKey);
+                engine.renderTemplate(context);
+            } finally {
+                UtilTimerStack.pop(timerKey);
+            }
+        } else {
+            engine.renderTemplate(context);
+        }
     }
 
     public String getTemplateDir() {
@@ -18,6 +18,7 @@
  */
 package org.apache.struts2.config;
 
+import com.opensymphony.xwork2.ActionMethodInvoker;
 import com.opensymphony.xwork2.ActionProxyFactory;
 import com.opensymphony.xwork2.LocaleProviderFactory;
 import com.opensymphony.xwork2.LocalizedTextProvider;
@@ -62,6 +63,8 @@ import org.apache.struts2.StrutsConstants;
 import org.apache.struts2.components.UrlRenderer;
 import org.apache.struts2.dispatcher.DispatcherErrorHandler;
 import org.apache.struts2.dispatcher.StaticContentLoader;
+import org.apache.struts2.metrics.StrutsMetrics;
+import org.apache.struts2.result.ResponseContentWriter;
 import org.apache.struts2.dispatcher.mapper.ActionMapper;
 import org.apache.struts2.dispatcher.multipart.MultiPartRequest;
 import org.apache.struts2.util.ContentTypeMatcher;
@@ -237,6 +240,24 @@ import org.apache.struts2.views.util.UrlHelper;
  *     <td>Implementation of this interface allows handle logic of unknown Actions, Methods or Results</td>
  *   </tr>
  *   <tr>
+ *     <td>com.opensymphony.xwork2.ActionMethodInvoker</td>
+ *     <td>struts.actionMethodInvoker</td>
+ *     <td>singleton</td>
+ *     <td>Executes action methods, use "ognl" to call them through OGNL expressions as before 2.6 (since 2.6)</td>
+ *   </tr>
+ *   <tr>
+ *     <td>org.apache.struts2.metrics.StrutsMetrics</td>
+ *     <td>struts.metrics</td>
+ *     <td>singleton</td>
+ *     <td>Records request counts, latencies, result codes and exceptions per action, use "none" to disable (since 2.6)</td>
+ *   </tr>
+ *   <tr>
+ *     <td>org.apache.struts2.result.ResponseContentWriter</td>
+ *     <td>struts.result.contentWriter</td>
+ *     <td>singleton</td>
+ *     <td>Writes the response body of stream, plain text, JSON and REST results, not set by default (since 2.6)</td>
+ *   </tr>
+ *   <tr>
  *     <td>org.apache.struts2.views.util.UrlHelper</td>
  *     <td>struts.view.urlHelper</td>
  *     <td>singleton</td>
@@ -410,6 +431,9 @@ public class StrutsBeanSelectionProvider extends AbstractBeanSelectionProvider {
         alias(ContentTypeMatcher.class, StrutsConstants.STRUTS_CONTENT_TYPE_MATCHER, builder, props);
         alias(StaticContentLoader.class, StrutsConstants.STRUTS_STATIC_CONTENT_LOADER, builder, props);
         alias(UnknownHandlerManager.class, StrutsConstants.STRUTS_UNKNOWN_HANDLER_MANAGER, builder, props);
+        alias(ActionMethodInvoker.class, StrutsConstants.STRUTS_ACTION_METHOD_INVOKER, builder, props);
+        alias(StrutsMetrics.class, StrutsConstants.STRUTS_METRICS, builder, props);
+        alias(ResponseContentWriter.class, StrutsConstants.STRUTS_RESULT_CONTENT_WRITER, builder, props);
         alias(UrlHelper.class, StrutsConstants.STRUTS_URL_HELPER, builder, props);
 
         alias(TextParser.class, StrutsConstants.STRUTS_EXPRESSION_PARSER, builder, props);
@@ -95,14 +95,19 @@ public class ConstantConfig {
     private Boolean ognlAllowStaticMethodAccess;
     private BeanConfig actionValidatorManager;
     private BeanConfig valueStackFactory;
+    private Integer valueStackPoolSize;
     private BeanConfig reflectionProvider;
     private BeanConfig reflectionContextFactory;
     private BeanConfig patternMatcher;
+    private Boolean matcherCompiledWildcards;
     private BeanConfig staticContentLoader;
     private BeanConfig unknownHandlerManager;
+    private BeanConfig actionMethodInvoker;
     private Boolean elThrowExceptionOnFailure;
     private Boolean ognlLogMissingProperties;
     private Boolean ognlEnableExpressionCache;
+    private Integer ognlExpressionCacheMaxSize;
+    private Integer ognlExpressionCompileThreshold;
     private Boolean ognlEnableOGNLEvalExpression;
     private Boolean disableRequestAttributeValueStackLookup;
     private BeanConfig viewUrlHelper;
@@ -141,6 +146,17 @@ public class ConstantConfig {
     private BeanConfig localizedTextProvider;
     private Boolean disallowProxyMemberAccess;
     private Integer ognlAutoGrowthCollectionLimit;
+    private Integer actionConfigCacheMaxSize;
+    private Double profilingSampleRate;
+    private Long profilingMinTime;
+    private BeanConfig metrics;
+    private Boolean metricsJmx;
+    private Integer metricsMaxActions;
+    private Integer executeAndWaitMaxThreads;
+    private Integer executeAndWaitQueueSize;
+    private BeanConfig resultContentWriter;
+    private Integer serveStaticCacheMaxSize;
+    private Integer serveStaticCacheMaxResourceSize;
 
     protected String beanConfToString(BeanConfig beanConf) {
         return beanConf == null ? null : beanConf.getName();
@@ -223,14 +239,19 @@ public class ConstantConfig {
         map.put(StrutsConstants.STRUTS_ALLOW_STATIC_METHOD_ACCESS, Objects.toString(ognlAllowStaticMethodAccess, null));
         map.put(StrutsConstants.STRUTS_ACTIONVALIDATORMANAGER, beanConfToString(actionValidatorManager));
         map.put(StrutsConstants.STRUTS_VALUESTACKFACTORY, beanConfToString(valueStackFactory));
+        map.put(StrutsConstants.STRUTS_VALUE_STACK_POOL_SIZE, Objects.toString(valueStackPoolSize, null));
         map.put(StrutsConstants.STRUTS_REFLECTIONPROVIDER, beanConfToString(reflectionProvider));
         map.put(StrutsConstants.STRUTS_REFLECTIONCONTEXTFACTORY, beanConfToString(reflectionContextFactory));
         map.put(StrutsConstants.STRUTS_PATTERNMATCHER, beanConfToString(patternMatcher));
+        map.put(StrutsConstants.STRUTS_MATCHER_COMPILED_WILDCARDS, Objects.toString(matcherCompiledWildcards, null));
         map.put(StrutsConstants.STRUTS_STATIC_CONTENT_LOADER, beanConfToString(staticContentLoader));
         map.put(StrutsConstants.STRUTS_UNKNOWN_HANDLER_MANAGER, beanConfToString(unknownHandlerManager));
+        map.put(StrutsConstants.STRUTS_ACTION_METHOD_INVOKER, beanConfToString(actionMethodInvoker));
         map.put(StrutsConstants.STRUTS_EL_THROW_EXCEPTION, Objects.toString(elThrowExceptionOnFailure, null));
         map.put(StrutsConstants.STRUTS_LOG_MISSING_PROPERTIES, Objects.toString(ognlLogMissingProperties, null));
         map.put(StrutsConstants.STRUTS_ENABLE_OGNL_EXPRESSION_CACHE, Objects.toString(ognlEnableExpressionCache, null));
+        map.put(StrutsConstants.STRUTS_OGNL_EXPRESSION_CACHE_MAX_SIZE, Objects.toString(ognlExpressionCacheMaxSize, null));
+        map.put(StrutsConstants.STRUTS_OGNL_EXPRESSION_COMPILE_THRESHOLD, Objects.toString(ognlExpressionCompileThreshold, null));
         map.put(StrutsConstants.STRUTS_ENABLE_OGNL_EVAL_EXPRESSION, Objects.toString(ognlEnableOGNLEvalExpression, null));
         map.put(StrutsConstants.STRUTS_DISABLE_REQUEST_ATTRIBUTE_VALUE_STACK_LOOKUP, Objects.toString(disableRequestAttributeValueStackLookup, null));
         map.put(StrutsConstants.STRUTS_URL_HELPER, beanConfToString(viewUrlHelper));
@@ -269,6 +290,17 @@ public class ConstantConfig {
         map.put(StrutsConstants.STRUTS_LOCALIZED_TEXT_PROVIDER, beanConfToString(localizedTextProvider));
         map.put(StrutsConstants.STRUTS_DISALLOW_PROXY_MEMBER_ACCESS, Objects.toString(disallowProxyMemberAccess, null));
         map.put(StrutsConstants.STRUTS_OGNL_AUTO_GROWTH_COLLECTION_LIMIT, Objects.toString(ognlAutoGrowthCollectionLimit, null));
+        map.put(StrutsConstants.STRUTS_ACTION_CONFIG_CACHE_MAX_SIZE, Objects.toString(actionConfigCacheMaxSize, null));
+        map.put(StrutsConstants.STRUTS_PROFILING_SAMPLE_RATE, Objects.toString(profilingSampleRate, null));
+        map.put(StrutsConstants.STRUTS_PROFILING_MIN_TIME, Objects.toString(profilingMinTime, null));
+        map.put(StrutsConstants.STRUTS_METRICS, beanConfToString(metrics));
+        map.put(StrutsConstants.STRUTS_METRICS_JMX, Objects.toString(metricsJmx, null));
+        map.put(StrutsConstants.STRUTS_METRICS_MAX_ACTIONS, Objects.toString(metricsMaxActions, null));
+        map.put(StrutsConstants.STRUTS_EXECUTE_AND_WAIT_MAX_THREADS, Objects.toString(executeAndWaitMaxThreads, null));
+        map.put(StrutsConstants.STRUTS_EXECUTE_AND_WAIT_QUEUE_SIZE, Objects.toString(executeAndWaitQueueSize, null));
+        map.put(StrutsConstants.STRUTS_RESULT_CONTENT_WRITER, beanConfToString(resultContentWriter));
+        map.put(StrutsConstants.STRUTS_SERVE_STATIC_CACHE_MAX_SIZE, Objects.toString(serveStaticCacheMaxSize, null));
+        map.put(StrutsConstants.STRUTS_SERVE_STATIC_CACHE_MAX_RESOURCE_SIZE, Objects.toString(serveStaticCacheMaxResourceSize, null));
 
         return map;
     }
@@ -865,6 +897,14 @@ public class ConstantConfig {
         this.valueStackFactory = new BeanConfig(clazz, clazz.getName());
     }
 
+    public Integer getValueStackPoolSize() {
+        return valueStackPoolSize;
+    }
+
+    public void setValueStackPoolSize(Integer valueStackPoolSize) {
+        this.valueStackPoolSize = valueStackPoolSize;
+    }
+
     public BeanConfig getReflectionProvider() {
         return reflectionProvider;
     }
@@ -901,6 +941,14 @@ public class ConstantConfig {
         this.patternMatcher = new BeanConfig(clazz, clazz.getName());
     }
 
+    public Boolean getMatcherCompiledWildcards() {
+        return matcherCompiledWildcards;
+    }
+
+    public void setMatcherCompiledWildcards(Boolean matcherCompiledWildcards) {
+        this.matcherCompiledWildcards = matcherCompiledWildcards;
+    }
+
     public BeanConfig getStaticContentLoader() {
         return staticContentLoader;
     }
@@ -925,6 +973,18 @@ public class ConstantConfig {
         this.unknownHandlerManager = new BeanConfig(clazz, clazz.getName());
     }
 
+    public BeanConfig getActionMethodInvoker() {
+        return actionMethodInvoker;
+    }
+
+    public void setActionMethodInvoker(BeanConfig actionMethodInvoker) {
+        this.actionMethodInvoker = actionMethodInvoker;
+    }
+
+    public void setActionMethodInvoker(Class<?> clazz) {
+        this.actionMethodInvoker = new BeanConfig(clazz, clazz.getName());
+    }
+
     public Boolean getElThrowExceptionOnFailure() {
         return elThrowExceptionOnFailure;
     }
@@ -949,6 +1009,22 @@ public class ConstantConfig {
         this.ognlEnableExpressionCache = ognlEnableExpressionCache;
     }
 
+    public Integer getOgnlExpressionCacheMaxSize() {
+        return ognlExpressionCacheMaxSize;
+    }
+
+    public void setOgnlExpressionCacheMaxSize(Integer ognlExpressionCacheMaxSize) {
+        this.ognlExpressionCacheMaxSize = ognlExpressionCacheMaxSize;
+    }
+
+    public Integer getOgnlExpressionCompileThreshold() {
+        return ognlExpressionCompileThreshold;
+    }
+
+    public void setOgnlExpressionCompileThreshold(Integer ognlExpressionCompileThreshold) {
+        this.ognlExpressionCompileThreshold = ognlExpressionCompileThreshold;
+    }
+
     public Boolean getOgnlEnableOGNLEvalExpression() {
         return ognlEnableOGNLEvalExpression;
     }
@@ -1324,4 +1400,100 @@ public class ConstantConfig {
     public void setOgnlAutoGrowthCollectionLimit(Integer ognlAutoGrowthCollectionLimit) {
         this.ognlAutoGrowthCollectionLimit = ognlAutoGrowthCollectionLimit;
     }
+
+    public Integer getActionConfigCacheMaxSize() {
+        return actionConfigCacheMaxSize;
+    }
+
+    public void setActionConfigCacheMaxSize(Integer actionConfigCacheMaxSize) {
+        this.actionConfigCacheMaxSize = actionConfigCacheMaxSize;
+    }
+
+    public Double getProfilingSampleRate() {
+        return profilingSampleRate;
+    }
+
+    public void setProfilingSampleRate(Double profilingSampleRate) {
+        this.profilingSampleRate = profilingSampleRate;
+    }
+
+    public Long getProfilingMinTime() {
+        return profilingMinTime;
+    }
+
+    public void setProfilingMinTime(Long profilingMinTime) {
+        this.profilingMinTime = profilingMinTime;
+    }
+
+    public BeanConfig getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(BeanConfig metrics) {
+        this.metrics = metrics;
+    }
+
+    public void setMetrics(Class<?> clazz) {
+        this.metrics = new BeanConfig(clazz, clazz.getName());
+    }
+
+    public Boolean getMetricsJmx() {
+        return metricsJmx;
+    }
+
+    public void setMetricsJmx(Boolean metricsJmx) {
+        this.metricsJmx = metricsJmx;
+    }
+
+    public Integer getMetricsMaxActions() {
+        return metricsMaxActions;
+    }
+
+    public void setMetricsMaxActions(Integer metricsMaxActions) {
+        this.metricsMaxActions = metricsMaxActions;
+    }
+
+    public Integer getExecuteAndWaitMaxThreads() {
+        return executeAndWaitMaxThreads;
+    }
+
+    public void setExecuteAndWaitMaxThreads(Integer executeAndWaitMaxThreads) {
+        this.executeAndWaitMaxThreads = executeAndWaitMaxThreads;
+    }
+
+    public Integer getExecuteAndWaitQueueSize() {
+        return executeAndWaitQueueSize;
+    }
+
+    public void setExecuteAndWaitQueueSize(Integer executeAndWaitQueueSize) {
+        this.executeAndWaitQueueSize = executeAndWaitQueueSize;
+    }
+
+    public BeanConfig getResultContentWriter() {
+        return resultContentWriter;
+    }
+
+    public void setResultContentWriter(BeanConfig resultContentWriter) {
+        this.resultContentWriter = resultContentWriter;
+    }
+
+    public void setResultContentWriter(Class<?> clazz) {
+        this.resultContentWriter = new BeanConfig(clazz, clazz.getName());
+    }
+
+    public Integer getServeStaticCacheMaxSize() {
+        return serveStaticCacheMaxSize;
+    }
+
+    public void setServeStaticCacheMaxSize(Integer serveStaticCacheMaxSize) {
+        this.serveStaticCacheMaxSize = serveStaticCacheMaxSize;
+    }
+
+    public Integer getServeStaticCacheMaxResourceSize() {
+        return serveStaticCacheMaxResourceSize;
+    }
+
+    public void setServeStaticCacheMaxResourceSize(Integer serveStaticCacheMaxResourceSize) {
+        this.serveStaticCacheMaxResourceSize = serveStaticCacheMaxResourceSize;
+    }
 }
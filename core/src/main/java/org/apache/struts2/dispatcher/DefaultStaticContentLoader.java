@@ -19,22 +19,29 @@
 package org.apache.struts2.dispatcher;
 
 import com.opensymphony.xwork2.inject.Inject;
+import com.opensymphony.xwork2.util.BoundedCache;
+import com.opensymphony.xwork2.util.CacheStats;
 import com.opensymphony.xwork2.util.ClassLoaderUtil;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.struts2.StrutsConstants;
+import org.apache.struts2.util.ConditionalRequestHelper;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URL;
+import java.net.URLConnection;
 import java.net.URLDecoder;
 import java.util.*;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * <p>
@@ -62,6 +69,13 @@ import java.util.*;
  * careful</b>, however, to expose any packages that may have sensitive information, such as properties file with
  * database access credentials.
  * </p>
+ *
+ * <p>
+ * Resolved resources are kept in memory, together with a gzipped variant, an ETag and their content type, up to
+ * {@link StrutsConstants#STRUTS_SERVE_STATIC_CACHE_MAX_SIZE} resources which aren't larger than
+ * {@link StrutsConstants#STRUTS_SERVE_STATIC_CACHE_MAX_RESOURCE_SIZE} bytes. Up to 64 paths which weren't found
+ * are remembered in a separate cache. The resources are looked up on every request in devMode or when the cache is disabled.
+ * </p>
  */
 public class DefaultStaticContentLoader implements StaticContentLoader {
 
@@ -70,6 +84,8 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
      */
     private Logger LOG = LogManager.getLogger(DefaultStaticContentLoader.class);
 
+    private static final int MISSING_RESOURCES_MAX_SIZE = 64;
+
     /**
      * Store set of path prefixes to use with static resources.
      */
@@ -97,6 +113,21 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
 
     protected boolean devMode;
 
+    /**
+     * Resolved resources by their name.
+     */
+    protected BoundedCache<String, StaticResource> resources = new BoundedCache<>(256);
+
+    /**
+     * Names which weren't found, kept apart so that requests for random paths can't evict the resources.
+     */
+    protected BoundedCache<String, Boolean> missingResources = new BoundedCache<>(MISSING_RESOURCES_MAX_SIZE);
+
+    /**
+     * Store state of StrutsConstants.STRUTS_SERVE_STATIC_CACHE_MAX_RESOURCE_SIZE setting.
+     */
+    protected int cacheMaxResourceSize = 131072;
+
     /**
      * Modify state of StrutsConstants.STRUTS_SERVE_STATIC_CONTENT setting.
      *
@@ -134,6 +165,25 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
         this.devMode = Boolean.parseBoolean(devMode);
     }
 
+    @Inject(StrutsConstants.STRUTS_SERVE_STATIC_CACHE_MAX_SIZE)
+    public void setCacheMaxSize(String cacheMaxSize) {
+        this.resources = new BoundedCache<>(Integer.parseInt(cacheMaxSize));
+        this.missingResources = new BoundedCache<>(Math.min(resources.getMaxSize(), MISSING_RESOURCES_MAX_SIZE));
+    }
+
+    @Inject(StrutsConstants.STRUTS_SERVE_STATIC_CACHE_MAX_RESOURCE_SIZE)
+    public void setCacheMaxResourceSize(String cacheMaxResourceSize) {
+        this.cacheMaxResourceSize = Integer.parseInt(cacheMaxResourceSize);
+    }
+
+    /**
+     * @return usage statistics of the resource cache
+     * @since 2.6
+     */
+    public CacheStats getCacheStats() {
+        return resources.getStats();
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -196,21 +246,37 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
     public void findStaticResource(String path, HttpServletRequest request, HttpServletResponse response)
             throws IOException {
         String name = cleanupPath(path);
-        for (String pathPrefix : pathPrefixes) {
-            URL resourceUrl = findResource(buildPath(name, pathPrefix));
-            if (resourceUrl != null) {
+        if (devMode || resources.getMaxSize() < 1) {
+            InputStream is = openResource(name);
+            if (is != null) {
+                process(is, path, request, response);
+                return;
+            }
+        } else {
+            StaticResource resource = resources.get(name);
+            if (resource == null) {
+                if (missingResources.get(name) != null) {
+                    resource = MISSING;
+                } else {
+                    resource = loadResource(name, path);
+                    if (resource == MISSING) {
+                        missingResources.putIfAbsent(name, Boolean.TRUE);
+                    } else {
+                        resource = resources.putIfAbsent(name, resource);
+                    }
+                }
+            }
+            if (resource.getContent() != null) {
+                process(resource, request, response);
+                return;
+            }
+            if (resource.getUrl() != null) {
                 InputStream is = null;
                 try {
-                    //check that the resource path is under the pathPrefix path
-                    String pathEnding = buildPath(name, pathPrefix);
-                    if (resourceUrl.getFile().endsWith(pathEnding))
-                        is = resourceUrl.openStream();
+                    is = resource.getUrl().openStream();
                 } catch (IOException ex) {
-                    // just ignore it
-                    continue;
+                    LOG.debug("Unable to open static resource {}", resource.getUrl(), ex);
                 }
-
-                //not inside the try block, as this could throw IOExceptions also
                 if (is != null) {
                     process(is, path, request, response);
                     return;
@@ -229,23 +295,198 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
         }
     }
 
+    /**
+     * Looks for the resource under the path prefixes.
+     *
+     * @param name resource name
+     * @return stream of the first resource found or null if there is none
+     * @throws IOException If there is a problem locating the resource
+     */
+    protected InputStream openResource(String name) throws IOException {
+        for (String pathPrefix : pathPrefixes) {
+            URL resourceUrl = findResource(buildPath(name, pathPrefix));
+            if (resourceUrl != null) {
+                InputStream is = null;
+                try {
+                    //check that the resource path is under the pathPrefix path
+                    String pathEnding = buildPath(name, pathPrefix);
+                    if (resourceUrl.getFile().endsWith(pathEnding))
+                        is = resourceUrl.openStream();
+                } catch (IOException ex) {
+                    // just ignore it
+                    continue;
+                }
+
+                if (is != null) {
+                    return is;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Looks for the resource under the path prefixes and reads it into memory if it isn't larger than
+     * {@link #cacheMaxResourceSize}.
+     *
+     * @param name resource name
+     * @param path requested path
+     * @return the resource, {@link #MISSING} if it wasn't found
+     * @throws IOException If there is a problem locating or reading the resource
+     */
+    protected StaticResource loadResource(String name, String path) throws IOException {
+        for (String pathPrefix : pathPrefixes) {
+            String resourcePath = buildPath(name, pathPrefix);
+            URL resourceUrl = findResource(resourcePath);
+            //check that the resource path is under the pathPrefix path
+            if (resourceUrl == null || !resourceUrl.getFile().endsWith(resourcePath)) {
+                continue;
+            }
+
+            URLConnection connection;
+            InputStream is;
+            try {
+                connection = resourceUrl.openConnection();
+                is = connection.getInputStream();
+            } catch (IOException ex) {
+                // just ignore it
+                continue;
+            }
+
+            long lastModified = connection.getLastModified();
+            if (lastModified <= 0) {
+                lastModified = lastModifiedCal.getTimeInMillis();
+            }
+            try (InputStream in = is) {
+                byte[] content = readContent(in, cacheMaxResourceSize);
+                if (content == null) {
+                    LOG.debug("Static resource {} is larger than {} bytes and won't be cached", resourceUrl, cacheMaxResourceSize);
+                }
+                return new StaticResource(resourceUrl, content, getContentType(path), lastModified);
+            }
+        }
+        return MISSING;
+    }
+
+    /**
+     * @param input the input stream
+     * @param maxSize maximum number of bytes to read
+     * @return the content or null if there are more than maxSize bytes
+     * @throws IOException If anything goes wrong
+     */
+    protected byte[] readContent(InputStream input, int maxSize) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(4096);
+        final byte[] buffer = new byte[4096];
+        int n;
+        while (-1 != (n = input.read(buffer))) {
+            if (output.size() + n > maxSize) {
+                return null;
+            }
+            output.write(buffer, 0, n);
+        }
+        return output.toByteArray();
+    }
+
+    protected void process(StaticResource resource, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Calendar cal = Calendar.getInstance();
+        long now = cal.getTimeInMillis();
+        cal.add(Calendar.DAY_OF_MONTH, 1);
+        long expires = cal.getTimeInMillis();
+
+        byte[] content = resource.getContent();
+        String eTag = resource.getETag();
+        if (resource.getGzipContent() != null) {
+            response.setHeader("Vary", "Accept-Encoding");
+            if (acceptsGzip(request)) {
+                content = resource.getGzipContent();
+                eTag = resource.getGzipETag();
+                response.setHeader("Content-Encoding", "gzip");
+            }
+        }
+
+        if (isNotModified(request, eTag, resource.getLastModified())) {
+            // not modified, content is not sent - only basic
+            // headers and status SC_NOT_MODIFIED
+            response.setDateHeader("Expires", expires);
+            response.setHeader("ETag", eTag);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        if (resource.getContentType() != null) {
+            response.setContentType(resource.getContentType());
+        }
+
+        if (serveStaticBrowserCache) {
+            // set heading information for caching static content
+            response.setDateHeader("Date", now);
+            response.setDateHeader("Expires", expires);
+            response.setDateHeader("Retry-After", expires);
+            response.setHeader("Cache-Control", "public");
+            response.setDateHeader("Last-Modified", resource.getLastModified());
+            response.setHeader("ETag", eTag);
+        } else {
+            response.setHeader("Cache-Control", "no-cache");
+            response.setHeader("Pragma", "no-cache");
+            response.setHeader("Expires", "-1");
+        }
+
+        response.setContentLength(content.length);
+        OutputStream output = response.getOutputStream();
+        output.write(content);
+        output.flush();
+    }
+
+    /**
+     * @param request the current request
+     * @param eTag the entity tag of the variant being sent
+     * @param lastModified last modification time of the resource
+     * @return true if the client's copy matches the If-None-Match or If-Modified-Since header
+     */
+    protected boolean isNotModified(HttpServletRequest request, String eTag, long lastModified) {
+        return ConditionalRequestHelper.isNotModified(request, eTag, lastModified);
+    }
+
+    /**
+     * @param request the current request
+     * @return true if the Accept-Encoding header allows gzip
+     */
+    protected boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader("Accept-Encoding");
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] params = coding.split(";");
+            String codingName = params[0].trim();
+            if ("gzip".equalsIgnoreCase(codingName) || "x-gzip".equalsIgnoreCase(codingName) || "*".equals(codingName)) {
+                for (int i = 1; i < params.length; i++) {
+                    String param = params[i].trim();
+                    if (param.startsWith("q=")) {
+                        try {
+                            return Double.parseDouble(param.substring(2)) > 0;
+                        } catch (NumberFormatException e) {
+                            return false;
+                        }
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
     protected void process(InputStream is, String path, HttpServletRequest request, HttpServletResponse response) throws IOException {
         if (is != null) {
             Calendar cal = Calendar.getInstance();
 
-            // check for if-modified-since, prior to any other headers
-            long ifModifiedSince = 0;
-            try {
-                ifModifiedSince = request.getDateHeader("If-Modified-Since");
-            } catch (Exception e) {
-                LOG.warn("Invalid If-Modified-Since header value: '{}', ignoring", request.getHeader("If-Modified-Since"));
-            }
             long lastModifiedMillis = lastModifiedCal.getTimeInMillis();
             long now = cal.getTimeInMillis();
             cal.add(Calendar.DAY_OF_MONTH, 1);
             long expires = cal.getTimeInMillis();
 
-            if (ifModifiedSince > 0 && ifModifiedSince <= lastModifiedMillis) {
+            // check for if-modified-since, prior to any other headers
+            if (isNotModified(request, null, lastModifiedMillis)) {
                 // not modified, content is not sent - only basic
                 // headers and status SC_NOT_MODIFIED
                 response.setDateHeader("Expires", expires);
@@ -370,4 +611,89 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
         //path will start with "/struts" or "/static", remove them
         return path.substring(7);
     }
+
+    /**
+     * Marks resource names which weren't found under any of the path prefixes
+     */
+    protected static final StaticResource MISSING = new StaticResource(null, null, null, -1);
+
+    /**
+     * A resolved static resource, its content is null when the resource is too large to be kept in memory.
+     */
+    protected static class StaticResource {
+
+        private final URL url;
+        private final byte[] content;
+        private final byte[] gzipContent;
+        private final String eTag;
+        private final String contentType;
+        private final long lastModified;
+
+        public StaticResource(URL url, byte[] content, String contentType, long lastModified) {
+            this.url = url;
+            this.content = content;
+            this.contentType = contentType;
+            this.lastModified = lastModified;
+            if (content != null) {
+                CRC32 crc = new CRC32();
+                crc.update(content, 0, content.length);
+                this.eTag = "\"" + Integer.toHexString(content.length) + "-" + Long.toHexString(crc.getValue()) + "\"";
+                this.gzipContent = isCompressible(contentType) ? gzip(content) : null;
+            } else {
+                this.eTag = null;
+                this.gzipContent = null;
+            }
+        }
+
+        private static boolean isCompressible(String contentType) {
+            return contentType != null && (contentType.startsWith("text/") || contentType.endsWith("javascript")
+                    || contentType.endsWith("json") || contentType.endsWith("xml"));
+        }
+
+        private static byte[] gzip(byte[] content) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(content.length / 2 + 64);
+            try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+                out.write(content);
+            } catch (IOException e) {
+                // writing to memory doesn't fail
+                throw new IllegalStateException(e);
+            }
+            // not worth it for tiny resources
+            return compressed.size() < content.length ? compressed.toByteArray() : null;
+        }
+
+        public URL getUrl() {
+            return url;
+        }
+
+        /**
+         * @return the content or null if the resource isn't kept in memory
+         */
+        public byte[] getContent() {
+            return content;
+        }
+
+        /**
+         * @return the gzipped content or null if it isn't smaller than the content
+         */
+        public byte[] getGzipContent() {
+            return gzipContent;
+        }
+
+        public String getETag() {
+            return eTag;
+        }
+
+        public String getGzipETag() {
+            return eTag.substring(0, eTag.length() - 1) + "-gzip\"";
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+    }
 }
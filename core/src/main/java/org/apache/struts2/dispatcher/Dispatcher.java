@@ -34,12 +34,15 @@ import com.opensymphony.xwork2.util.ValueStackFactory;
 import com.opensymphony.xwork2.util.location.LocatableProperties;
 import com.opensymphony.xwork2.util.location.Location;
 import com.opensymphony.xwork2.util.location.LocationUtils;
+import com.opensymphony.xwork2.util.profiling.ProfilingTimerBean;
+import com.opensymphony.xwork2.util.profiling.UtilTimerStack;
 import org.apache.commons.lang3.LocaleUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.struts2.RequestUtils;
 import org.apache.struts2.ServletActionContext;
 import org.apache.struts2.StrutsConstants;
 import org.apache.struts2.StrutsException;
@@ -53,18 +56,26 @@ import org.apache.struts2.config.StrutsXmlConfigurationProvider;
 import org.apache.struts2.dispatcher.mapper.ActionMapping;
 import org.apache.struts2.dispatcher.multipart.MultiPartRequest;
 import org.apache.struts2.dispatcher.multipart.MultiPartRequestWrapper;
+import org.apache.struts2.metrics.DefaultStrutsMetrics;
+import org.apache.struts2.metrics.StrutsMetrics;
+import org.apache.struts2.metrics.StrutsMetricsMXBean;
 import org.apache.struts2.util.AttributeMap;
 import org.apache.struts2.util.ObjectFactoryDestroyable;
 import org.apache.struts2.util.fs.JBossFileManager;
 
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
 import javax.servlet.ServletContext;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.File;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.regex.Pattern;
 
 /**
@@ -86,6 +97,21 @@ public class Dispatcher {
      */
     public static final String REQUEST_POST_METHOD = "POST";
 
+    /**
+     * Request parameter which enables profiling of a single request in devMode
+     */
+    public static final String PROFILING_PARAM = "profiling";
+
+    /**
+     * Request header which enables profiling of a single request in devMode
+     */
+    public static final String PROFILING_HEADER = "X-Struts-Profiling";
+
+    /**
+     * Request attribute under which the recorded {@link ProfilingTimerBean} is stored
+     */
+    public static final String PROFILING_RESULT_KEY = "struts.profiling.result";
+
     public static final String MULTIPART_FORM_DATA_REGEX = "^multipart/form-data(?:\\s*;\\s*boundary=[0-9a-zA-Z'()+_,\\-./:=?]{1,70})?(?:\\s*;\\s*charset=[a-zA-Z\\-0-9]{3,14})?";
 
     /**
@@ -118,6 +144,11 @@ public class Dispatcher {
      */
     private String defaultLocale;
 
+    /**
+     * Locale parsed from the StrutsConstants.STRUTS_LOCALE setting.
+     */
+    private volatile Locale parsedDefaultLocale;
+
     /**
      * Store state of StrutsConstants.STRUTS_MULTIPART_SAVEDIR setting.
      */
@@ -162,6 +193,36 @@ public class Dispatcher {
      */
     private boolean handleException;
 
+    /**
+     * Store state of StrutsConstants.STRUTS_PROFILING_SAMPLE_RATE setting.
+     */
+    private double profilingSampleRate;
+
+    /**
+     * Store state of StrutsConstants.STRUTS_PROFILING_MIN_TIME setting.
+     */
+    private long profilingMinTime;
+
+    /**
+     * Store state of StrutsConstants.STRUTS_METRICS_JMX setting.
+     */
+    private boolean metricsJmxEnabled;
+
+    /**
+     * Name under which the {@link StrutsMetrics} were registered with JMX, set on init
+     */
+    private ObjectName metricsObjectName;
+
+    /**
+     * The {@link StrutsMetrics} registered with JMX under {@link #metricsObjectName}
+     */
+    private StrutsMetrics registeredMetrics;
+
+    /**
+     * Moves the metrics registered with JMX to the container of a reloaded configuration, see {@link #reload_MetricsMBean(Container)}
+     */
+    private ConfigurationReloadListener metricsReloadListener;
+
     /**
      * Interface used to handle internal errors or missing resources
      */
@@ -256,6 +317,7 @@ public class Dispatcher {
     @Inject(value=StrutsConstants.STRUTS_LOCALE, required=false)
     public void setDefaultLocale(String val) {
         defaultLocale = val;
+        parsedDefaultLocale = null;
     }
 
     /**
@@ -310,11 +372,68 @@ public class Dispatcher {
         this.errorHandler = errorHandler;
     }
 
+    @Inject(value = StrutsConstants.STRUTS_PROFILING_SAMPLE_RATE, required = false)
+    public void setProfilingSampleRate(String profilingSampleRate) {
+        this.profilingSampleRate = Double.parseDouble(profilingSampleRate);
+    }
+
+    @Inject(value = StrutsConstants.STRUTS_PROFILING_MIN_TIME, required = false)
+    public void setProfilingMinTime(String profilingMinTime) {
+        this.profilingMinTime = Long.parseLong(profilingMinTime);
+    }
+
+    @Inject(value = StrutsConstants.STRUTS_METRICS_JMX, required = false)
+    public void setMetricsJmxEnabled(String metricsJmxEnabled) {
+        this.metricsJmxEnabled = Boolean.parseBoolean(metricsJmxEnabled);
+    }
+
+    /**
+     * Starts profiling of the current request if it was requested with {@link #PROFILING_PARAM} or
+     * {@link #PROFILING_HEADER} in devMode, or if it was selected by the {@link StrutsConstants#STRUTS_PROFILING_SAMPLE_RATE}.
+     *
+     * @param request the current request
+     * @param devMode whether devMode is enabled for the current request
+     * @return true if the request is being profiled
+     */
+    public boolean startProfiling(HttpServletRequest request, boolean devMode) {
+        boolean profile;
+        if (devMode && (Boolean.parseBoolean(request.getHeader(PROFILING_HEADER))
+                || Boolean.parseBoolean(request.getParameter(PROFILING_PARAM)))) {
+            profile = true;
+        } else {
+            profile = profilingSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < profilingSampleRate;
+        }
+        return profile && UtilTimerStack.start(request.getMethod() + " " + RequestUtils.getUri(request));
+    }
+
+    /**
+     * Stops profiling of the current request, the recorded profile is logged and stored
+     * as the {@link #PROFILING_RESULT_KEY} request attribute.
+     *
+     * @param request the current request
+     * @return the recorded profile or null if the request wasn't profiled
+     */
+    public ProfilingTimerBean stopProfiling(HttpServletRequest request) {
+        ProfilingTimerBean profile = UtilTimerStack.stop();
+        if (profile != null) {
+            request.setAttribute(PROFILING_RESULT_KEY, profile);
+            LOG.info("Profile of {}:\n{}", profile.getName(), profile.getPrintable(profilingMinTime));
+        }
+        return profile;
+    }
+
     /**
      * Releases all instances bound to this dispatcher instance.
      */
     public void cleanup() {
 
+        // unregister metrics from JMX
+        if (metricsReloadListener != null) {
+            configurationManager.removeReloadListener(metricsReloadListener);
+            metricsReloadListener = null;
+        }
+        unregisterMetricsMBean();
+
     	// clean up ObjectFactory
         ObjectFactory objectFactory = getContainer().getInstance(ObjectFactory.class);
         if (objectFactory == null) {
@@ -522,6 +641,14 @@ public class Dispatcher {
             Container container = init_PreloadConfiguration();
             container.inject(this);
             init_CheckWebLogicWorkaround(container);
+            init_MetricsMBean(container);
+            metricsReloadListener = new ConfigurationReloadListener() {
+                @Override
+                public void configurationReloaded(Configuration configuration) {
+                    reload_MetricsMBean(configuration.getContainer());
+                }
+            };
+            configurationManager.addReloadListener(metricsReloadListener);
 
             if (!dispatcherListeners.isEmpty()) {
                 for (DispatcherListener l : dispatcherListeners) {
@@ -536,6 +663,70 @@ public class Dispatcher {
         }
     }
 
+    /**
+     * Registers the {@link StrutsMetrics} with the platform MBean server if they support JMX
+     * and {@link StrutsConstants#STRUTS_METRICS_JMX} is enabled. The name only depends on the context path,
+     * so it doesn't change when the configuration is reloaded.
+     *
+     * @param container the container of this dispatcher
+     */
+    protected synchronized void init_MetricsMBean(Container container) {
+        if (!metricsJmxEnabled) {
+            return;
+        }
+        StrutsMetrics metrics = container.getInstance(StrutsMetrics.class);
+        if (!(metrics instanceof StrutsMetricsMXBean)) {
+            return;
+        }
+        try {
+            Hashtable<String, String> properties = new Hashtable<>();
+            properties.put("type", "StrutsMetrics");
+            String contextPath = servletContext != null ? servletContext.getContextPath() : null;
+            properties.put("context", ObjectName.quote(StringUtils.defaultIfEmpty(contextPath, "/")));
+            ObjectName name = new ObjectName("org.apache.struts2", properties);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, name);
+            metricsObjectName = name;
+            registeredMetrics = metrics;
+            LOG.debug("Registered metrics with JMX as [{}]", name);
+        } catch (InstanceAlreadyExistsException e) {
+            LOG.debug("Metrics are already registered with JMX by another dispatcher of this web application");
+        } catch (JMException | SecurityException e) {
+            LOG.warn("Cannot register metrics with JMX", e);
+        }
+    }
+
+    /**
+     * Unregisters the {@link StrutsMetrics} previously registered by {@link #init_MetricsMBean(Container)}, if any.
+     */
+    protected synchronized void unregisterMetricsMBean() {
+        if (metricsObjectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(metricsObjectName);
+            } catch (JMException | SecurityException e) {
+                LOG.warn("Cannot unregister metrics [{}] from JMX", metricsObjectName, e);
+            }
+            metricsObjectName = null;
+            registeredMetrics = null;
+        }
+    }
+
+    /**
+     * Replaces the {@link StrutsMetrics} registered with JMX by the ones of a reloaded configuration. The old
+     * metrics are unregistered first, the new ones are registered under the same name and continue the statistics
+     * of the old ones, so the counters don't start over.
+     *
+     * @param container the container of the reloaded configuration
+     */
+    protected synchronized void reload_MetricsMBean(Container container) {
+        StrutsMetrics previous = registeredMetrics;
+        unregisterMetricsMBean();
+        StrutsMetrics metrics = container.getInstance(StrutsMetrics.class);
+        if (previous instanceof DefaultStrutsMetrics && metrics instanceof DefaultStrutsMetrics && previous != metrics) {
+            ((DefaultStrutsMetrics) metrics).continueFrom((DefaultStrutsMetrics) previous);
+        }
+        init_MetricsMBean(container);
+    }
+
     protected ConfigurationManager createConfigurationManager(String name) {
         return new ConfigurationManager(name);
     }
@@ -580,7 +771,9 @@ public class Dispatcher {
             extraContext.put(ActionContext.VALUE_STACK, valueStackFactory.createValueStack(stack));
         }
 
+        String timerKey = "Dispatcher.serviceAction";
         try {
+            UtilTimerStack.push(timerKey);
             String namespace = mapping.getNamespace();
             String name = mapping.getName();
             String method = mapping.getMethod();
@@ -622,6 +815,8 @@ public class Dispatcher {
             } else {
                 throw new ServletException(e);
             }
+        } finally {
+            UtilTimerStack.pop(timerKey);
         }
     }
 
@@ -660,7 +855,8 @@ public class Dispatcher {
         // request map wrapping the http request objects
         Map requestMap = new RequestMap(request);
 
-        // parameters map wrapping the http parameters.  ActionMapping parameters are now handled and applied separately
+        // parameters map wrapping the http parameters.  ActionMapping parameters are now handled and applied separately,
+        // they are copied eagerly as reading the request body (e.g. by REST handlers) would make form parameters unavailable
         HttpParameters params = HttpParameters.create(request.getParameterMap()).build();
 
         // session map wrapping the http session
@@ -697,7 +893,8 @@ public class Dispatcher {
                                     Map applicationMap,
                                     HttpServletRequest request,
                                     HttpServletResponse response) {
-        HashMap<String, Object> extraContext = new HashMap<>();
+        // sized to hold also entries added later on by ActionContext and ActionInvocation without rehashing
+        HashMap<String, Object> extraContext = new HashMap<>(32);
         extraContext.put(ActionContext.PARAMETERS, parameters);
         extraContext.put(ActionContext.SESSION, sessionMap);
         extraContext.put(ActionContext.APPLICATION, applicationMap);
@@ -724,7 +921,11 @@ public class Dispatcher {
         Locale locale;
         if (defaultLocale != null) {
             try {
-                locale = LocaleUtils.toLocale(defaultLocale);
+                locale = parsedDefaultLocale;
+                if (locale == null) {
+                    locale = LocaleUtils.toLocale(defaultLocale);
+                    parsedDefaultLocale = locale;
+                }
             } catch (IllegalArgumentException e) {
                 LOG.warn(new ParameterizedMessage("Cannot convert 'struts.locale' = [{}] to proper locale, defaulting to request locale [{}]",
                                 defaultLocale, request.getLocale()), e);
@@ -21,6 +21,7 @@ package org.apache.struts2.dispatcher;
 import com.opensymphony.xwork2.ActionContext;
 import com.opensymphony.xwork2.util.ValueStack;
 import com.opensymphony.xwork2.util.ValueStackFactory;
+import com.opensymphony.xwork2.util.profiling.UtilTimerStack;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.struts2.RequestUtils;
@@ -88,9 +89,24 @@ public class PrepareOperations {
         }
         request.setAttribute(CLEANUP_RECURSION_COUNTER, counter);
         ActionContext.setContext(ctx);
+        if (counter == 1) {
+            startProfiling(request);
+        }
         return ctx;
     }
 
+    /**
+     * Starts profiling of the request if enabled, see {@link Dispatcher#startProfiling(HttpServletRequest, boolean)}
+     *
+     * @param request servlet request
+     */
+    protected void startProfiling(HttpServletRequest request) {
+        if (dispatcher != null) {
+            Boolean devMode = devModeOverride.get();
+            dispatcher.startProfiling(request, devMode != null ? devMode : dispatcher.isDevMode());
+        }
+    }
+
     /**
      * Cleans up a request of thread locals
      *
@@ -108,6 +124,7 @@ public class PrepareOperations {
         }
         // always clean up the thread request, even if an action hasn't been executed
         try {
+            dispatcher.stopProfiling(request);
             dispatcher.cleanUpRequest(request);
         } finally {
             ActionContext.setContext(null);
@@ -183,7 +200,9 @@ public class PrepareOperations {
     public ActionMapping findActionMapping(HttpServletRequest request, HttpServletResponse response, boolean forceLookup) {
         ActionMapping mapping = (ActionMapping) request.getAttribute(STRUTS_ACTION_MAPPING_KEY);
         if (mapping == null || forceLookup) {
+            String timerKey = "ActionMapper.getMapping";
             try {
+                UtilTimerStack.push(timerKey);
                 mapping = dispatcher.getContainer().getInstance(ActionMapper.class).getMapping(request, dispatcher.getConfigurationManager());
                 if (mapping != null) {
                     request.setAttribute(STRUTS_ACTION_MAPPING_KEY, mapping);
@@ -192,6 +211,8 @@ public class PrepareOperations {
                 if (dispatcher.isHandleException() || dispatcher.isDevMode()) {
                     dispatcher.sendError(request, response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, ex);
                 }
+            } finally {
+                UtilTimerStack.pop(timerKey);
             }
         }
 
@@ -21,6 +21,7 @@ package org.apache.struts2.dispatcher.mapper;
 import com.opensymphony.xwork2.ActionContext;
 import com.opensymphony.xwork2.config.Configuration;
 import com.opensymphony.xwork2.config.ConfigurationManager;
+import com.opensymphony.xwork2.config.RuntimeConfiguration;
 import com.opensymphony.xwork2.config.entities.PackageConfig;
 import com.opensymphony.xwork2.inject.Container;
 import com.opensymphony.xwork2.inject.Inject;
@@ -31,6 +32,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.struts2.RequestUtils;
 import org.apache.struts2.ServletActionContext;
 import org.apache.struts2.StrutsConstants;
+import org.apache.struts2.util.NamespaceTrie;
 import org.apache.struts2.util.PrefixTrie;
 
 import javax.servlet.http.HttpServletRequest;
@@ -136,6 +138,8 @@ public class DefaultActionMapper implements ActionMapper {
 
     protected Container container;
 
+    private volatile NamespaceIndex namespaceIndex;
+
     public DefaultActionMapper() {
         prefixTrie = new PrefixTrie() {
             {
@@ -372,25 +376,14 @@ public class DefaultActionMapper implements ActionMapper {
             // Try to find the namespace in those defined, defaulting to ""
             Configuration config = configManager.getConfiguration();
             String prefix = uri.substring(0, lastSlash);
-            namespace = "";
-            boolean rootAvailable = false;
+            NamespaceTrie namespaces = getNamespaceTrie(config);
             // Find the longest matching namespace, defaulting to the default
-            for (PackageConfig cfg : config.getPackageConfigs().values()) {
-                String ns = cfg.getNamespace();
-                if (ns != null && prefix.startsWith(ns) && (prefix.length() == ns.length() || prefix.charAt(ns.length()) == '/')) {
-                    if (ns.length() > namespace.length()) {
-                        namespace = ns;
-                    }
-                }
-                if ("/".equals(ns)) {
-                    rootAvailable = true;
-                }
-            }
+            namespace = namespaces.findLongestNamespace(prefix);
 
             name = uri.substring(namespace.length() + 1);
 
             // Still none found, use root namespace if found
-            if (rootAvailable && "".equals(namespace)) {
+            if ("".equals(namespace) && namespaces.contains("/")) {
                 namespace = "/";
             }
         }
@@ -406,6 +399,30 @@ public class DefaultActionMapper implements ActionMapper {
         mapping.setName(cleanupActionName(name));
     }
 
+    /**
+     * Returns namespaces of all the packages indexed as a trie, the index is rebuilt
+     * each time a new configuration or runtime configuration is published.
+     *
+     * @param config current configuration
+     * @return namespaces defined by the packages
+     */
+    protected NamespaceTrie getNamespaceTrie(Configuration config) {
+        RuntimeConfiguration runtimeConfiguration = config.getRuntimeConfiguration();
+        Map<String, PackageConfig> packageConfigs = config.getPackageConfigs();
+        NamespaceIndex index = namespaceIndex;
+        if (index == null || !index.isFor(config, runtimeConfiguration, packageConfigs.size())) {
+            NamespaceTrie namespaces = new NamespaceTrie();
+            for (PackageConfig cfg : packageConfigs.values()) {
+                if (cfg.getNamespace() != null) {
+                    namespaces.put(cfg.getNamespace());
+                }
+            }
+            index = new NamespaceIndex(config, runtimeConfiguration, packageConfigs.size(), namespaces);
+            namespaceIndex = index;
+        }
+        return index.namespaces;
+    }
+
     /**
      * Checks namespace name against allowed pattern if not matched returns default namespace
      *
@@ -587,4 +604,24 @@ public class DefaultActionMapper implements ActionMapper {
         }
     }
 
+    private static final class NamespaceIndex {
+        private final Configuration configuration;
+        private final RuntimeConfiguration runtimeConfiguration;
+        private final int packageCount;
+        private final NamespaceTrie namespaces;
+
+        NamespaceIndex(Configuration configuration, RuntimeConfiguration runtimeConfiguration, int packageCount, NamespaceTrie namespaces) {
+            this.configuration = configuration;
+            this.runtimeConfiguration = runtimeConfiguration;
+            this.packageCount = packageCount;
+            this.namespaces = namespaces;
+        }
+
+        boolean isFor(Configuration configuration, RuntimeConfiguration runtimeConfiguration, int packageCount) {
+            return this.configuration == configuration
+                    && this.runtimeConfiguration == runtimeConfiguration
+                    && this.packageCount == packageCount;
+        }
+    }
+
 }
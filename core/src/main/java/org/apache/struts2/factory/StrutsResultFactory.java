@@ -21,6 +21,8 @@ package org.apache.struts2.factory;
 import com.opensymphony.xwork2.ObjectFactory;
 import com.opensymphony.xwork2.Result;
 import com.opensymphony.xwork2.config.entities.ResultConfig;
+import com.opensymphony.xwork2.factory.ResultBuilder;
+import com.opensymphony.xwork2.factory.ResultBuilderCache;
 import com.opensymphony.xwork2.factory.ResultFactory;
 import com.opensymphony.xwork2.inject.Inject;
 import com.opensymphony.xwork2.util.reflection.ReflectionException;
@@ -28,19 +30,23 @@ import com.opensymphony.xwork2.util.reflection.ReflectionExceptionHandler;
 import com.opensymphony.xwork2.util.reflection.ReflectionProvider;
 import com.opensymphony.xwork2.result.ParamNameAwareResult;
 
+import java.util.List;
 import java.util.Map;
 
 /**
- * Default implementation which uses {@link com.opensymphony.xwork2.result.ParamNameAwareResult} to accept or throw away parameters
+ * Default implementation which uses {@link com.opensymphony.xwork2.result.ParamNameAwareResult} to accept or throw away parameters,
+ * result configs are compiled into {@link ResultBuilder}s on first use
  */
 public class StrutsResultFactory implements ResultFactory {
 
     protected ObjectFactory objectFactory;
     protected ReflectionProvider reflectionProvider;
+    protected final ResultBuilderCache resultBuilders = new ResultBuilderCache();
 
     @Inject
     public void setObjectFactory(ObjectFactory objectFactory) {
         this.objectFactory = objectFactory;
+        this.resultBuilders.clear();
     }
 
     @Inject
@@ -53,15 +59,47 @@ public class StrutsResultFactory implements ResultFactory {
         Result result = null;
 
         if (resultClassName != null) {
-            result = (Result) objectFactory.buildBean(resultClassName, extraContext);
-            Map<String, String> params = resultConfig.getParams();
-            if (params != null) {
-                setParameters(extraContext, result, params);
-            }
+            ResultBuilder builder = resultBuilders.get(resultConfig, objectFactory);
+            result = builder.createResult(objectFactory, extraContext);
+            setParameters(extraContext, result, builder.getParams(result));
         }
         return result;
     }
 
+    /**
+     * Applies precompiled params, params which weren't compiled are passed to
+     * {@link #setParameter(Result, String, String, Map)}
+     *
+     * @param extraContext the current context
+     * @param result       result to set params on
+     * @param params       params compiled against class of the result
+     */
+    protected void setParameters(Map<String, Object> extraContext, Result result, List<ResultBuilder.Param> params) {
+        for (ResultBuilder.Param param : params) {
+            try {
+                if (param.isCompiled()) {
+                    setParameter(result, param);
+                } else {
+                    setParameter(result, param.getName(), (String) param.getValue(), extraContext);
+                }
+            } catch (ReflectionException ex) {
+                if (result instanceof ReflectionExceptionHandler) {
+                    ((ReflectionExceptionHandler) result).handle(ex);
+                }
+            }
+        }
+    }
+
+    protected void setParameter(Result result, ResultBuilder.Param param) {
+        if (result instanceof ParamNameAwareResult) {
+            if (((ParamNameAwareResult) result).acceptableParameterName(param.getName(), (String) param.getValue())) {
+                param.apply(result);
+            }
+        } else {
+            param.apply(result);
+        }
+    }
+
     protected void setParameters(Map<String, Object> extraContext, Result result, Map<String, String> params) {
         for (Map.Entry<String, String> paramEntry : params.entrySet()) {
             try {
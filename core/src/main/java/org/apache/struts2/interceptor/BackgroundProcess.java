@@ -19,6 +19,10 @@
 package org.apache.struts2.interceptor;
 
 import java.io.Serializable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import com.opensymphony.xwork2.ActionContext;
 import com.opensymphony.xwork2.ActionInvocation;
@@ -34,39 +38,90 @@ public class BackgroundProcess implements Serializable {
     //WW-4900 transient since 2.5.15
     transient protected ActionInvocation invocation;
     transient protected Exception exception;
+    transient private CountDownLatch doneSignal = new CountDownLatch(1);
 
     protected String result;
-    protected boolean done;
+    protected volatile boolean done;
+    protected long doneTime;
 
     /**
-     * Constructs a background process
+     * Constructs a background process running in its own thread
      *
      * @param threadName The thread name
      * @param invocation The action invocation
      * @param threadPriority The thread priority
      */
     public BackgroundProcess(String threadName, final ActionInvocation invocation, int threadPriority) {
+        this(threadName, invocation, threadPriority, null);
+    }
+
+    /**
+     * Constructs a background process running in a thread of the given executor,
+     * the thread is renamed and uses the given priority while the process runs.
+     *
+     * @param threadName The thread name
+     * @param invocation The action invocation
+     * @param threadPriority The thread priority
+     * @param executor The executor to use, if null a new thread is started
+     * @throws RejectedExecutionException if the executor doesn't accept the process
+     * @since 2.6
+     */
+    public BackgroundProcess(final String threadName, final ActionInvocation invocation, final int threadPriority, Executor executor) {
         this.invocation = invocation;
         try {
-            final Thread t = new Thread(new Runnable() {
-                public void run() {
-                    try {
-                        beforeInvocation();
-                        result = invocation.invokeActionOnly();
-                        afterInvocation();
-                    } catch (Exception e) {
-                        exception = e;
+            if (executor != null) {
+                executor.execute(new Runnable() {
+                    public void run() {
+                        Thread thread = Thread.currentThread();
+                        String name = thread.getName();
+                        int priority = thread.getPriority();
+                        thread.setName(threadName);
+                        thread.setPriority(threadPriority);
+                        try {
+                            execute();
+                        } finally {
+                            thread.setName(name);
+                            thread.setPriority(priority);
+                        }
                     }
+                });
+            } else {
+                final Thread t = new Thread(new Runnable() {
+                    public void run() {
+                        execute();
+                    }
+                });
+                t.setName(threadName);
+                t.setPriority(threadPriority);
+                t.start();
+            }
+        } catch (RejectedExecutionException e) {
+            throw e;
+        } catch (Exception e) {
+            exception = e;
+            markDone();
+        }
+    }
 
-                    done = true;
-                }
-            });
-            t.setName(threadName);
-            t.setPriority(threadPriority);
-            t.start();
+    private void execute() {
+        try {
+            beforeInvocation();
+            result = invocation.invokeActionOnly();
+            afterInvocation();
         } catch (Exception e) {
             exception = e;
+        } finally {
+            // threads of the executor are reused, the context must not leak into the next process
+            ActionContext.setContext(null);
         }
+
+        markDone();
+    }
+
+    private void markDone() {
+        doneTime = System.currentTimeMillis();
+        done = true;
+        doneSignal.countDown();
     }
 
     /**
@@ -134,4 +189,31 @@ public class BackgroundProcess implements Serializable {
     public boolean isDone() {
         return done;
     }
+
+    /**
+     * Returns when the background process finished.
+     *
+     * @return time in millis or <tt>0</tt> if not finished
+     * @since 2.6
+     */
+    public long getDoneTime() {
+        return doneTime;
+    }
+
+    /**
+     * Waits until the background process is finished or the timeout elapses.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the unit of the timeout
+     * @return <tt>true</tt> if finished, <tt>false</tt> otherwise
+     * @throws InterruptedException if interrupted while waiting
+     * @since 2.6
+     */
+    public boolean waitUntilDone(long timeout, TimeUnit unit) throws InterruptedException {
+        if (doneSignal == null) {
+            // de-serialized process, there is nothing to wait for
+            return done;
+        }
+        return doneSignal.await(timeout, unit) || done;
+    }
 }
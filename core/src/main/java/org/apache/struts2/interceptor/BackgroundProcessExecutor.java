@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.interceptor;
+
+import com.opensymphony.xwork2.inject.Inject;
+import org.apache.struts2.StrutsConstants;
+import org.apache.struts2.dispatcher.Dispatcher;
+import org.apache.struts2.dispatcher.DispatcherListener;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared pool of threads running the {@link BackgroundProcess}es of the {@link ExecuteAndWaitInterceptor}.
+ * At most {@link StrutsConstants#STRUTS_EXECUTE_AND_WAIT_MAX_THREADS} processes run at the same time and
+ * {@link StrutsConstants#STRUTS_EXECUTE_AND_WAIT_QUEUE_SIZE} more can wait for a thread, any further process
+ * is rejected with a {@link RejectedExecutionException}. The pool is shut down with the {@link Dispatcher}.
+ *
+ * @since 2.6
+ */
+public class BackgroundProcessExecutor implements Executor, DispatcherListener {
+
+    private final ThreadPoolExecutor executor;
+
+    @Inject
+    public BackgroundProcessExecutor(@Inject(StrutsConstants.STRUTS_EXECUTE_AND_WAIT_MAX_THREADS) String maxThreads,
+                                     @Inject(StrutsConstants.STRUTS_EXECUTE_AND_WAIT_QUEUE_SIZE) String queueSize) {
+        this(Integer.parseInt(maxThreads), Integer.parseInt(queueSize));
+        Dispatcher.addDispatcherListener(this);
+    }
+
+    public BackgroundProcessExecutor(int maxThreads, int queueSize) {
+        if (maxThreads < 1 || queueSize < 0) {
+            throw new IllegalArgumentException("maxThreads must be positive and queueSize must not be negative, got "
+                    + maxThreads + " and " + queueSize);
+        }
+        BlockingQueue<Runnable> queue = queueSize > 0 ? new LinkedBlockingQueue<Runnable>(queueSize) : new SynchronousQueue<Runnable>();
+        executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS, queue, new BackgroundThreadFactory());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * @throws RejectedExecutionException if all threads are busy and the queue is full
+     */
+    @Override
+    public void execute(Runnable command) {
+        executor.execute(command);
+    }
+
+    /**
+     * @return number of background processes running at the moment
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * @return number of background processes waiting for a thread
+     */
+    public int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    @Override
+    public void dispatcherInitialized(Dispatcher du) {
+    }
+
+    @Override
+    public void dispatcherDestroyed(Dispatcher du) {
+        Dispatcher.removeDispatcherListener(this);
+        shutdown();
+    }
+
+    private static class BackgroundThreadFactory implements ThreadFactory {
+
+        private static final AtomicInteger threadCount = new AtomicInteger(0);
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, BackgroundProcess.class.getSimpleName() + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
@@ -32,7 +32,12 @@ import org.apache.struts2.util.TokenHelper;
 import org.apache.struts2.views.freemarker.FreemarkerResult;
 
 import javax.servlet.http.HttpSession;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <!-- START SNIPPET: description -->
@@ -66,9 +71,8 @@ import java.util.Map;
  * </p>
  *
  * <p>This interceptor also supports using an initial wait delay. An initial delay is a time in milliseconds we let the
- * server wait before the wait page is shown to the user. During the wait this interceptor will wake every 100 millis
- * to check if the background process is done premature, thus if the job for some reason doesn't take to long the wait
- * page is not shown to the user.
+ * server wait before the wait page is shown to the user. The wait ends as soon as the background process is done,
+ * thus if the job for some reason doesn't take to long the wait page is not shown to the user.
  * <br> This is useful for e.g. search actions that have a wide span of execution time. Using a delay time of 2000
  * millis we ensure the user is presented fast search results immediately and for the slow results a wait page is used.
  * </p>
@@ -81,6 +85,13 @@ import java.util.Map;
  * <p>The thread kicked off by this interceptor will be named in the form <b><u>actionName</u>BackgroundProcess</b>.
  * For example, the <i>search</i> action would run as a thread named <i>searchBackgroundProcess</i>.
  * </p>
+ *
+ * <p>The background processes run in a thread pool shared by all the actions, see <code>struts.executeAndWait.maxThreads</code>
+ * and <code>struts.executeAndWait.queueSize</code>. When the pool is exhausted, or a session already runs
+ * <code>maxProcessesPerSession</code> processes, the process is not started and the <b>wait</b> result is returned,
+ * the next request from the wait page tries to start it again. Finished processes which are not picked up by the
+ * client are removed from the session after <code>completedTimeToLive</code> millis.
+ * </p>
  * <!-- END SNIPPET: description -->
  *
  * <p><u>Interceptor parameters:</u></p>
@@ -91,7 +102,9 @@ import java.util.Map;
  *
  * <li>threadPriority (optional) - the priority to assign the thread. Default is <code>Thread.NORM_PRIORITY</code>.</li>
  * <li>delay (optional) - an initial delay in millis to wait before the wait page is shown (returning <code>wait</code> as result code). Default is no initial delay.</li>
- * <li>delaySleepInterval (optional) - only used with delay. Used for waking up at certain intervals to check if the background process is already done. Default is 100 millis.</li>
+ * <li>delaySleepInterval (optional) - no longer used, the delay ends as soon as the background process is done.</li>
+ * <li>maxProcessesPerSession (optional) - how many background processes a session can run at the same time, 0 for no limit. Default is 4.</li>
+ * <li>completedTimeToLive (optional) - millis after which a finished background process is removed from the session, 0 to keep it until it is picked up. Default is 10 minutes.</li>
  *
  * </ul>
  *
@@ -180,18 +193,26 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
     public static final String KEY = "__execWait";
     public static final String WAIT = "wait";
     protected int delay;
-    protected int delaySleepInterval = 100; // default sleep 100 millis before checking if background process is done
+    protected int delaySleepInterval = 100; // no longer used, the delay ends when the background process is done
     protected boolean executeAfterValidationPass = false;
+    protected int maxProcessesPerSession = 4;
+    protected long completedTimeToLive = 10 * 60 * 1000;
 
     private int threadPriority = Thread.NORM_PRIORITY;
 
     private Container container;
+    private Executor executor;
 
     @Inject
     public void setContainer(Container container) {
         this.container = container;
     }
 
+    @Inject(required = false)
+    public void setExecutor(BackgroundProcessExecutor executor) {
+        this.executor = executor;
+    }
+
     /**
      * Creates a new background process
      *
@@ -199,9 +220,10 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
      * @param actionInvocation The action invocation
      * @param threadPriority The thread priority
      * @return The new process
+     * @throws RejectedExecutionException if the shared executor cannot run any more processes
      */
     protected BackgroundProcess getNewBackgroundProcess(String name, ActionInvocation actionInvocation, int threadPriority) {
-        return new BackgroundProcess(name + "BackgroundThread", actionInvocation, threadPriority);
+        return new BackgroundProcess(name + "BackgroundThread", actionInvocation, threadPriority, executor);
     }
 
     /**
@@ -241,6 +263,7 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
         //sync on the real HttpSession as the session from the context is a wrap that is created
         //on every request
         synchronized (httpSession) {
+            int runningProcesses = evictCompletedProcesses(session, KEY + name);
             BackgroundProcess bp = (BackgroundProcess) session.get(KEY + name);
 
             //WW-4900 Checks if from a de-serialized session? so background thread missed, let's start a new one.
@@ -249,15 +272,28 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
                 bp = null;
             }
 
+            boolean rejected = false;
             if ((!executeAfterValidationPass || secondTime) && bp == null) {
-                bp = getNewBackgroundProcess(name, actionInvocation, threadPriority);
-                session.put(KEY + name, bp);
-                performInitialDelay(bp); // first time let some time pass before showing wait page
+                if (maxProcessesPerSession > 0 && runningProcesses >= maxProcessesPerSession) {
+                    LOG.warn("Session already runs {} background processes, delaying [{}]", runningProcesses, name);
+                    rejected = true;
+                } else {
+                    try {
+                        bp = getNewBackgroundProcess(name, actionInvocation, threadPriority);
+                    } catch (RejectedExecutionException e) {
+                        LOG.warn("Cannot start background process [{}]: {}", name, e.getMessage());
+                        rejected = true;
+                    }
+                }
+                if (bp != null) {
+                    session.put(KEY + name, bp);
+                    performInitialDelay(bp); // first time let some time pass before showing wait page
+                }
                 secondTime = false;
             }
 
-            if ((!executeAfterValidationPass || !secondTime) && bp != null && !bp.isDone()) {
-                actionInvocation.getStack().push(bp.getAction());
+            if (rejected || ((!executeAfterValidationPass || !secondTime) && bp != null && !bp.isDone())) {
+                actionInvocation.getStack().push(bp != null ? bp.getAction() : actionInvocation.getAction());
 
 				final String token = TokenHelper.getToken();
 				if (token != null) {
@@ -310,26 +346,58 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
      * <p>
      * When this interceptor is executed for the first time this methods handles any provided initial delay.
      * An initial delay is a time in milliseconds we let the server wait before we continue.
-     * <br> During the wait this interceptor will wake every 100 millis to check if the background
-     * process is done premature, thus if the job for some reason doesn't take to long the wait
-     * page is not shown to the user.
+     * <br> The wait ends as soon as the background process is done, thus if the job for some reason
+     * doesn't take to long the wait page is not shown to the user.
      * </p>
      *
      * @param bp the background process
-     * @throws InterruptedException is thrown by Thread.sleep
+     * @throws InterruptedException if interrupted while waiting
      */
     protected void performInitialDelay(BackgroundProcess bp) throws InterruptedException {
-        if (delay <= 0 || delaySleepInterval <= 0) {
+        if (delay <= 0) {
             return;
         }
 
-        int steps = delay / delaySleepInterval;
-        LOG.debug("Delaying for {} millis. (using {} steps)", delay, steps);
-        int step;
-        for (step = 0; step < steps && !bp.isDone(); step++) {
-            Thread.sleep(delaySleepInterval);
+        LOG.debug("Delaying for {} millis", delay);
+        boolean done = bp.waitUntilDone(delay, TimeUnit.MILLISECONDS);
+        LOG.debug("Delay ended and the background process is {}", (done ? "done" : "not done"));
+    }
+
+    /**
+     * Removes the background processes from the session which finished more than
+     * <code>completedTimeToLive</code> millis ago and were never picked up.
+     *
+     * @param session the session
+     * @param currentKey the key of the process of the current request, it's kept to be picked up now
+     * @return the number of background processes of the session which are still running
+     */
+    protected int evictCompletedProcesses(Map<String, Object> session, String currentKey) {
+        int running = 0;
+        long expired = System.currentTimeMillis() - completedTimeToLive;
+        List<String> evicted = null;
+        for (Map.Entry<String, Object> entry : session.entrySet()) {
+            if (!entry.getKey().startsWith(KEY) || !(entry.getValue() instanceof BackgroundProcess)) {
+                continue;
+            }
+            BackgroundProcess bp = (BackgroundProcess) entry.getValue();
+            if (!bp.isDone()) {
+                if (bp.getInvocation() != null) {
+                    running++;
+                }
+            } else if (completedTimeToLive > 0 && bp.getDoneTime() < expired && !entry.getKey().equals(currentKey)) {
+                if (evicted == null) {
+                    evicted = new ArrayList<>();
+                }
+                evicted.add(entry.getKey());
+            }
+        }
+        if (evicted != null) {
+            LOG.debug("Removing expired background processes {}", evicted);
+            for (String key : evicted) {
+                session.remove(key);
+            }
         }
-        LOG.debug("Sleeping ended after {} steps and the background process is {}", step, (bp.isDone() ? " done" : " not done"));
+        return running;
     }
 
     /**
@@ -354,7 +422,9 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
      * Sets the sleep interval in millis (msec) when performing the initial delay.
      *
      * @param delaySleepInterval in millis (0 for not used)
+     * @deprecated the initial delay ends as soon as the background process is done, there is no polling anymore
      */
+    @Deprecated
     public void setDelaySleepInterval(int delaySleepInterval) {
         this.delaySleepInterval = delaySleepInterval;
     }
@@ -369,5 +439,23 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
         this.executeAfterValidationPass = executeAfterValidationPass;
     }
 
+    /**
+     * Sets how many background processes a session can run at the same time.
+     *
+     * @param maxProcessesPerSession the limit, 0 for no limit
+     */
+    public void setMaxProcessesPerSession(int maxProcessesPerSession) {
+        this.maxProcessesPerSession = maxProcessesPerSession;
+    }
+
+    /**
+     * Sets the time after which finished background processes are removed from the session.
+     *
+     * @param completedTimeToLive in millis, 0 to keep them until they are picked up
+     */
+    public void setCompletedTimeToLive(long completedTimeToLive) {
+        this.completedTimeToLive = completedTimeToLive;
+    }
+
 
 }
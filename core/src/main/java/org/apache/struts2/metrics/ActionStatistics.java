@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.metrics;
+
+import java.beans.ConstructorProperties;
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * Snapshot of the statistics of an action or of all actions in a namespace.
+ *
+ * @see DefaultStrutsMetrics
+ * @since 2.6
+ */
+public class ActionStatistics implements Serializable {
+
+    private static final long serialVersionUID = 2887543623582145121L;
+
+    private final long requestCount;
+    private final long exceptionCount;
+    private final double totalTimeMillis;
+    private final double maxTimeMillis;
+    private final Map<String, Long> resultCounts;
+    private final Map<String, Long> exceptionCounts;
+    private final Map<String, Long> latencyHistogram;
+
+    @ConstructorProperties({"requestCount", "exceptionCount", "totalTimeMillis", "maxTimeMillis",
+            "resultCounts", "exceptionCounts", "latencyHistogram"})
+    public ActionStatistics(long requestCount, long exceptionCount, double totalTimeMillis, double maxTimeMillis,
+                            Map<String, Long> resultCounts, Map<String, Long> exceptionCounts,
+                            Map<String, Long> latencyHistogram) {
+        this.requestCount = requestCount;
+        this.exceptionCount = exceptionCount;
+        this.totalTimeMillis = totalTimeMillis;
+        this.maxTimeMillis = maxTimeMillis;
+        this.resultCounts = resultCounts;
+        this.exceptionCounts = exceptionCounts;
+        this.latencyHistogram = latencyHistogram;
+    }
+
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    public long getExceptionCount() {
+        return exceptionCount;
+    }
+
+    public double getTotalTimeMillis() {
+        return totalTimeMillis;
+    }
+
+    public double getMeanTimeMillis() {
+        return requestCount == 0 ? 0 : totalTimeMillis / requestCount;
+    }
+
+    public double getMaxTimeMillis() {
+        return maxTimeMillis;
+    }
+
+    /**
+     * @return number of executions keyed by result code
+     */
+    public Map<String, Long> getResultCounts() {
+        return resultCounts;
+    }
+
+    /**
+     * @return number of failed executions keyed by exception class name
+     */
+    public Map<String, Long> getExceptionCounts() {
+        return exceptionCounts;
+    }
+
+    /**
+     * @return number of executions keyed by latency bucket, see {@link LatencyHistogram#toMap()}
+     */
+    public Map<String, Long> getLatencyHistogram() {
+        return latencyHistogram;
+    }
+
+    @Override
+    public String toString() {
+        return "ActionStatistics{" +
+                "requestCount=" + requestCount +
+                ", exceptionCount=" + exceptionCount +
+                ", meanTimeMillis=" + getMeanTimeMillis() +
+                ", maxTimeMillis=" + maxTimeMillis +
+                ", resultCounts=" + resultCounts +
+                '}';
+    }
+}
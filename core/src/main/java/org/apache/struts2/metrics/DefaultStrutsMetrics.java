@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.metrics;
+
+import com.opensymphony.xwork2.inject.Inject;
+import org.apache.struts2.StrutsConstants;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Default {@link StrutsMetrics} which keeps request counts, latency histograms, result codes and
+ * exceptions per action and per namespace in memory. Recording an execution of an already known
+ * action doesn't allocate, all counters are {@link LongAdder}s.
+ *
+ * <p>
+ * To bound memory, at most {@link StrutsConstants#STRUTS_METRICS_MAX_ACTIONS} actions and namespaces
+ * are tracked separately, the remaining ones are recorded under {@link #OTHER}.
+ * </p>
+ *
+ * @since 2.6
+ */
+public class DefaultStrutsMetrics implements StrutsMetrics, StrutsMetricsMXBean {
+
+    /**
+     * Name under which actions and namespaces above the limit are recorded
+     */
+    public static final String OTHER = "[other]";
+
+    public static final int DEFAULT_MAX_ACTIONS = 1000;
+
+    private final ConcurrentMap<String, ConcurrentMap<String, Stats>> actions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Stats> namespaces = new ConcurrentHashMap<>();
+    private final AtomicInteger actionCount = new AtomicInteger();
+
+    private int maxActions = DEFAULT_MAX_ACTIONS;
+
+    @Inject(value = StrutsConstants.STRUTS_METRICS_MAX_ACTIONS, required = false)
+    public void setMaxActions(String maxActions) {
+        this.maxActions = Integer.parseInt(maxActions);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void recordAction(String namespace, String actionName, String resultCode, long duration, Throwable failure) {
+        if (namespace == null) {
+            namespace = "";
+        }
+        Stats namespaceStats = namespaces.get(namespace);
+        if (namespaceStats == null) {
+            namespaceStats = namespaceStats(namespace);
+        }
+        namespaceStats.record(resultCode, duration, failure);
+
+        ConcurrentMap<String, Stats> byName = actions.get(namespace);
+        Stats actionStats = byName == null ? null : byName.get(actionName);
+        if (actionStats == null) {
+            actionStats = actionStats(namespace, actionName);
+        }
+        actionStats.record(resultCode, duration, failure);
+    }
+
+    private Stats namespaceStats(String namespace) {
+        if (namespaces.size() >= maxActions) {
+            // don't allocate stats which would be dropped in favour of the existing ones
+            Stats other = namespaces.get(OTHER);
+            if (other != null) {
+                return other;
+            }
+            namespace = OTHER;
+        }
+        Stats stats = new Stats();
+        Stats existing = namespaces.putIfAbsent(namespace, stats);
+        return existing != null ? existing : stats;
+    }
+
+    private Stats actionStats(String namespace, String actionName) {
+        if (actionCount.get() >= maxActions) {
+            ConcurrentMap<String, Stats> otherByName = actions.get(OTHER);
+            Stats other = otherByName == null ? null : otherByName.get(OTHER);
+            if (other != null) {
+                return other;
+            }
+            namespace = OTHER;
+            actionName = OTHER;
+        }
+        ConcurrentMap<String, Stats> byName = actions.get(namespace);
+        if (byName == null) {
+            byName = new ConcurrentHashMap<>();
+            ConcurrentMap<String, Stats> existing = actions.putIfAbsent(namespace, byName);
+            if (existing != null) {
+                byName = existing;
+            }
+        }
+        Stats stats = new Stats();
+        Stats existing = byName.putIfAbsent(actionName, stats);
+        if (existing != null) {
+            return existing;
+        }
+        actionCount.incrementAndGet();
+        return stats;
+    }
+
+    @Override
+    public Map<String, ActionStatistics> getActionStatistics() {
+        Map<String, ActionStatistics> statistics = new TreeMap<>();
+        for (Map.Entry<String, ConcurrentMap<String, Stats>> namespace : actions.entrySet()) {
+            String prefix = OTHER.equals(namespace.getKey()) || namespace.getKey().endsWith("/")
+                    ? namespace.getKey() : namespace.getKey() + "/";
+            for (Map.Entry<String, Stats> action : namespace.getValue().entrySet()) {
+                String key = OTHER.equals(action.getKey()) ? OTHER : prefix + action.getKey();
+                statistics.put(key, action.getValue().snapshot());
+            }
+        }
+        return statistics;
+    }
+
+    @Override
+    public Map<String, ActionStatistics> getNamespaceStatistics() {
+        Map<String, ActionStatistics> statistics = new TreeMap<>();
+        for (Map.Entry<String, Stats> namespace : namespaces.entrySet()) {
+            statistics.put(namespace.getKey(), namespace.getValue().snapshot());
+        }
+        return statistics;
+    }
+
+    /**
+     * Continues the statistics of the given metrics, used when these metrics replace them after a reload of the
+     * configuration. The counters are shared, executions still recorded by the previous metrics are counted as well.
+     *
+     * @param previous metrics being replaced
+     */
+    public void continueFrom(DefaultStrutsMetrics previous) {
+        for (Map.Entry<String, Stats> namespace : previous.namespaces.entrySet()) {
+            namespaces.putIfAbsent(namespace.getKey(), namespace.getValue());
+        }
+        for (Map.Entry<String, ConcurrentMap<String, Stats>> namespace : previous.actions.entrySet()) {
+            ConcurrentMap<String, Stats> byName = actions.get(namespace.getKey());
+            if (byName == null) {
+                byName = new ConcurrentHashMap<>();
+                ConcurrentMap<String, Stats> existing = actions.putIfAbsent(namespace.getKey(), byName);
+                if (existing != null) {
+                    byName = existing;
+                }
+            }
+            for (Map.Entry<String, Stats> action : namespace.getValue().entrySet()) {
+                if (byName.putIfAbsent(action.getKey(), action.getValue()) == null) {
+                    actionCount.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+        actions.clear();
+        namespaces.clear();
+        actionCount.set(0);
+    }
+
+    /**
+     * Counters of a single action or namespace
+     */
+    static class Stats {
+
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder exceptions = new LongAdder();
+        final ConcurrentMap<String, LongAdder> results = new ConcurrentHashMap<>();
+        final ConcurrentMap<String, LongAdder> exceptionTypes = new ConcurrentHashMap<>();
+
+        void record(String resultCode, long duration, Throwable failure) {
+            latency.record(duration);
+            if (resultCode != null) {
+                increment(results, resultCode);
+            }
+            if (failure != null) {
+                exceptions.increment();
+                increment(exceptionTypes, failure.getClass().getName());
+            }
+        }
+
+        private static void increment(ConcurrentMap<String, LongAdder> counters, String key) {
+            LongAdder counter = counters.get(key);
+            if (counter == null) {
+                counter = new LongAdder();
+                LongAdder existing = counters.putIfAbsent(key, counter);
+                if (existing != null) {
+                    counter = existing;
+                }
+            }
+            counter.increment();
+        }
+
+        ActionStatistics snapshot() {
+            return new ActionStatistics(
+                    latency.getCount(),
+                    exceptions.sum(),
+                    toMillis(latency.getTotal()),
+                    toMillis(latency.getMax()),
+                    sums(results),
+                    sums(exceptionTypes),
+                    latency.toMap()
+            );
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        private static Map<String, Long> sums(Map<String, LongAdder> counters) {
+            Map<String, Long> sums = new TreeMap<>();
+            for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+                sums.put(entry.getKey(), entry.getValue().sum());
+            }
+            return sums;
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.metrics;
+
+/**
+ * Records statistics of executed actions, the implementation is selected with
+ * {@link org.apache.struts2.StrutsConstants#STRUTS_METRICS}.
+ *
+ * <p>
+ * Implementations are called for every action execution and must be thread safe and cheap,
+ * {@link #isEnabled()} allows to skip measuring the execution at all.
+ * </p>
+ *
+ * @since 2.6
+ */
+public interface StrutsMetrics {
+
+    /**
+     * @return false if executions shouldn't be measured and reported
+     */
+    boolean isEnabled();
+
+    /**
+     * Records a single action execution.
+     *
+     * @param namespace  namespace of the action
+     * @param actionName name of the action
+     * @param resultCode result code returned by the invocation, null if it failed
+     * @param duration   execution time in nanoseconds, including the result
+     * @param failure    exception thrown by the invocation or null
+     */
+    void recordAction(String namespace, String actionName, String resultCode, long duration, Throwable failure);
+
+}
@@ -19,10 +19,12 @@
 package org.apache.struts2.result;
 
 import com.opensymphony.xwork2.ActionInvocation;
+import com.opensymphony.xwork2.inject.Inject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import javax.servlet.ServletContext;
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.InputStream;
@@ -79,6 +81,7 @@ public class PlainTextResult extends StrutsResultSupport {
     private static final long serialVersionUID = 3633371605905583950L;
 
     private String charSet;
+    private ResponseContentWriter contentWriter;
 
     public PlainTextResult() {
         super();
@@ -106,6 +109,16 @@ public class PlainTextResult extends StrutsResultSupport {
         this.charSet = charSet;
     }
 
+    /**
+     * @param contentWriter writes the resource to the response instead of this result,
+     *                      only used when a charSet is given as the content is copied as is
+     * @since 2.6
+     */
+    @Inject(required = false)
+    public void setContentWriter(ResponseContentWriter contentWriter) {
+        this.contentWriter = contentWriter;
+    }
+
     /* (non-Javadoc)
      * @see org.apache.struts2.result.StrutsResultSupport#doExecute(java.lang.String, com.opensymphony.xwork2.ActionInvocation)
      */
@@ -119,6 +132,17 @@ public class PlainTextResult extends StrutsResultSupport {
         applyAdditionalHeaders(response);
         String location = adjustLocation(finalLocation);
 
+        if (contentWriter != null && charset != null) {
+            // the resource is read and sent with the same charset, so the bytes can be copied as they are
+            InputStream resourceAsStream = readStream(invocation, location);
+            logWrongStream(finalLocation, resourceAsStream);
+            if (resourceAsStream != null) {
+                HttpServletRequest request = (HttpServletRequest) invocation.getInvocationContext().get(HTTP_REQUEST);
+                contentWriter.write(request, response, resourceAsStream, BUFFER_SIZE);
+            }
+            return;
+        }
+
         try (PrintWriter writer = response.getWriter();
                 InputStream resourceAsStream = readStream(invocation, location);
                 InputStreamReader reader = new InputStreamReader(resourceAsStream, charset == null ? Charset.defaultCharset() : charset)) {
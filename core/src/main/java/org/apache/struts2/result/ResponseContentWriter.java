@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.result;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * <p>
+ * Writes the body of a response produced by a result, used by {@link StreamResult}, {@link PlainTextResult} and
+ * the JSON and REST results when configured with the <code>struts.result.contentWriter</code> constant.
+ * Without an implementation the results write to the response themselves, blocking the request thread until
+ * the client has received all the content.
+ * </p>
+ *
+ * <p>
+ * An implementation may return before the content has been written, e.g. by using non-blocking Servlet 3.1 output,
+ * and has to close the content once it's done with it.
+ * </p>
+ *
+ * @since 2.6
+ */
+public interface ResponseContentWriter {
+
+    /**
+     * Writes the content to the response body, the headers must already be set.
+     *
+     * @param request the current request
+     * @param response the current response
+     * @param content the content to write, it's closed by the writer
+     * @param bufferSize size of the chunks in which the content is written
+     * @throws IOException if writing fails before this method returns
+     */
+    void write(HttpServletRequest request, HttpServletResponse response, InputStream content, int bufferSize) throws IOException;
+
+}
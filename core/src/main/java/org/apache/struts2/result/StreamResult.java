@@ -19,12 +19,31 @@
 package org.apache.struts2.result;
 
 import com.opensymphony.xwork2.ActionInvocation;
+import com.opensymphony.xwork2.inject.Inject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.struts2.util.ConditionalRequestHelper;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 
 /**
  * <!-- START SNIPPET: description -->
@@ -32,6 +51,13 @@ import java.io.OutputStream;
  * A custom Result type for sending raw data (via an InputStream) directly to the
  * HttpServletResponse. Very useful for allowing users to download content.
  * </p>
+ * <p>
+ * The content can also be a {@link java.io.File} or a {@link java.nio.file.Path}. Files, including a
+ * {@link java.io.FileInputStream}, are copied with {@link FileChannel#transferTo(long, long, WritableByteChannel)}
+ * when the container allows it and support <code>Range</code> requests of GET requests, answered with
+ * <code>206 Partial Content</code>. For a File or a Path the <code>Last-Modified</code> and <code>ETag</code>
+ * headers are set as well and conditional requests are answered with <code>304 Not Modified</code>.
+ * </p>
  * <!-- END SNIPPET: description -->
  * <p>
  * <b>This result type takes the following parameters:</b>
@@ -44,13 +70,13 @@ import java.io.OutputStream;
  * (default = <code>text/plain</code>).</li>
  *
  * <li><b>contentLength</b> - the stream length in bytes (the browser displays a
- * progress bar).</li>
+ * progress bar), the length of files is determined automatically.</li>
  *
  * <li><b>contentDisposition</b> - the content disposition header value for
  * specifing the file name (default = <code>inline</code>, values are typically
  * <i>attachment;filename="document.pdf"</i>.</li>
  *
- * <li><b>inputName</b> - the name of the InputStream property from the chained
+ * <li><b>inputName</b> - the name of the InputStream, File or Path property from the chained
  * action (default = <code>inputStream</code>).</li>
  *
  * <li><b>bufferSize</b> - the size of the buffer to copy from input to output
@@ -91,6 +117,16 @@ public class StreamResult extends StrutsResultSupport {
 
     public static final String DEFAULT_PARAM = "inputName";
 
+    /**
+     * Minimum size of the buffer used to copy files when the container's output stream is not a channel
+     */
+    protected static final int CHANNEL_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Range headers with more ranges are ignored and the whole content is sent
+     */
+    protected static final int MAX_RANGES = 16;
+
     protected String contentType = "text/plain";
     protected String contentLength;
     protected String contentDisposition = "inline";
@@ -98,6 +134,7 @@ public class StreamResult extends StrutsResultSupport {
     protected String inputName = "inputStream";
     protected InputStream inputStream;
     protected int bufferSize = 1024;
+    protected ResponseContentWriter contentWriter;
     protected boolean allowCaching = true;
 
     public StreamResult() {
@@ -210,6 +247,15 @@ public class StreamResult extends StrutsResultSupport {
         this.inputName = inputName;
     }
 
+    /**
+     * @param contentWriter writes the stream to the response instead of this result
+     * @since 2.6
+     */
+    @Inject(required = false)
+    public void setContentWriter(ResponseContentWriter contentWriter) {
+        this.contentWriter = contentWriter;
+    }
+
     /**
      * @see StrutsResultSupport#doExecute(java.lang.String, com.opensymphony.xwork2.ActionInvocation)
      */
@@ -217,32 +263,49 @@ public class StreamResult extends StrutsResultSupport {
         LOG.debug("Find the Response in context");
 
         OutputStream oOutput = null;
+        FileChannel oChannel = null;
 
         try {
+            long lastModified = -1;
             if (inputStream == null) {
                 LOG.debug("Find the inputstream from the invocation variable stack");
-                inputStream = (InputStream) invocation.getStack().findValue(conditionalParse(inputName, invocation));
+                Object input = invocation.getStack().findValue(conditionalParse(inputName, invocation));
+                if (input instanceof File) {
+                    oChannel = FileChannel.open(((File) input).toPath(), StandardOpenOption.READ);
+                    lastModified = ((File) input).lastModified();
+                } else if (input instanceof Path) {
+                    oChannel = FileChannel.open((Path) input, StandardOpenOption.READ);
+                    lastModified = Files.getLastModifiedTime((Path) input).toMillis();
+                } else {
+                    inputStream = (InputStream) input;
+                }
             }
 
-            if (inputStream == null) {
+            if (inputStream == null && oChannel == null) {
                 String msg = ("Can not find a java.io.InputStream with the name [" + inputName + "] in the invocation stack. " +
                     "Check the <param name=\"inputName\"> tag specified for this action.");
                 LOG.error(msg);
                 throw new IllegalArgumentException(msg);
             }
 
+            if (inputStream instanceof FileInputStream) {
+                oChannel = ((FileInputStream) inputStream).getChannel();
+            }
 
+            HttpServletRequest oRequest = (HttpServletRequest) invocation.getInvocationContext().get(HTTP_REQUEST);
             HttpServletResponse oResponse = (HttpServletResponse) invocation.getInvocationContext().get(HTTP_RESPONSE);
 
             LOG.debug("Set the content type: {};charset{}", contentType, contentCharSet);
+            String oContentType;
             if (contentCharSet != null && ! contentCharSet.equals("")) {
-                oResponse.setContentType(conditionalParse(contentType, invocation)+";charset="+conditionalParse(contentCharSet, invocation));
+                oContentType = conditionalParse(contentType, invocation)+";charset="+conditionalParse(contentCharSet, invocation);
             } else {
-                oResponse.setContentType(conditionalParse(contentType, invocation));
+                oContentType = conditionalParse(contentType, invocation);
             }
+            oResponse.setContentType(oContentType);
 
-            LOG.debug("Set the content length: {}", contentLength);
-            if (contentLength != null) {
+            if (oChannel == null && contentLength != null) {
+                LOG.debug("Set the content length: {}", contentLength);
                 String _contentLength = conditionalParse(contentLength, invocation);
                 int _contentLengthAsInt;
                 try {
@@ -266,11 +329,88 @@ public class StreamResult extends StrutsResultSupport {
                 oResponse.addHeader("Cache-Control", "no-cache");
             }
 
-            oOutput = oResponse.getOutputStream();
-
             LOG.debug("Streaming result [{}] type=[{}] length=[{}] content-disposition=[{}] charset=[{}]",
                     inputName, contentType, contentLength, contentDisposition, contentCharSet);
 
+            if (oChannel != null) {
+                long oOffset = oChannel.position();
+                long oLength = Math.max(0, oChannel.size() - oOffset);
+                boolean oGet = oRequest != null && "GET".equalsIgnoreCase(oRequest.getMethod());
+
+                String oETag = null;
+                if (lastModified > 0) {
+                    oETag = "\"" + Long.toHexString(oLength) + "-" + Long.toHexString(lastModified) + "\"";
+                    oResponse.setDateHeader("Last-Modified", lastModified);
+                    oResponse.setHeader("ETag", oETag);
+                    if (oGet && isNotModified(oRequest, oETag, lastModified)) {
+                        LOG.debug("Content of [{}] not modified", inputName);
+                        oResponse.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                        return;
+                    }
+                }
+
+                List<ByteRange> oRanges = null;
+                if (oGet) {
+                    oResponse.setHeader("Accept-Ranges", "bytes");
+                    String oRange = oRequest.getHeader("Range");
+                    if (oRange != null && isRangeApplicable(oRequest, oETag, lastModified)) {
+                        oRanges = parseRanges(oRange, oLength);
+                    }
+                }
+
+                if (oRanges != null && oRanges.isEmpty()) {
+                    LOG.debug("Requested range [{}] not satisfiable for length {}", oRequest.getHeader("Range"), oLength);
+                    oResponse.setHeader("Content-Range", "bytes */" + oLength);
+                    oResponse.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+
+                if (oRanges == null) {
+                    oResponse.setHeader("Content-Length", String.valueOf(oLength));
+                    if (contentWriter == null) {
+                        oOutput = oResponse.getOutputStream();
+                        transfer(oChannel, oOffset, oLength, oOutput);
+                        oOutput.flush();
+                        return;
+                    }
+                    if (inputStream == null) {
+                        inputStream = Channels.newInputStream(oChannel);
+                    }
+                } else {
+                    oResponse.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                    oOutput = oResponse.getOutputStream();
+                    if (oRanges.size() == 1) {
+                        ByteRange range = oRanges.get(0);
+                        oResponse.setHeader("Content-Range", range.toContentRange(oLength));
+                        oResponse.setHeader("Content-Length", String.valueOf(range.getLength()));
+                        transfer(oChannel, oOffset + range.getStart(), range.getLength(), oOutput);
+                    } else {
+                        String boundary = Long.toHexString(System.nanoTime()) + Long.toHexString(oLength);
+                        oResponse.setContentType("multipart/byteranges; boundary=" + boundary);
+                        for (ByteRange range : oRanges) {
+                            String partHeader = "\r\n--" + boundary + "\r\nContent-Type: " + oContentType
+                                    + "\r\nContent-Range: " + range.toContentRange(oLength) + "\r\n\r\n";
+                            oOutput.write(partHeader.getBytes(StandardCharsets.ISO_8859_1));
+                            transfer(oChannel, oOffset + range.getStart(), range.getLength(), oOutput);
+                        }
+                        oOutput.write(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.ISO_8859_1));
+                    }
+                    oOutput.flush();
+                    return;
+                }
+            }
+
+            if (contentWriter != null) {
+                InputStream content = inputStream;
+                // the writer closes the stream, possibly after this method returned
+                inputStream = null;
+                oChannel = null;
+                contentWriter.write(oRequest, oResponse, content, bufferSize);
+                return;
+            }
+
+            oOutput = oResponse.getOutputStream();
+
         	LOG.debug("Streaming to output buffer +++ START +++");
             byte[] oBuff = new byte[bufferSize];
             int iSize;
@@ -286,10 +426,202 @@ public class StreamResult extends StrutsResultSupport {
             if (inputStream != null) {
                 inputStream.close();
             }
+            if (oChannel != null) {
+                oChannel.close();
+            }
             if (oOutput != null) {
                 oOutput.close();
             }
         }
     }
 
+    /**
+     * Copies a part of the file to the output, with {@link FileChannel#transferTo(long, long, WritableByteChannel)}
+     * when the container's output stream is a channel, otherwise through a buffer of at least
+     * {@link #CHANNEL_BUFFER_SIZE} bytes. The output streams of Tomcat, Jetty and Undertow aren't channels,
+     * so with these containers the file is always copied through the buffer.
+     *
+     * @param channel the file
+     * @param position position in the file of the first byte to copy
+     * @param count number of bytes to copy
+     * @param output the response output stream
+     * @throws IOException if reading or writing fails
+     */
+    protected void transfer(FileChannel channel, long position, long count, OutputStream output) throws IOException {
+        LOG.debug("Transferring {} bytes from position {}", count, position);
+        if (output instanceof WritableByteChannel) {
+            WritableByteChannel target = (WritableByteChannel) output;
+            long transferred;
+            while (count > 0 && (transferred = channel.transferTo(position, count, target)) > 0) {
+                position += transferred;
+                count -= transferred;
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(Math.max(bufferSize, CHANNEL_BUFFER_SIZE));
+        while (count > 0) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), count));
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("File ended " + count + " bytes before the expected length");
+            }
+            output.write(buffer.array(), 0, read);
+            position += read;
+            count -= read;
+        }
+    }
+
+    /**
+     * @param request the current request
+     * @param eTag the entity tag of the file
+     * @param lastModified last modification time of the file
+     * @return true if the client's copy matches the If-None-Match or If-Modified-Since header
+     */
+    protected boolean isNotModified(HttpServletRequest request, String eTag, long lastModified) {
+        return ConditionalRequestHelper.isNotModified(request, eTag, lastModified);
+    }
+
+    /**
+     * @param request the current request
+     * @param eTag the entity tag of the file, null if unknown
+     * @param lastModified last modification time of the file, or -1 if unknown
+     * @return true if there is no If-Range header or it matches the current version of the file
+     */
+    protected boolean isRangeApplicable(HttpServletRequest request, String eTag, long lastModified) {
+        String ifRange = request.getHeader("If-Range");
+        if (ifRange == null) {
+            return true;
+        }
+        ifRange = ifRange.trim();
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(eTag);
+        }
+        if (lastModified <= 0) {
+            return false;
+        }
+        try {
+            return lastModified / 1000 == request.getDateHeader("If-Range") / 1000;
+        } catch (IllegalArgumentException e) {
+            LOG.debug("Ignoring malformed If-Range header", e);
+            return false;
+        }
+    }
+
+    /**
+     * Parses a Range header as defined by RFC 7233.
+     *
+     * @param header value of the Range header
+     * @param length length of the content
+     * @return the satisfiable ranges sorted by position, with overlapping and adjacent ranges merged,
+     *         an empty list if none is satisfiable
+     *         or null if the header is malformed or asks for too many ranges and has to be ignored
+     */
+    protected List<ByteRange> parseRanges(String header, long length) {
+        if (!header.startsWith("bytes=")) {
+            return null;
+        }
+        String[] specs = header.substring("bytes=".length()).split(",");
+        if (specs.length > MAX_RANGES) {
+            LOG.debug("Ignoring Range header with {} ranges", specs.length);
+            return null;
+        }
+
+        List<ByteRange> ranges = new ArrayList<>(specs.length);
+        for (String spec : specs) {
+            int dash = spec.indexOf('-');
+            if (dash < 0) {
+                return null;
+            }
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            try {
+                long start;
+                long end;
+                if (first.isEmpty()) {
+                    long suffix = Long.parseLong(last);
+                    if (suffix < 0) {
+                        return null;
+                    }
+                    start = Math.max(0, length - suffix);
+                    end = length - 1;
+                } else {
+                    start = Long.parseLong(first);
+                    end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+                    if (start < 0 || end < start) {
+                        return null;
+                    }
+                    end = Math.min(end, length - 1);
+                }
+                if (start < length && start <= end) {
+                    ranges.add(new ByteRange(start, end));
+                }
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return mergeRanges(ranges);
+    }
+
+    /**
+     * Coalesces overlapping and adjacent ranges, as allowed by RFC 7233, so no byte is sent more than once.
+     */
+    private List<ByteRange> mergeRanges(List<ByteRange> ranges) {
+        if (ranges.size() < 2) {
+            return ranges;
+        }
+        Collections.sort(ranges, new Comparator<ByteRange>() {
+            @Override
+            public int compare(ByteRange r1, ByteRange r2) {
+                return Long.compare(r1.getStart(), r2.getStart());
+            }
+        });
+
+        List<ByteRange> merged = new ArrayList<>(ranges.size());
+        ByteRange current = ranges.get(0);
+        for (int i = 1; i < ranges.size(); i++) {
+            ByteRange next = ranges.get(i);
+            if (next.getStart() <= current.getEnd() + 1) {
+                if (next.getEnd() > current.getEnd()) {
+                    current = new ByteRange(current.getStart(), next.getEnd());
+                }
+            } else {
+                merged.add(current);
+                current = next;
+            }
+        }
+        merged.add(current);
+        return merged;
+    }
+
+    /**
+     * Inclusive range of bytes requested with a Range header.
+     */
+    protected static class ByteRange {
+
+        private final long start;
+        private final long end;
+
+        public ByteRange(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        public long getStart() {
+            return start;
+        }
+
+        public long getEnd() {
+            return end;
+        }
+
+        public long getLength() {
+            return end - start + 1;
+        }
+
+        public String toContentRange(long totalLength) {
+            return "bytes " + start + "-" + end + "/" + totalLength;
+        }
+    }
+
 }
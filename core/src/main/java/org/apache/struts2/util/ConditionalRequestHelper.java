@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Evaluates the conditional request headers of RFC 7232 for content served directly by the framework.
+ */
+public final class ConditionalRequestHelper {
+
+    private static final Logger LOG = LogManager.getLogger(ConditionalRequestHelper.class);
+
+    private ConditionalRequestHelper() {
+    }
+
+    /**
+     * If-None-Match takes precedence over If-Modified-Since, the latter is compared with a precision of seconds.
+     *
+     * @param request the current request
+     * @param eTag the entity tag of the content being sent, null if unknown
+     * @param lastModified last modification time of the content
+     * @return true if the client's copy matches the If-None-Match or If-Modified-Since header
+     */
+    public static boolean isNotModified(HttpServletRequest request, String eTag, long lastModified) {
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            for (String candidate : ifNoneMatch.split(",")) {
+                candidate = candidate.trim();
+                if (candidate.startsWith("W/")) {
+                    candidate = candidate.substring(2);
+                }
+                if ("*".equals(candidate) || candidate.equals(eTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        try {
+            long ifModifiedSince = request.getDateHeader("If-Modified-Since");
+            return ifModifiedSince > 0 && lastModified / 1000 <= ifModifiedSince / 1000;
+        } catch (IllegalArgumentException e) {
+            LOG.debug("Ignoring malformed If-Modified-Since header: '{}'", request.getHeader("If-Modified-Since"));
+            return false;
+        }
+    }
+
+}
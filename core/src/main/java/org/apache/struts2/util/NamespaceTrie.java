@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Quickly finds the longest namespace being a prefix of a path, a namespace matches
+ * only if it ends at the end of the path or is followed by a '/'.
+ *
+ * @since 2.6
+ */
+public class NamespaceTrie {
+
+    private final Node root = new Node();
+    private int size;
+
+    public void put(String namespace) {
+        Node current = root;
+        for (int i = 0; i < namespace.length(); i++) {
+            char c = namespace.charAt(i);
+            Node next = current.next.get(c);
+            if (next == null) {
+                next = new Node();
+                current.next.put(c, next);
+            }
+            current = next;
+        }
+        if (!current.namespace) {
+            current.namespace = true;
+            size++;
+        }
+    }
+
+    public boolean contains(String namespace) {
+        Node current = root;
+        for (int i = 0; i < namespace.length() && current != null; i++) {
+            current = current.next.get(namespace.charAt(i));
+        }
+        return current != null && current.namespace;
+    }
+
+    /**
+     * @param path the path to match, e.g. "/my/namespace"
+     * @return the longest matching namespace or empty string if none matches
+     */
+    public String findLongestNamespace(String path) {
+        int longest = 0;
+        Node current = root;
+        for (int i = 0; i < path.length(); i++) {
+            current = current.next.get(path.charAt(i));
+            if (current == null) {
+                break;
+            }
+            if (current.namespace && (i + 1 == path.length() || path.charAt(i + 1) == '/')) {
+                longest = i + 1;
+            }
+        }
+        return path.substring(0, longest);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    static class Node {
+        boolean namespace;
+        Map<Character, Node> next = new HashMap<>(4);
+    }
+}
@@ -29,12 +29,17 @@ import com.opensymphony.xwork2.mock.MockResult;
 import com.opensymphony.xwork2.ognl.OgnlUtil;
 import com.opensymphony.xwork2.util.ValueStack;
 import com.opensymphony.xwork2.util.ValueStackFactory;
+import ognl.NoSuchPropertyException;
+import ognl.OgnlException;
 import org.apache.struts2.dispatcher.HttpParameters;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
@@ -400,6 +405,105 @@ public class DefaultActionInvocationTest extends XWorkTestCase {
         }
     }
 
+    public void testActionMethodInvokerFallsBackToOgnl() throws Exception {
+        DefaultActionInvocation dai = new DefaultActionInvocation(new HashMap<String, Object>(), false);
+        dai.stack = container.getInstance(ValueStackFactory.class).createValueStack();
+        dai.ognlUtil = container.getInstance(OgnlUtil.class);
+        SimpleAction action = new SimpleAction();
+        action.setFoo(1);
+
+        MockActionProxy actionProxy = new MockActionProxy();
+        actionProxy.setMethod("execute");
+        dai.proxy = actionProxy;
+
+        String result = dai.invokeAction(action, null);
+
+        assertEquals(Action.SUCCESS, result);
+        assertEquals(1, action.getBaz());
+        assertTrue(dai.getActionMethodInvoker() instanceof OgnlActionMethodInvoker);
+    }
+
+    public void testUndefinedMethodIsReportedAsIllegalArgument() throws Exception {
+        DefaultActionInvocation dai = new DefaultActionInvocation(new HashMap<String, Object>(), false);
+        dai.stack = container.getInstance(ValueStackFactory.class).createValueStack();
+        dai.setActionMethodInvoker(new ActionMethodInvoker() {
+            @Override
+            public Object invoke(Object action, String methodName, Map<String, Object> context) throws OgnlException {
+                throw new NoSuchPropertyException(action, methodName);
+            }
+        });
+        SimpleAction action = new SimpleAction();
+        dai.action = action;
+
+        MockActionProxy actionProxy = new MockActionProxy();
+        actionProxy.setMethod("notExisting");
+        dai.proxy = actionProxy;
+
+        try {
+            dai.invokeAction(action, null);
+            fail("IllegalArgumentException expected");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The notExisting() is not defined in action " + SimpleAction.class, e.getMessage());
+        }
+    }
+
+    public void testInvokeWithAsyncStage() throws Exception {
+        DefaultActionInvocation dai = new DefaultActionInvocation(new HashMap<String, Object>(), false);
+        dai.stack = container.getInstance(ValueStackFactory.class).createValueStack();
+        dai.setActionMethodInvoker(container.getInstance(ActionMethodInvoker.class));
+
+        final Object[] asyncActionResult = new Object[1];
+        dai.setAsyncManager(new AsyncManager() {
+            @Override
+            public boolean hasAsyncActionResult() {
+                return asyncActionResult[0] != null;
+            }
+
+            @Override
+            public Object getAsyncActionResult() {
+                return asyncActionResult[0];
+            }
+
+            @Override
+            public void invokeAsyncAction(Callable asyncAction) {
+                // the default implementation for stages adapts them to a callable
+                try {
+                    asyncActionResult[0] = asyncAction.call();
+                } catch (Exception e) {
+                    asyncActionResult[0] = e;
+                }
+            }
+        });
+
+        final CompletableFuture<String> future = new CompletableFuture<>();
+        dai.action = new Callable<CompletionStage<String>>() {
+            @Override
+            public CompletionStage<String> call() throws Exception {
+                return future;
+            }
+        };
+
+        MockActionProxy actionProxy = new MockActionProxy();
+        actionProxy.setMethod("call");
+        dai.proxy = actionProxy;
+        dai.interceptors = new ArrayList<InterceptorMapping>().iterator();
+        dai.ognlUtil = new OgnlUtil();
+
+        future.complete("success");
+        dai.invoke();
+
+        assertSame("the stage should be saved", future, dai.asyncStage);
+        assertFalse("invocation should not be executed", dai.executed);
+        assertNull("a null result should be passed to upper and wait for the async result", dai.resultCode);
+        assertEquals("success", asyncActionResult[0]);
+
+        dai.invoke();
+
+        assertNull("async stage should be cleared", dai.asyncStage);
+        assertTrue("invocation should be executed", dai.executed);
+        assertEquals("success", dai.resultCode);
+    }
+
     public void testActionEventListener() throws Exception {
         ActionProxy actionProxy = actionProxyFactory.createActionProxy("",
                 "ExceptionFoo", "exceptionMethod", new HashMap<String, Object>());
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2;
+
+import com.opensymphony.xwork2.util.ValueStackFactory;
+import com.opensymphony.xwork2.util.reflection.ReflectionContextState;
+import ognl.MethodFailedException;
+
+import java.util.Map;
+
+public class DefaultActionMethodInvokerTest extends XWorkTestCase {
+
+    private DefaultActionMethodInvoker invoker;
+    private Map<String, Object> context;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        invoker = new DefaultActionMethodInvoker();
+        context = container.getInstance(ValueStackFactory.class).createValueStack().getContext();
+    }
+
+    public void testInvokePublicMethod() throws Exception {
+        Object result = invoker.invoke(new TestAction(), "execute", context);
+
+        assertEquals(Action.SUCCESS, result);
+    }
+
+    public void testInvokeMethodOfNotPublicClass() throws Exception {
+        Object action = new TestAction() {
+            @Override
+            public String execute() {
+                return Action.INPUT;
+            }
+        };
+
+        assertEquals(Action.INPUT, invoker.invoke(action, "execute", context));
+    }
+
+    public void testInvokeVoidMethod() throws Exception {
+        TestAction action = new TestAction();
+
+        assertNull(invoker.invoke(action, "doSomething", context));
+        assertTrue(action.called);
+    }
+
+    public void testMethodIsResolvedOnce() throws Exception {
+        assertSame(invoker.getActionMethod(TestAction.class, "execute"), invoker.getActionMethod(TestAction.class, "execute"));
+        assertNull(invoker.getActionMethod(TestAction.class, "notExists"));
+    }
+
+    public void testMissingMethod() throws Exception {
+        try {
+            invoker.invoke(new TestAction(), "notExists", context);
+            fail("MethodFailedException expected");
+        } catch (MethodFailedException e) {
+            assertTrue(e.getReason() instanceof NoSuchMethodException);
+        }
+    }
+
+    public void testNotPublicMethod() throws Exception {
+        try {
+            invoker.invoke(new TestAction(), "hidden", context);
+            fail("MethodFailedException expected");
+        } catch (MethodFailedException e) {
+            assertTrue(e.getReason() instanceof NoSuchMethodException);
+        }
+    }
+
+    public void testStaticMethodIsNotAccessible() throws Exception {
+        try {
+            invoker.invoke(new TestAction(), "staticMethod", context);
+            fail("MethodFailedException expected");
+        } catch (MethodFailedException e) {
+            assertTrue(e.getReason() instanceof NoSuchMethodException);
+        }
+    }
+
+    public void testExcludedClassMethodIsNotAccessible() throws Exception {
+        try {
+            invoker.invoke(new TestAction(), "notify", context);
+            fail("MethodFailedException expected");
+        } catch (MethodFailedException e) {
+            assertTrue(e.getReason() instanceof NoSuchMethodException);
+        }
+    }
+
+    public void testMethodThrowsException() throws Exception {
+        try {
+            invoker.invoke(new TestAction(), "fail", context);
+            fail("MethodFailedException expected");
+        } catch (MethodFailedException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+            assertEquals("failed", e.getCause().getMessage());
+        }
+    }
+
+    public void testMethodErrorIsNotWrapped() throws Exception {
+        try {
+            invoker.invoke(new TestAction(), "overflow", context);
+            fail("StackOverflowError expected");
+        } catch (StackOverflowError e) {
+            assertEquals("overflow", e.getMessage());
+        }
+    }
+
+    public void testDenyMethodExecution() throws Exception {
+        ReflectionContextState.setDenyMethodExecution(context, true);
+
+        assertNull(invoker.invoke(new TestAction(), "execute", context));
+    }
+
+    public void testInjectedIntoActionInvocation() throws Exception {
+        DefaultActionInvocation invocation = new DefaultActionInvocation(null, false);
+        container.inject(invocation);
+
+        assertTrue(invocation.actionMethodInvoker instanceof DefaultActionMethodInvoker);
+    }
+
+    public static class TestAction {
+
+        boolean called;
+
+        public String execute() {
+            return Action.SUCCESS;
+        }
+
+        public void doSomething() {
+            called = true;
+        }
+
+        public String fail() {
+            throw new IllegalStateException("failed");
+        }
+
+        public String overflow() {
+            throw new StackOverflowError("overflow");
+        }
+
+        protected String hidden() {
+            return Action.SUCCESS;
+        }
+
+        public static String staticMethod() {
+            return Action.SUCCESS;
+        }
+    }
+}
@@ -21,6 +21,8 @@ package com.opensymphony.xwork2;
 import com.opensymphony.xwork2.config.providers.XmlConfigurationProvider;
 import com.opensymphony.xwork2.mock.MockActionInvocation;
 import org.apache.struts2.StrutsInternalTestCase;
+import org.apache.struts2.metrics.ActionStatistics;
+import org.apache.struts2.metrics.DefaultStrutsMetrics;
 import org.junit.Test;
 
 public class DefaultActionProxyTest extends StrutsInternalTestCase {
@@ -39,4 +41,37 @@ public class DefaultActionProxyTest extends StrutsInternalTestCase {
             assertEquals(e.getMessage(), "Method notAllowed for action Default is not allowed!");
         }
     }
-}
\ No newline at end of file
+
+    public void testExecutionIsRecordedInMetrics() throws Exception {
+        MockActionInvocation invocation = new MockActionInvocation();
+        invocation.setResultCode(Action.SUCCESS);
+        DefaultStrutsMetrics metrics = new DefaultStrutsMetrics();
+        DefaultActionProxy dap = new DefaultActionProxy(invocation, "/metrics", "recorded", null, true, true);
+        container.inject(dap);
+        dap.setMetrics(metrics);
+
+        assertEquals(Action.SUCCESS, dap.execute());
+
+        MockActionInvocation failing = new MockActionInvocation() {
+            @Override
+            public String invoke() throws Exception {
+                throw new IllegalStateException("failed");
+            }
+        };
+        dap = new DefaultActionProxy(failing, "/metrics", "recorded", null, true, true);
+        container.inject(dap);
+        dap.setMetrics(metrics);
+        try {
+            dap.execute();
+            fail("Must throw exception!");
+        } catch (IllegalStateException expected) {
+            // expected
+        }
+
+        ActionStatistics statistics = metrics.getActionStatistics().get("/metrics/recorded");
+        assertEquals(2, statistics.getRequestCount());
+        assertEquals(1, statistics.getExceptionCount());
+        assertEquals(Long.valueOf(1), statistics.getResultCounts().get(Action.SUCCESS));
+        assertEquals(Long.valueOf(1), statistics.getExceptionCounts().get(IllegalStateException.class.getName()));
+    }
+}
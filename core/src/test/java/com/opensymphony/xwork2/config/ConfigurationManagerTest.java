@@ -28,7 +28,16 @@ import com.opensymphony.xwork2.inject.Container;
 import com.opensymphony.xwork2.inject.ContainerBuilder;
 import com.opensymphony.xwork2.util.location.LocatableProperties;
 
+import org.apache.struts2.StrutsConstants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 
 /**
@@ -58,6 +67,93 @@ public class ConfigurationManagerTest extends XWorkTestCase {
         configProviderMock.expect("destroy");
     }
 
+    public void testConfigurationReloadSwapsInNewConfiguration() {
+        Configuration oldConfiguration = configuration;
+
+        configProviderMock.expectAndReturn("needsReload", Boolean.TRUE);
+        configProviderMock.expect("init", C.isA(Configuration.class));
+        configProviderMock.expect("register", C.ANY_ARGS);
+        configProviderMock.expect("loadPackages", C.ANY_ARGS);
+        configProviderMock.expect("destroy", C.ANY_ARGS);
+        configProviderMock.matchAndReturn("toString", "mock");
+        configuration = configurationManager.getConfiguration();
+        configProviderMock.verify();
+
+        assertNotSame(oldConfiguration, configuration);
+        assertNotSame(oldConfiguration.getContainer(), configuration.getContainer());
+        assertSame(configuration, configuration.getContainer().getInstance(Configuration.class));
+        assertNotNull(oldConfiguration.getRuntimeConfiguration());
+
+        // this will be called in teardown
+        configProviderMock.expect("destroy");
+    }
+
+    public void testReloadSwapsInNewConfiguration() {
+        final List<Configuration> reloaded = new ArrayList<>();
+        configurationManager.addReloadListener(new ConfigurationReloadListener() {
+            public void configurationReloaded(Configuration configuration) {
+                reloaded.add(configuration);
+            }
+        });
+
+        configProviderMock.expect("init", C.isA(Configuration.class));
+        configProviderMock.expect("register", C.ANY_ARGS);
+        configProviderMock.expect("loadPackages", C.ANY_ARGS);
+        configurationManager.reload();
+        configProviderMock.verify();
+
+        Configuration newConfiguration = configurationManager.getConfiguration();
+        assertNotSame(configuration, newConfiguration);
+        assertNotSame(configuration.getContainer(), newConfiguration.getContainer());
+        assertNotNull(configuration.getRuntimeConfiguration());
+        assertEquals(Collections.singletonList(newConfiguration), reloaded);
+
+        // this will be called in teardown
+        configProviderMock.expect("destroy");
+    }
+
+    public void testReloadIsCheckedInBackground() throws Exception {
+        final AtomicBoolean needsReload = new AtomicBoolean(false);
+        final CountDownLatch reloaded = new CountDownLatch(1);
+        final AtomicReference<Thread> checkThread = new AtomicReference<>();
+        ConfigurationManager configurationManager = new ConfigurationManager(Container.DEFAULT_NAME);
+        configurationManager.setReloadCheckInterval(10);
+        configurationManager.addContainerProvider(new XWorkConfigurationProvider());
+        configurationManager.addContainerProvider(new ConfigurationProvider() {
+            public void destroy() {
+            }
+            public void init(Configuration configuration) throws ConfigurationException {
+            }
+            public void loadPackages() throws ConfigurationException {
+            }
+            public boolean needsReload() {
+                return needsReload.getAndSet(false);
+            }
+            public void register(ContainerBuilder builder, LocatableProperties props) throws ConfigurationException {
+                props.setProperty(StrutsConstants.STRUTS_CONFIGURATION_XML_RELOAD, "true");
+            }
+        });
+        configurationManager.addReloadListener(new ConfigurationReloadListener() {
+            public void configurationReloaded(Configuration configuration) {
+                checkThread.set(Thread.currentThread());
+                reloaded.countDown();
+            }
+        });
+
+        Configuration oldConfiguration = configurationManager.getConfiguration();
+        assertSame(oldConfiguration, configurationManager.getConfiguration());
+
+        needsReload.set(true);
+        assertTrue(reloaded.await(5, TimeUnit.SECONDS));
+        assertNotSame(oldConfiguration, configurationManager.getConfiguration());
+        assertNotSame(Thread.currentThread(), checkThread.get());
+
+        configurationManager.destroyConfiguration();
+        checkThread.get().join(5000);
+        assertFalse(checkThread.get().isAlive());
+        assertNull(checkThread.get().getContextClassLoader());
+    }
+
     public void testNoConfigurationReload() {
         configProviderMock.expectAndReturn("needsReload", Boolean.FALSE);
         // now check that it doesn't try to reload
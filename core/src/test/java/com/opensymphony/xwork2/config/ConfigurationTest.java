@@ -30,6 +30,7 @@ import com.opensymphony.xwork2.config.providers.XmlConfigurationProvider;
 import com.opensymphony.xwork2.inject.ContainerBuilder;
 import com.opensymphony.xwork2.mock.MockInterceptor;
 import com.opensymphony.xwork2.test.StubConfigurationProvider;
+import com.opensymphony.xwork2.util.CacheStats;
 import com.opensymphony.xwork2.util.location.LocatableProperties;
 import org.apache.struts2.dispatcher.HttpParameters;
 
@@ -116,6 +117,28 @@ public class ConfigurationTest extends XWorkTestCase {
         assertTrue("Wrong parameter, "+p.get("1"), "dog".equals(p.get("1")));
     }
 
+    public void testWildcardLookupIsCached() {
+        RuntimeConfiguration configuration = configurationManager.getConfiguration().getRuntimeConfiguration();
+
+        ActionConfig config = configuration.getActionConfig("/animals/dog", "commandTest");
+        ActionConfig cached = configuration.getActionConfig("/animals/dog", "commandTest");
+        assertSame(config, cached);
+
+        assertNull(configuration.getActionConfig("/unknown", "doesNotExist"));
+        assertNull(configuration.getActionConfig("/unknown", "doesNotExist"));
+
+        CacheStats stats = configuration.getActionConfigCacheStats();
+        assertEquals(2, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(2, stats.getSize());
+
+        configurationManager.reload();
+
+        RuntimeConfiguration reloaded = configurationManager.getConfiguration().getRuntimeConfiguration();
+        assertNotSame(configuration, reloaded);
+        assertEquals(0, reloaded.getActionConfigCacheStats().getSize());
+    }
+
     public void testGlobalResults() {
         try {
             ActionProxy proxy = actionProxyFactory.createActionProxy("", "Foo", null, null);
@@ -19,6 +19,8 @@
 package com.opensymphony.xwork2.config.entities;
 
 import com.opensymphony.xwork2.XWorkTestCase;
+import com.opensymphony.xwork2.mock.MockInterceptor;
+import com.opensymphony.xwork2.mock.MockLazyInterceptor;
 import com.opensymphony.xwork2.util.location.LocationImpl;
 
 /**
@@ -44,4 +46,31 @@ public class ActionConfigTest extends XWorkTestCase {
         assertTrue("Wrong toString(): "+cfg.toString(),
             "{ActionConfig bob (foo.Bar) - foo/xwork.xml:10:12 - allowedMethods=[]}".equals(cfg.toString()));
     }
+
+    public void testInterceptorChain() {
+        MockInterceptor interceptor = new MockInterceptor();
+        MockLazyInterceptor lazyInterceptor = new MockLazyInterceptor();
+        ActionConfig cfg = new ActionConfig.Builder("", "bob", "foo.Bar")
+                .addInterceptor(new InterceptorMapping("mock", interceptor))
+                .addInterceptor(new InterceptorMapping("lazy", lazyInterceptor))
+                .build();
+
+        InterceptorChain chain = cfg.getInterceptorChain();
+
+        assertSame(chain, cfg.getInterceptorChain());
+        assertEquals(2, chain.size());
+        assertSame(interceptor, chain.getInterceptor(0));
+        assertSame(lazyInterceptor, chain.getInterceptor(1));
+        assertEquals("lazy", chain.getMapping(1).getName());
+        assertFalse(chain.isWithLazyParams(0));
+        assertTrue(chain.isWithLazyParams(1));
+        assertTrue(chain.hasLazyParams());
+    }
+
+    public void testEmptyInterceptorChain() {
+        ActionConfig cfg = new ActionConfig.Builder("", "bob", "foo.Bar").build();
+
+        assertEquals(0, cfg.getInterceptorChain().size());
+        assertFalse(cfg.getInterceptorChain().hasLazyParams());
+    }
 }
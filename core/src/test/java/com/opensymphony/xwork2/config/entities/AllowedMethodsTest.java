@@ -22,6 +22,7 @@ import junit.framework.TestCase;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.regex.PatternSyntaxException;
 
 public class AllowedMethodsTest extends TestCase {
 
@@ -117,4 +118,93 @@ public class AllowedMethodsTest extends TestCase {
         assertFalse(allowedMethods.isAllowed("someOtherMethod"));
     }
 
+    public void testMixedMethods() throws Exception {
+        // given
+        Set<String> methods = new HashSet<>();
+        methods.add("execute");
+        methods.add("cancel*");
+        methods.add("regex:save([A-Z][a-z]*)");
+        methods.add("regex:(?i)DELETE");
+
+        // when
+        AllowedMethods allowedMethods = AllowedMethods.build(false, methods, ActionConfig.DEFAULT_METHOD_REGEX);
+
+        // then
+        assertEquals(4, allowedMethods.list().size());
+        assertTrue(allowedMethods.isAllowed("execute"));
+        assertTrue(allowedMethods.isAllowed("cancelAction"));
+        assertTrue(allowedMethods.isAllowed("saveUser"));
+        assertTrue(allowedMethods.isAllowed("delete"));
+        assertFalse(allowedMethods.isAllowed("Delete2"));
+        assertFalse(allowedMethods.isAllowed("saveuser"));
+        assertFalse(allowedMethods.isAllowed("executeAll"));
+        assertFalse(allowedMethods.isAllowed("xcancel"));
+        // cached decisions
+        assertTrue(allowedMethods.isAllowed("saveUser"));
+        assertFalse(allowedMethods.isAllowed("saveuser"));
+    }
+
+    public void testPatternsWithGroupReferences() throws Exception {
+        // given
+        Set<String> methods = new HashSet<>();
+        methods.add("regex:(a)\\1");
+        methods.add("regex:(?<name>b)\\k<name>");
+
+        // when
+        AllowedMethods allowedMethods = AllowedMethods.build(true, methods, ActionConfig.DEFAULT_METHOD_REGEX);
+
+        // then
+        assertTrue(allowedMethods.isAllowed("aa"));
+        assertTrue(allowedMethods.isAllowed("bb"));
+        assertFalse(allowedMethods.isAllowed("ab"));
+    }
+
+    public void testPatternWithUnbalancedGroupIsRejected() throws Exception {
+        // given
+        Set<String> methods = new HashSet<>();
+        methods.add("regex:save");
+        methods.add("regex:foo)|(?:.*");
+
+        // when
+        try {
+            AllowedMethods.build(true, methods, ActionConfig.DEFAULT_METHOD_REGEX);
+            fail("Invalid pattern must not be accepted");
+        } catch (PatternSyntaxException e) {
+            // then
+            assertEquals("foo)|(?:.*", e.getPattern());
+        }
+    }
+
+    public void testQuotedPatternIsNotCombined() throws Exception {
+        // given
+        Set<String> methods = new HashSet<>();
+        methods.add("regex:\\Qa.b");
+        methods.add("regex:save");
+
+        // when
+        AllowedMethods allowedMethods = AllowedMethods.build(true, methods, ActionConfig.DEFAULT_METHOD_REGEX);
+
+        // then
+        assertTrue(allowedMethods.isAllowed("a.b"));
+        assertFalse(allowedMethods.isAllowed("axb"));
+        assertTrue(allowedMethods.isAllowed("save"));
+    }
+
+    public void testDecisionCacheIsBounded() throws Exception {
+        // given
+        Set<String> methods = new HashSet<>();
+        methods.add("regex:method[0-9]+");
+        AllowedMethods allowedMethods = AllowedMethods.build(true, methods, ActionConfig.DEFAULT_METHOD_REGEX);
+
+        // when
+        for (int i = 0; i < AllowedMethods.MAX_CACHED_DECISIONS * 2; i++) {
+            assertTrue(allowedMethods.isAllowed("method" + i));
+            assertFalse(allowedMethods.isAllowed("other" + i));
+        }
+
+        // then
+        assertTrue(allowedMethods.isAllowed("method" + AllowedMethods.MAX_CACHED_DECISIONS * 3));
+        assertFalse(allowedMethods.isAllowed("other" + AllowedMethods.MAX_CACHED_DECISIONS * 3));
+    }
+
 }
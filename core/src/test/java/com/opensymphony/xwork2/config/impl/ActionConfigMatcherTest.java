@@ -26,6 +26,7 @@ import com.opensymphony.xwork2.config.entities.ResultConfig;
 import com.opensymphony.xwork2.util.WildcardHelper;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class ActionConfigMatcherTest extends XWorkTestCase {
@@ -142,6 +143,39 @@ public class ActionConfigMatcherTest extends XWorkTestCase {
         
     }
 
+    public void testCompiledWildcardsMatchLikeSequential() {
+        Map<String, ActionConfig> configs = new LinkedHashMap<>();
+        String[] patterns = {"user_*", "*_list", "*_*_*", "*_*", "admin/**/edit", "admin/*", "**/view", "*!*", "a*a", "lit\\*"};
+        for (String pattern : patterns) {
+            configs.put(pattern, new ActionConfig.Builder("package", pattern, "{1}.{2}.{3}Action")
+                    .methodName("{2}")
+                    .addParam("pattern", pattern)
+                    .addParam("first", "{1}")
+                    .addParam("second", "{2}")
+                    .setStrictMethodInvocation(false)
+                    .build());
+        }
+
+        ActionConfigMatcher sequential = new ActionConfigMatcher(new WildcardHelper(), configs, true);
+        ActionConfigMatcher compiled = new ActionConfigMatcher(new WildcardHelper(), configs, true, true);
+
+        String[] values = {"user_edit", "user_", "order_list", "a_b_c", "a_b", "a__b", "_", "admin/x/y/edit",
+                "admin/edit", "admin/x", "admin/x/y", "x/y/view", "view", "foo!bar", "foo", "aa", "aba", "a",
+                "lit*", "lit", "", "none", "/user_x"};
+        for (String value : values) {
+            ActionConfig expected = sequential.match(value);
+            ActionConfig actual = compiled.match(value);
+            if (expected == null) {
+                assertNull("[" + value + "] shouldn't be matched", actual);
+            } else {
+                assertNotNull("[" + value + "] should be matched", actual);
+                assertEquals(value, expected.getParams(), actual.getParams());
+                assertEquals(value, expected.getClassName(), actual.getClassName());
+                assertEquals(value, expected.getMethodName(), actual.getMethodName());
+            }
+        }
+    }
+
     private Map<String,ActionConfig> buildActionConfigMap() {
         Map<String, ActionConfig> map = new HashMap<>();
 
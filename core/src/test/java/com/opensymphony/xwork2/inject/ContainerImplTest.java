@@ -20,7 +20,13 @@ package com.opensymphony.xwork2.inject;
 
 import junit.framework.TestCase;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.security.Permission;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 
 /**
@@ -89,6 +95,81 @@ public class ContainerImplTest extends TestCase {
         }
     }
 
+    public void testInjectorsUseMethodHandles() throws Exception {
+        ContainerBuilder cb = new ContainerBuilder();
+        cb.constant("methodCheck.name", "Lukasz");
+        cb.constant("methodCheck.age", 42);
+        cb.constant("fieldCheck.name", "Lukasz");
+        Container container = cb.create(false);
+
+        ContainerImpl.FieldInjector fieldInjector = new ContainerImpl.FieldInjector((ContainerImpl) container,
+                FieldCheck.class.getDeclaredField("name"), "fieldCheck.name");
+        assertNotNull(fieldInjector.setter);
+
+        ContainerImpl.MethodInjector methodInjector = new ContainerImpl.MethodInjector((ContainerImpl) container,
+                MethodCheck.class.getDeclaredMethod("setNameAndAge", String.class, int.class), Container.DEFAULT_NAME);
+        assertNotNull(methodInjector.invoker);
+
+        FieldCheck fieldCheck = new FieldCheck();
+        container.inject(fieldCheck);
+        assertEquals("Lukasz", fieldCheck.getName());
+
+        MethodCheck methodCheck = new MethodCheck();
+        container.inject(methodCheck);
+        assertEquals("Lukasz", methodCheck.getName());
+        assertEquals(42, methodCheck.getAge());
+    }
+
+    public void testInjectorsReportWrongTargetsLikeReflection() throws Exception {
+        ContainerBuilder cb = new ContainerBuilder();
+        cb.constant("methodCheck.name", "Lukasz");
+        cb.constant("methodCheck.age", 42);
+        cb.constant("fieldCheck.name", "Lukasz");
+        ContainerImpl container = (ContainerImpl) cb.create(false);
+        Field field = FieldCheck.class.getDeclaredField("name");
+        Method method = MethodCheck.class.getDeclaredMethod("setNameAndAge", String.class, int.class);
+        field.setAccessible(true);
+        method.setAccessible(true);
+
+        try {
+            field.set(new MethodCheck(), "Lukasz");
+            fail("Exception should be thrown!");
+        } catch (IllegalArgumentException expected) {
+            assertTrue(true);
+        }
+        try {
+            new ContainerImpl.FieldInjector(container, field, "fieldCheck.name")
+                    .inject(new InternalContext(container), new MethodCheck());
+            fail("Exception should be thrown!");
+        } catch (IllegalArgumentException expected) {
+            assertTrue(true);
+        }
+
+        try {
+            method.invoke(new FieldCheck(), "Lukasz", 42);
+            fail("Exception should be thrown!");
+        } catch (IllegalArgumentException expected) {
+            assertTrue(true);
+        }
+        try {
+            new ContainerImpl.MethodInjector(container, method, Container.DEFAULT_NAME)
+                    .inject(new InternalContext(container), new FieldCheck());
+            fail("Exception should be thrown!");
+        } catch (RuntimeException expected) {
+            assertTrue(expected.getCause() instanceof IllegalArgumentException);
+        }
+    }
+
+    public void testMethodInjectorWrapsExceptions() throws Exception {
+        try {
+            c.inject(new FailingMethodCheck());
+            fail("Exception should be thrown!");
+        } catch (RuntimeException expected) {
+            assertTrue(expected.getCause() instanceof InvocationTargetException);
+            assertEquals("failed", expected.getCause().getCause().getMessage());
+        }
+    }
+
     /**
      * Inject values into field under SecurityManager
      */
@@ -199,6 +280,46 @@ public class ContainerImplTest extends TestCase {
         assertEquals(testScopeStrategy.wizardInitializable, initializableCheck3.getWizardInitializable());
     }
 
+    public void testSingletonLookupsAreCached() throws Exception {
+        ContainerBuilder cb = new ContainerBuilder();
+        cb.constant("fieldCheck.name", "Lukasz");
+        cb.factory(List.class, ArrayList.class, Scope.SINGLETON);
+        cb.factory(List.class, "prototypeList", ArrayList.class, Scope.PROTOTYPE);
+        ContainerImpl container = (ContainerImpl) cb.create(false);
+
+        List singleton = container.getInstance(List.class);
+        assertSame(singleton, container.getInstance(List.class));
+        assertSame(singleton, container.getInstance(List.class, Container.DEFAULT_NAME));
+        assertEquals("Lukasz", container.getInstance(String.class, "fieldCheck.name"));
+
+        List prototype = container.getInstance(List.class, "prototypeList");
+        assertNotSame(prototype, container.getInstance(List.class, "prototypeList"));
+
+        assertSame(singleton, container.lookups.get(Key.newInstance(List.class, Container.DEFAULT_NAME)).instance);
+        assertEquals("Lukasz", container.lookups.get(Key.newInstance(String.class, "fieldCheck.name")).instance);
+        assertNull(container.lookups.get(Key.newInstance(List.class, "prototypeList")).instance);
+    }
+
+    public void testInstanceLookupCounts() throws Exception {
+        ContainerBuilder cb = new ContainerBuilder();
+        cb.constant("methodCheck.name", "Lukasz");
+        cb.constant("fieldCheck.name", "Lukasz");
+        cb.factory(List.class, ArrayList.class, Scope.SINGLETON);
+        cb.factory(List.class, "prototypeList", ArrayList.class, Scope.PROTOTYPE);
+        Container container = cb.create(false);
+
+        container.getInstance(List.class);
+        container.getInstance(List.class);
+        container.getInstance(List.class, "prototypeList");
+        container.getInstance(String.class, "methodCheck.name");
+
+        Map<String, Long> counts = container.getInstanceLookupCounts();
+        assertEquals(Long.valueOf(2), counts.get(Key.newInstance(List.class, Container.DEFAULT_NAME).toString()));
+        assertEquals(Long.valueOf(1), counts.get(Key.newInstance(List.class, "prototypeList").toString()));
+        assertEquals(Long.valueOf(1), counts.get(Key.newInstance(String.class, "methodCheck.name").toString()));
+        assertNull(counts.get(Key.newInstance(String.class, "fieldCheck.name").toString()));
+    }
+
     public static class FieldCheck {
 
         @Inject("fieldCheck.name")
@@ -213,15 +334,36 @@ public class ContainerImplTest extends TestCase {
 
         private String name;
 
+        private int age;
+
         @Inject("methodCheck.name")
         private void setName(String name) {
             this.name = name;
         }
 
+        @Inject(required = false)
+        public void setNameAndAge(@Inject("methodCheck.name") String name, @Inject("methodCheck.age") int age) {
+            this.name = name;
+            this.age = age;
+        }
+
         public String getName() {
             return name;
         }
 
+        public int getAge() {
+            return age;
+        }
+
+    }
+
+    public static class FailingMethodCheck {
+
+        @Inject("methodCheck.name")
+        public void setName(String name) {
+            throw new IllegalStateException("failed");
+        }
+
     }
 
     class InitializableCheck {
@@ -136,6 +136,145 @@ public class OgnlUtilTest extends XWorkTestCase {
         assertTrue("Expression cache empty after usage ?", ognlUtil.expressionCacheSize() > 0);
     }
 
+    public void testExpressionCacheIsBounded() throws OgnlException {
+        ognlUtil.setEnableExpressionCache("true");
+        ognlUtil.setExpressionCacheMaxSize("10");
+
+        for (int i = 0; i < 100; i++) {
+            ognlUtil.compile("list[" + i + "].name");
+        }
+
+        assertTrue("Expression cache exceeds max size ?", ognlUtil.expressionCacheSize() <= 10);
+        assertEquals(90, ognlUtil.getExpressionCacheStats().getEvictionCount());
+        assertEquals(100, ognlUtil.getExpressionCacheStats().getMissCount());
+
+        ognlUtil.compile("list[99].name");
+        assertEquals(1, ognlUtil.getExpressionCacheStats().getHitCount());
+    }
+
+    public void testMethodExpressionsAreCachedSeparately() throws OgnlException {
+        ognlUtil.setEnableExpressionCache("true");
+        Map<String, Object> context = ognlUtil.createDefaultContext(this);
+
+        // a chained expression parsed for getting a value must not be taken for a simple method
+        ognlUtil.compile("toString().length()");
+        try {
+            ognlUtil.callMethod("toString().length()", context, this);
+            fail("a chained expression shouldn't be called as a method");
+        } catch (OgnlException expected) {
+            // ok
+        }
+
+        ognlUtil.callMethod("toString()", context, this);
+        assertEquals(1, ognlUtil.getExpressionCacheStats().getSize());
+        assertEquals(1, ognlUtil.getMethodExpressionCacheStats().getSize());
+    }
+
+    public void testHotExpressionIsCompiled() throws OgnlException {
+        ognlUtil.setEnableExpressionCache("true");
+        ognlUtil.setExpressionCompileThreshold("2");
+
+        Foo foo = new Foo();
+        Bar bar = new Bar();
+        bar.setTitle("compiled");
+        foo.setBar(bar);
+
+        for (int i = 0; i < 5; i++) {
+            Map<String, Object> context = ognlUtil.createDefaultContext(foo);
+            assertEquals("compiled", ognlUtil.getValue("bar.title", context, foo));
+            assertEquals(Bar.class, context.get(XWorkConverter.LAST_BEAN_CLASS_ACCESSED));
+            assertEquals("title", context.get(XWorkConverter.LAST_BEAN_PROPERTY_ACCESSED));
+        }
+        PropertyChainAccessor accessor = ognlUtil.getCompiledAccessor("bar.title");
+        assertNotNull(accessor);
+        assertEquals(0, accessor.getInterpretations());
+
+        bar.setSomethingElse(42);
+        Map<String, Object> context = ognlUtil.createDefaultContext(foo);
+        for (int i = 0; i < 5; i++) {
+            assertEquals("42", ognlUtil.getValue("bar.somethingElse", context, foo, String.class));
+        }
+
+        context.put("bar", bar);
+        for (int i = 0; i < 5; i++) {
+            assertEquals("compiled", ognlUtil.getValue("#bar.title", context, foo));
+        }
+        accessor = ognlUtil.getCompiledAccessor("#bar.title");
+        assertNotNull(accessor);
+        assertEquals(0, accessor.getInterpretations());
+
+        context.remove("bar");
+        try {
+            ognlUtil.getValue("#bar.title", context, foo);
+            fail("a missing variable should fail as when interpreted");
+        } catch (OgnlException expected) {
+            assertEquals(1, accessor.getInterpretations());
+        }
+    }
+
+    public void testCompiledExpressionFallsBackWhenClassChanges() throws OgnlException {
+        ognlUtil.setEnableExpressionCache("true");
+        ognlUtil.setExpressionCompileThreshold("1");
+
+        Foo foo = new Foo();
+        foo.setTitle("foo");
+        Bar bar = new Bar();
+        bar.setTitle("bar");
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("foo", ognlUtil.getValue("title", ognlUtil.createDefaultContext(foo), foo));
+            assertEquals("bar", ognlUtil.getValue("title", ognlUtil.createDefaultContext(bar), bar));
+        }
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("title", "map");
+        assertEquals("map", ognlUtil.getValue("title", ognlUtil.createDefaultContext(map), map));
+        assertEquals(1, ognlUtil.getCompiledAccessor("title").getInterpretations());
+    }
+
+    public void testCompiledExpressionKeepsNullHandlingAndExceptions() throws OgnlException {
+        ognlUtil.setEnableExpressionCache("true");
+        ognlUtil.setExpressionCompileThreshold("1");
+
+        for (int i = 0; i < 3; i++) {
+            Foo foo = new Foo();
+            Map<String, Object> context = ognlUtil.createDefaultContext(foo);
+            try {
+                ognlUtil.getValue("bar.title", context, foo);
+                fail("null bar shouldn't be navigated");
+            } catch (OgnlException expected) {
+                assertEquals("source is null for getProperty(null, \"title\")", expected.getMessage());
+            }
+
+            context.put(ReflectionContextState.CREATE_NULL_OBJECTS, Boolean.TRUE);
+            assertEquals("", ognlUtil.getValue("bar.title", context, foo));
+            assertNotNull("null bar should be created by the null handler", foo.getBar());
+        }
+
+        Dog dog = new Dog();
+        for (int i = 0; i < 3; i++) {
+            try {
+                ognlUtil.getValue("exception", ognlUtil.createDefaultContext(dog), dog);
+                fail("exception of the getter should be thrown");
+            } catch (OgnlException expected) {
+                assertEquals("exception", expected.getMessage());
+                assertEquals("This is expected", expected.getReason().getMessage());
+            }
+        }
+    }
+
+    public void testExpressionCompilationCanBeDisabled() throws OgnlException {
+        ognlUtil.setEnableExpressionCache("true");
+        ognlUtil.setExpressionCompileThreshold("0");
+
+        Foo foo = new Foo();
+        foo.setTitle("interpreted");
+        for (int i = 0; i < 3; i++) {
+            assertEquals("interpreted", ognlUtil.getValue("title", ognlUtil.createDefaultContext(foo), foo));
+        }
+        assertNull(ognlUtil.getCompiledAccessor("title"));
+    }
+
     public void testClearBeanInfoCache() throws IntrospectionException {
         final TestBean1 testBean1 = new TestBean1();
         final TestBean2 testBean2 = new TestBean2();
@@ -35,10 +35,12 @@ import ognl.PropertyAccessor;
 import java.io.*;
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 import ognl.ParseException;
 
 import org.apache.commons.lang3.StringUtils;
@@ -251,6 +253,108 @@ public class OgnlValueStackTest extends XWorkTestCase {
         }
     }
 
+    public void testReleasedValueStacksAreRecycled() throws Exception {
+        OgnlValueStackFactory factory = getValueStackFactory();
+        factory.setPoolSize("2");
+
+        Dog dog = new Dog();
+        dog.setName("fido");
+        ValueStack stack = factory.createValueStack();
+        stack.push(dog);
+
+        OgnlValueStack released = (OgnlValueStack) factory.createValueStack(stack);
+        released.getContext().put("foo", "bar");
+        released.setAcceptProperties(Collections.singleton(Pattern.compile("foo")));
+        assertNull(released.findValue("name"));
+
+        factory.releaseValueStack(released);
+        factory.releaseValueStack(released);
+        assertTrue(released.getRoot().isEmpty());
+        assertNull(released.getContext().get("foo"));
+
+        ValueStack recycled = factory.createValueStack(stack);
+        assertSame(released, recycled);
+        assertSame(recycled, recycled.getContext().get(ValueStack.VALUE_STACK));
+        assertNull(recycled.getContext().get("foo"));
+        assertEquals("fido", recycled.findValue("name"));
+        assertNotSame("a stack must be released only once", recycled, factory.createValueStack(stack));
+
+        factory.releaseValueStack(recycled);
+        final ValueStack[] fromOtherThread = new ValueStack[1];
+        Thread thread = new Thread(new Runnable() {
+            public void run() {
+                fromOtherThread[0] = getValueStackFactory().createValueStack();
+            }
+        });
+        thread.start();
+        thread.join();
+        assertNotSame(recycled, fromOtherThread[0]);
+
+        ValueStack main = factory.createValueStack();
+        assertSame(recycled, main);
+        assertEquals(1, main.getRoot().size());
+        assertTrue(main.peek() instanceof TextProvider);
+        assertSame(container, main.getContext().get(ActionContext.CONTAINER));
+    }
+
+    public void testValueStacksAreNotRecycledByDefault() {
+        OgnlValueStackFactory factory = getValueStackFactory();
+
+        ValueStack stack = factory.createValueStack();
+        ValueStack released = factory.createValueStack(stack);
+        factory.releaseValueStack(released);
+
+        assertNotSame(released, factory.createValueStack(stack));
+    }
+
+    public void testCompiledExpressionsLookUpTheStackTopDown() {
+        ognlUtil.setExpressionCompileThreshold("1");
+        OgnlValueStack vs = createValueStack();
+
+        Dog dog = new Dog();
+        dog.setName("fido");
+        Cat cat = new Cat();
+        cat.setName("tom");
+        dog.setHates(cat);
+        Bar bar = new Bar();
+        bar.setTitle("bar");
+        vs.push(dog);
+        vs.push(bar);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("fido", vs.findValue("name"));
+            assertEquals("tom", vs.findValue("hates.name"));
+            assertEquals("bar", vs.findValue("title"));
+            assertEquals("bar", vs.findValue("top.title"));
+            assertNull("access to Object members must be blocked", vs.findValue("class"));
+            assertNull(vs.findValue("someprop"));
+        }
+
+        Map<String, String> map = new HashMap<>();
+        map.put("name", "map");
+        vs.push(map);
+        for (int i = 0; i < 3; i++) {
+            assertEquals("map", vs.findValue("name"));
+        }
+
+        vs.pop();
+        for (int i = 0; i < 3; i++) {
+            assertEquals("fido", vs.findValue("name"));
+            try {
+                vs.findValue("someprop", true);
+                fail("Failed to throw exception on EL missing property");
+            } catch (Exception ex) {
+                //ok
+            }
+            try {
+                vs.findValue("exception", true);
+                fail("Failed to throw exception of the getter");
+            } catch (Exception ex) {
+                //ok
+            }
+        }
+    }
+
     /**
      * monitors the resolution of WW-4999
      * @since 2.5.21
@@ -559,6 +559,66 @@ public class SecurityMemberAccessTest extends TestCase {
         assertTrue("package java.lang. is accessible!", actual);
     }
 
+
+    public void testClassAccessDecisionsFollowConfiguration() throws Exception {
+        // given
+        Member member = FooBar.class.getMethod("getStringField");
+
+        SecurityMemberAccess allowing = new SecurityMemberAccess(false, true);
+        SecurityMemberAccess excluding = new SecurityMemberAccess(false, true);
+        excluding.setExcludedClasses(new HashSet<Class<?>>(Collections.singletonList(FooBar.class)));
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertTrue(allowing.isAccessible(context, target, member, "stringField"));
+            assertFalse(excluding.isAccessible(context, target, member, "stringField"));
+        }
+
+        excluding.setExcludedClasses(Collections.<Class<?>>emptySet());
+        assertTrue(excluding.isAccessible(context, target, member, "stringField"));
+
+        allowing.setExcludedPackageNames(Collections.singleton(FooBar.class.getPackage().getName() + "."));
+        assertFalse(allowing.isAccessible(context, target, member, "stringField"));
+    }
+
+    public void testPropertyDecisionsFollowPatterns() throws Exception {
+        // given
+        Member member = FooBar.class.getMethod("getStringField");
+        Set<Pattern> excluded = Collections.singleton(Pattern.compile("string.*"));
+        Set<Pattern> accepted = Collections.singleton(Pattern.compile("[a-zA-Z]+"));
+
+        SecurityMemberAccess sma = new SecurityMemberAccess(false, true);
+        sma.setAcceptProperties(accepted);
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertTrue(sma.isAccessible(context, target, member, "stringField"));
+            assertFalse(sma.isAccessible(context, target, member, "string_field"));
+        }
+
+        sma.setExcludeProperties(excluded);
+        assertFalse(sma.isAccessible(context, target, member, "stringField"));
+
+        SecurityMemberAccess other = new SecurityMemberAccess(false, true);
+        other.setAcceptProperties(accepted);
+        assertTrue(other.isAccessible(context, target, member, "stringField"));
+        assertTrue(other.isAccessible(context, target, member, null));
+    }
+
+    public void testOverriddenPropertyChecksAreUsedWithoutPatterns() throws Exception {
+        // given
+        Member member = FooBar.class.getMethod("getStringField");
+        SecurityMemberAccess sma = new SecurityMemberAccess(false, true) {
+            @Override
+            protected boolean isExcluded(String paramName) {
+                return "stringField".equals(paramName);
+            }
+        };
+
+        // when & then
+        assertFalse(sma.isAccessible(context, target, member, "stringField"));
+        assertTrue(sma.isAccessible(context, target, member, "intField"));
+    }
 }
 
 class FooBar implements FooBarInterface {
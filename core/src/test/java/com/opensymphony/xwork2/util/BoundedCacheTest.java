@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.util;
+
+import junit.framework.TestCase;
+
+public class BoundedCacheTest extends TestCase {
+
+    public void testGetAndPut() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10);
+
+        assertNull(cache.get("a"));
+        assertEquals("1", cache.putIfAbsent("a", "1"));
+        assertEquals("1", cache.putIfAbsent("a", "2"));
+        assertEquals("1", cache.get("a"));
+
+        CacheStats stats = cache.getStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getSize());
+        assertEquals(10, stats.getMaxSize());
+        assertEquals(0.5, stats.getHitRate());
+    }
+
+    public void testEvictsNotRecentlyUsedEntries() {
+        BoundedCache<String, String> cache = new BoundedCache<>(3);
+        cache.putIfAbsent("a", "1");
+        cache.putIfAbsent("b", "2");
+        cache.putIfAbsent("c", "3");
+
+        // "a" gets a second chance
+        cache.get("a");
+        cache.putIfAbsent("d", "4");
+
+        assertEquals(3, cache.size());
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("4", cache.get("d"));
+        assertEquals(1, cache.getStats().getEvictionCount());
+    }
+
+    public void testDisabled() {
+        BoundedCache<String, String> cache = new BoundedCache<>(0);
+
+        assertEquals("1", cache.putIfAbsent("a", "1"));
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    public void testClear() {
+        BoundedCache<String, String> cache = new BoundedCache<>(2);
+        cache.putIfAbsent("a", "1");
+        cache.putIfAbsent("b", "2");
+
+        cache.clear();
+        cache.putIfAbsent("c", "3");
+        cache.putIfAbsent("d", "4");
+
+        assertEquals(2, cache.size());
+        assertEquals("3", cache.get("c"));
+        assertEquals("4", cache.get("d"));
+    }
+}
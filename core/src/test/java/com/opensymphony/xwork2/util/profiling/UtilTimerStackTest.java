@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.util.profiling;
+
+import junit.framework.TestCase;
+
+public class UtilTimerStackTest extends TestCase {
+
+    @Override
+    protected void tearDown() throws Exception {
+        UtilTimerStack.stop();
+        super.tearDown();
+    }
+
+    public void testInactiveByDefault() throws Exception {
+        assertFalse(UtilTimerStack.isActive());
+
+        UtilTimerStack.push("a");
+        UtilTimerStack.pop("a");
+        assertEquals("result", UtilTimerStack.profile("b", new UtilTimerStack.ProfilingBlock<String>() {
+            public String doProfiling() {
+                return "result";
+            }
+        }));
+
+        assertFalse(UtilTimerStack.isActive());
+        assertNull(UtilTimerStack.stop());
+    }
+
+    public void testNestedTimings() throws Exception {
+        assertTrue(UtilTimerStack.start("request"));
+        assertFalse(UtilTimerStack.start("other"));
+
+        UtilTimerStack.push("a");
+        UtilTimerStack.push("a1");
+        UtilTimerStack.pop("a1");
+        UtilTimerStack.pop("a");
+        UtilTimerStack.profile("b", new UtilTimerStack.ProfilingBlock<Object>() {
+            public Object doProfiling() {
+                UtilTimerStack.push("b1");
+                UtilTimerStack.pop("b1");
+                return null;
+            }
+        });
+
+        ProfilingTimerBean root = UtilTimerStack.stop();
+        assertFalse(UtilTimerStack.isActive());
+        assertTrue(root.isStopped());
+        assertEquals("request", root.getName());
+        assertEquals(2, root.getChildren().size());
+
+        ProfilingTimerBean a = root.getChildren().get(0);
+        assertEquals("a", a.getName());
+        assertTrue(a.isStopped());
+        assertEquals("a1", a.getChildren().get(0).getName());
+        assertTrue(a.getTotalTime() <= root.getTotalTime());
+
+        ProfilingTimerBean b = root.getChildren().get(1);
+        assertEquals("b", b.getName());
+        assertEquals("b1", b.getChildren().get(0).getName());
+
+        String printable = root.getPrintable(0);
+        assertTrue(printable.matches("(?s)\\[\\d+\\.\\d{3}ms] - request\n  \\[\\d+\\.\\d{3}ms] - a\n    \\[\\d+\\.\\d{3}ms] - a1\n.*"));
+        assertEquals(5, printable.split("\n").length);
+        assertEquals(1, root.getPrintable(Long.MAX_VALUE / 1_000_000L).split("\n").length);
+    }
+
+    public void testPopClosesNestedTimers() throws Exception {
+        UtilTimerStack.start("request");
+        UtilTimerStack.push("a");
+        UtilTimerStack.push("unclosed");
+        UtilTimerStack.pop("a");
+        UtilTimerStack.pop("unknown");
+        UtilTimerStack.push("b");
+        UtilTimerStack.pop("b");
+
+        ProfilingTimerBean root = UtilTimerStack.stop();
+        assertEquals(2, root.getChildren().size());
+        assertTrue(root.getChildren().get(0).getChildren().get(0).isStopped());
+    }
+}
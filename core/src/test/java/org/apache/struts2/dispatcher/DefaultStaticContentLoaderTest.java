@@ -18,8 +18,16 @@
  */
 package org.apache.struts2.dispatcher;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+import com.opensymphony.xwork2.util.ClassLoaderUtil;
 import org.apache.struts2.StrutsInternalTestCase;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 
 import java.util.List;
 import javax.servlet.http.HttpServletRequest;
@@ -102,6 +110,153 @@ public class DefaultStaticContentLoaderTest extends StrutsInternalTestCase {
         }
     }
 
+    public void testServesCachedResource() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/struts/utils.js");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        defaultStaticContentLoader.findStaticResource("/struts/utils.js", request, response);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertEquals("text/javascript", response.getContentType());
+        assertEquals("Accept-Encoding", response.getHeader("Vary"));
+        assertNull(response.getHeader("Content-Encoding"));
+        assertNotNull(response.getHeader("ETag"));
+        assertTrue(Arrays.equals(readResource("org/apache/struts2/static/utils.js"), response.getContentAsByteArray()));
+        assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+
+        response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/struts/utils.js", request, response);
+
+        assertEquals(1, defaultStaticContentLoader.getCacheStats().getHitCount());
+        assertEquals(1, defaultStaticContentLoader.getCacheStats().getSize());
+        assertTrue(Arrays.equals(readResource("org/apache/struts2/static/utils.js"), response.getContentAsByteArray()));
+    }
+
+    public void testServesGzippedResource() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/struts/utils.js");
+        request.addHeader("Accept-Encoding", "deflate, gzip;q=0.8");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        defaultStaticContentLoader.findStaticResource("/struts/utils.js", request, response);
+
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        assertTrue(((String) response.getHeaderValue("ETag")).endsWith("-gzip\""));
+        byte[] content = new byte[readResource("org/apache/struts2/static/utils.js").length];
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            int offset = 0;
+            int n;
+            while (offset < content.length && (n = in.read(content, offset, content.length - offset)) != -1) {
+                offset += n;
+            }
+        }
+        assertTrue(Arrays.equals(readResource("org/apache/struts2/static/utils.js"), content));
+    }
+
+    public void testNotModified() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/struts/utils.js");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/struts/utils.js", request, response);
+        String eTag = (String) response.getHeaderValue("ETag");
+
+        request = new MockHttpServletRequest("GET", "/struts/utils.js");
+        request.addHeader("If-None-Match", eTag);
+        response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/struts/utils.js", request, response);
+
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    public void testMissingResourceIsCached() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/struts/missing.js");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/struts/missing.js", request, response);
+        assertEquals(HttpServletResponse.SC_NOT_FOUND, response.getStatus());
+
+        response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/struts/missing.js", request, response);
+        assertEquals(HttpServletResponse.SC_NOT_FOUND, response.getStatus());
+        assertEquals(1, defaultStaticContentLoader.missingResources.getStats().getHitCount());
+    }
+
+    public void testMissingResourcesDoNotEvictResources() throws Exception {
+        defaultStaticContentLoader.setCacheMaxSize("2");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/struts/utils.js");
+        defaultStaticContentLoader.findStaticResource("/struts/utils.js", request, new MockHttpServletResponse());
+
+        for (int i = 0; i < 10; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            defaultStaticContentLoader.findStaticResource("/struts/missing" + i + ".js", request, response);
+            assertEquals(HttpServletResponse.SC_NOT_FOUND, response.getStatus());
+        }
+
+        assertEquals(1, defaultStaticContentLoader.getCacheStats().getSize());
+        assertEquals(2, defaultStaticContentLoader.missingResources.size());
+        defaultStaticContentLoader.findStaticResource("/struts/utils.js", request, new MockHttpServletResponse());
+        assertEquals(1, defaultStaticContentLoader.getCacheStats().getHitCount());
+    }
+
+    public void testLargeResourceIsNotKeptInMemory() throws Exception {
+        defaultStaticContentLoader.setCacheMaxResourceSize("1024");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/struts/utils.js");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        defaultStaticContentLoader.findStaticResource("/struts/utils.js", request, response);
+
+        assertNull(response.getHeader("ETag"));
+        assertTrue(Arrays.equals(readResource("org/apache/struts2/static/utils.js"), response.getContentAsByteArray()));
+    }
+
+    public void testDevModeBypassesCache() throws Exception {
+        defaultStaticContentLoader.setDevMode("true");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/struts/utils.js");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        defaultStaticContentLoader.findStaticResource("/struts/utils.js", request, response);
+
+        assertEquals(0, defaultStaticContentLoader.getCacheStats().getSize());
+        assertTrue(Arrays.equals(readResource("org/apache/struts2/static/utils.js"), response.getContentAsByteArray()));
+    }
+
+    public void testUncachedResourceHonoursIfModifiedSince() throws Exception {
+        defaultStaticContentLoader.setDevMode("true");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/struts/utils.js");
+        request.addHeader("If-Modified-Since", System.currentTimeMillis() + 60000);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        defaultStaticContentLoader.findStaticResource("/struts/utils.js", request, response);
+
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+
+        request = new MockHttpServletRequest("GET", "/struts/utils.js");
+        request.addHeader("If-Modified-Since", 1000L);
+        response = new MockHttpServletResponse();
+
+        defaultStaticContentLoader.findStaticResource("/struts/utils.js", request, response);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertTrue(Arrays.equals(readResource("org/apache/struts2/static/utils.js"), response.getContentAsByteArray()));
+    }
+
+    public void testAcceptsGzip() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        assertFalse(defaultStaticContentLoader.acceptsGzip(request));
+        request.addHeader("Accept-Encoding", "gzip;q=0, deflate");
+        assertFalse(defaultStaticContentLoader.acceptsGzip(request));
+
+        request = new MockHttpServletRequest();
+        request.addHeader("Accept-Encoding", "br, GZIP");
+        assertTrue(defaultStaticContentLoader.acceptsGzip(request));
+    }
+
+    private byte[] readResource(String name) throws IOException {
+        try (InputStream in = ClassLoaderUtil.getResourceAsStream(name, DefaultStaticContentLoaderTest.class)) {
+            return defaultStaticContentLoader.readContent(in, Integer.MAX_VALUE);
+        }
+    }
+
     protected void setUp() {
         requestMock = (HttpServletRequest) createMock(HttpServletRequest.class);
         responseMock = (HttpServletResponse) createMock(HttpServletResponse.class);
@@ -111,5 +266,6 @@ public class DefaultStaticContentLoaderTest extends StrutsInternalTestCase {
         defaultStaticContentLoader = new DefaultStaticContentLoader();
         defaultStaticContentLoader.setHostConfig(hostConfigMock);
         defaultStaticContentLoader.setEncoding("UTF-8");
+        defaultStaticContentLoader.setServeStaticBrowserCache("true");
     }
 }
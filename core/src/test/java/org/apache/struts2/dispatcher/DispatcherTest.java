@@ -20,6 +20,7 @@ package org.apache.struts2.dispatcher;
 
 import com.mockobjects.dynamic.C;
 import com.mockobjects.dynamic.Mock;
+import com.opensymphony.xwork2.Action;
 import com.opensymphony.xwork2.ActionContext;
 import com.opensymphony.xwork2.ObjectFactory;
 import com.opensymphony.xwork2.StubValueStack;
@@ -33,18 +34,25 @@ import com.opensymphony.xwork2.interceptor.Interceptor;
 import com.opensymphony.xwork2.LocalizedTextProvider;
 import com.opensymphony.xwork2.mock.MockActionInvocation;
 import com.opensymphony.xwork2.mock.MockActionProxy;
+import com.opensymphony.xwork2.util.profiling.ProfilingTimerBean;
+import com.opensymphony.xwork2.util.profiling.UtilTimerStack;
 import org.apache.struts2.ServletActionContext;
 import org.apache.struts2.StrutsConstants;
 import org.apache.struts2.StrutsInternalTestCase;
 import org.apache.struts2.dispatcher.mapper.ActionMapping;
 import org.apache.struts2.dispatcher.multipart.MultiPartRequestWrapper;
+import org.apache.struts2.metrics.DefaultStrutsMetrics;
+import org.apache.struts2.metrics.StrutsMetrics;
 import org.apache.struts2.util.ObjectFactoryDestroyable;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockServletContext;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.lang.management.ManagementFactory;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -420,6 +428,105 @@ public class DispatcherTest extends StrutsInternalTestCase {
         assertTrue("Modified Dispatcher devMode state not true ?", du2.isDevMode());
     }
 
+    public void testCreateContextMapCopiesParameters() throws Exception {
+        Dispatcher du = initDispatcher(new HashMap<String, String>() {{
+            put(StrutsConstants.STRUTS_LOCALE, "de_DE");
+        }});
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("first", "1");
+
+        Map<String, Object> context = du.createContextMap(request, new MockHttpServletResponse(), null);
+        request.addParameter("second", "2");
+
+        HttpParameters parameters = (HttpParameters) context.get(ActionContext.PARAMETERS);
+        assertSame(parameters, context.get("parameters"));
+        assertEquals("1", parameters.get("first").getValue());
+        assertFalse("parameters must not depend on the request once the context is created", parameters.contains("second"));
+        assertNull(request.getSession(false));
+
+        assertEquals(Locale.GERMANY, context.get(ActionContext.LOCALE));
+        assertEquals(Locale.GERMANY, du.createContextMap(request, new MockHttpServletResponse(), null).get(ActionContext.LOCALE));
+    }
+
+    public void testProfilingRequestedInDevMode() throws Exception {
+        Dispatcher du = initDispatcher(new HashMap<String, String>() {{
+            put(StrutsConstants.STRUTS_DEVMODE, "true");
+        }});
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/profiled.action");
+
+        assertFalse(du.startProfiling(request, true));
+        assertNull(du.stopProfiling(request));
+
+        request.addParameter(Dispatcher.PROFILING_PARAM, "true");
+        assertFalse(du.startProfiling(request, false));
+        assertTrue(du.startProfiling(request, true));
+        assertTrue(UtilTimerStack.isActive());
+
+        UtilTimerStack.push("child");
+        UtilTimerStack.pop("child");
+
+        ProfilingTimerBean profile = du.stopProfiling(request);
+        assertFalse(UtilTimerStack.isActive());
+        assertEquals("GET /profiled.action", profile.getName());
+        assertEquals(1, profile.getChildren().size());
+        assertSame(profile, request.getAttribute(Dispatcher.PROFILING_RESULT_KEY));
+    }
+
+    public void testProfilingSampledRequests() throws Exception {
+        Dispatcher du = initDispatcher(new HashMap<String, String>() {{
+            put(StrutsConstants.STRUTS_PROFILING_SAMPLE_RATE, "1.0");
+        }});
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/sampled.action");
+
+        assertTrue(du.startProfiling(request, false));
+        assertNotNull(du.stopProfiling(request));
+    }
+
+    public void testMetricsNotRegisteredByDefault() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        assertEquals(0, server.queryNames(new ObjectName("org.apache.struts2:type=StrutsMetrics,*"), null).size());
+        assertFalse(container.getInstance(StrutsMetrics.class).isEnabled());
+    }
+
+    public void testMetricsRegisteredWithJmx() throws Exception {
+        dispatcher.cleanup();
+        Dispatcher du = initDispatcher(new HashMap<String, String>() {{
+            put(StrutsConstants.STRUTS_METRICS, "struts");
+            put(StrutsConstants.STRUTS_METRICS_JMX, "true");
+        }});
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("org.apache.struts2:type=StrutsMetrics,context=" + ObjectName.quote("/"));
+        assertTrue(server.isRegistered(name));
+
+        du.cleanup();
+        assertFalse(server.isRegistered(name));
+    }
+
+    public void testMetricsMovedToReloadedContainer() throws Exception {
+        dispatcher.cleanup();
+        Dispatcher du = initDispatcher(new HashMap<String, String>() {{
+            put(StrutsConstants.STRUTS_METRICS, "struts");
+            put(StrutsConstants.STRUTS_METRICS_JMX, "true");
+        }});
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("org.apache.struts2:type=StrutsMetrics,context=" + ObjectName.quote("/"));
+        StrutsMetrics oldMetrics = du.getConfigurationManager().getConfiguration().getContainer().getInstance(StrutsMetrics.class);
+        oldMetrics.recordAction("/ns", "recorded", Action.SUCCESS, 1000, null);
+
+        du.getConfigurationManager().reload();
+        StrutsMetrics newMetrics = du.getConfigurationManager().getConfiguration().getContainer().getInstance(StrutsMetrics.class);
+        assertNotSame(oldMetrics, newMetrics);
+
+        assertTrue(server.isRegistered(name));
+        assertEquals(1L, ((DefaultStrutsMetrics) newMetrics).getActionStatistics().get("/ns/recorded").getRequestCount());
+        newMetrics.recordAction("/ns", "recorded", Action.SUCCESS, 1000, null);
+        assertEquals(2L, ((DefaultStrutsMetrics) newMetrics).getActionStatistics().get("/ns/recorded").getRequestCount());
+
+        du.cleanup();
+        assertFalse(server.isRegistered(name));
+    }
+
     class InternalConfigurationManager extends ConfigurationManager {
     	public boolean destroyConfiguration = false;
 
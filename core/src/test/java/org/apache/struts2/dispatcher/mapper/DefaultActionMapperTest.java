@@ -392,6 +392,37 @@ public class DefaultActionMapperTest extends StrutsInternalTestCase {
         assertEquals(actionMapping.getNamespace(), "");
     }
 
+    public void testParseNameAndNamespaceLongestMatch() {
+        ActionMapping actionMapping = new ActionMapping();
+
+        DefaultActionMapper defaultActionMapper = new DefaultActionMapper();
+        defaultActionMapper.parseNameAndNamespace("/my/namespace/someAction", actionMapping, configManager);
+
+        assertEquals("someAction", actionMapping.getName());
+        assertEquals("/my/namespace", actionMapping.getNamespace());
+
+        actionMapping = new ActionMapping();
+        defaultActionMapper.parseNameAndNamespace("/my/namespaces/someAction", actionMapping, configManager);
+
+        assertEquals("someAction", actionMapping.getName());
+        assertEquals("/my", actionMapping.getNamespace());
+    }
+
+    public void testParseNameAndNamespaceAfterPackageAdded() {
+        ActionMapping actionMapping = new ActionMapping();
+
+        DefaultActionMapper defaultActionMapper = new DefaultActionMapper();
+        defaultActionMapper.parseNameAndNamespace("/foo/someAction", actionMapping, configManager);
+        assertEquals("", actionMapping.getNamespace());
+
+        config.addPackageConfig("foo", new PackageConfig.Builder("foo").namespace("/foo").build());
+
+        actionMapping = new ActionMapping();
+        defaultActionMapper.parseNameAndNamespace("/foo/someAction", actionMapping, configManager);
+        assertEquals("someAction", actionMapping.getName());
+        assertEquals("/foo", actionMapping.getNamespace());
+    }
+
 
     // ===========================
     // === test special prefix ===
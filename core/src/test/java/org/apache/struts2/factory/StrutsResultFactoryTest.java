@@ -20,8 +20,11 @@ package org.apache.struts2.factory;
 
 import com.opensymphony.xwork2.ActionContext;
 import com.opensymphony.xwork2.ActionInvocation;
+import com.opensymphony.xwork2.ObjectFactory;
 import com.opensymphony.xwork2.Result;
 import com.opensymphony.xwork2.config.entities.ResultConfig;
+import com.opensymphony.xwork2.factory.ResultBuilder;
+import com.opensymphony.xwork2.factory.ResultBuilderCache;
 import com.opensymphony.xwork2.factory.ResultFactory;
 import org.apache.struts2.StrutsInternalTestCase;
 import com.opensymphony.xwork2.result.ParamNameAwareResult;
@@ -49,6 +52,55 @@ public class StrutsResultFactoryTest extends StrutsInternalTestCase {
         assertEquals("ok", ((MyResult)result).getReject());
     }
 
+    public void testCompiledParams() throws Exception {
+        // given
+        initDispatcherWithConfigs("struts-default.xml");
+        StrutsResultFactory builder = (StrutsResultFactory) container.getInstance(ResultFactory.class);
+
+        Map<String, String> params = new HashMap<String, String>();
+        params.put("location", "/${target}.jsp");
+        params.put("bufferSize", "2048");
+        params.put("enabled", "true");
+        params.put("timeout", "15");
+        params.put("nested.name", "inner");
+        ResultConfig config = new ResultConfig.Builder("struts", TypedResult.class.getName()).addParams(params).build();
+
+        // when
+        TypedResult result = (TypedResult) builder.buildResult(config, ActionContext.getContext().getContextMap());
+        TypedResult second = (TypedResult) builder.buildResult(config, ActionContext.getContext().getContextMap());
+
+        // then
+        assertEquals("/${target}.jsp", result.getLocation());
+        assertEquals(2048, result.getBufferSize());
+        assertTrue(result.isEnabled());
+        assertEquals(Long.valueOf(15), result.getTimeout());
+        assertEquals("inner", result.getNested().getName());
+        assertNotSame(result, second);
+        assertEquals(2048, second.getBufferSize());
+        assertEquals("inner", second.getNested().getName());
+        assertEquals(1, builder.resultBuilders.size());
+    }
+
+    public void testResultBuildersAreBounded() throws Exception {
+        // given
+        ResultBuilderCache cache = new ResultBuilderCache(2);
+        ObjectFactory objectFactory = container.getInstance(ObjectFactory.class);
+        ResultConfig config = new ResultConfig.Builder("struts", TypedResult.class.getName()).build();
+
+        // when
+        ResultBuilder builder = cache.get(config, objectFactory);
+        ResultBuilder same = cache.get(config, objectFactory);
+        ResultBuilder equalConfig = cache.get(new ResultConfig.Builder("struts", TypedResult.class.getName()).build(), objectFactory);
+        for (int i = 0; i < 5; i++) {
+            cache.get(new ResultConfig.Builder("struts" + i, TypedResult.class.getName()).build(), objectFactory);
+        }
+
+        // then
+        assertSame(builder, same);
+        assertNotSame(builder, equalConfig);
+        assertEquals(2, cache.size());
+    }
+
     public void testUseCustomResultBuilder() throws Exception {
         // given
         initDispatcherWithConfigs("struts-default.xml,struts-object-factory-result-builder.xml");
@@ -60,6 +112,68 @@ public class StrutsResultFactoryTest extends StrutsInternalTestCase {
         assertTrue(actual instanceof MyResultFactory);
     }
 
+    public static class TypedResult implements Result {
+
+        private String location;
+        private int bufferSize;
+        private boolean enabled;
+        private Long timeout;
+        private Nested nested = new Nested();
+
+        public void execute(ActionInvocation invocation) throws Exception {
+
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        public void setLocation(String location) {
+            this.location = location;
+        }
+
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        public void setBufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Long getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Long timeout) {
+            this.timeout = timeout;
+        }
+
+        public Nested getNested() {
+            return nested;
+        }
+    }
+
+    public static class Nested {
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
     public static class MyResult implements Result, ParamNameAwareResult {
 
         private String accept;
@@ -28,6 +28,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
@@ -82,6 +84,93 @@ public class BackgroundProcessTest extends StrutsInternalTestCase {
     }
 
 
+    public void testWaitUntilDone() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        MockActionInvocationWithActionInvoker invocation = new MockActionInvocationWithActionInvoker(new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                release.await();
+                return "success";
+            }
+        });
+        invocation.setInvocationContext(ActionContext.getContext());
+
+        BackgroundProcess bp = new BackgroundProcess("BackgroundProcessTest.testWaitUntilDone", invocation, Thread.NORM_PRIORITY);
+        assertFalse(bp.waitUntilDone(50, TimeUnit.MILLISECONDS));
+        assertEquals(0, bp.getDoneTime());
+
+        release.countDown();
+        assertTrue(bp.waitUntilDone(1500, TimeUnit.MILLISECONDS));
+        assertEquals("success", bp.getResult());
+        assertTrue(bp.getDoneTime() > 0);
+    }
+
+    public void testRunsInExecutor() throws Exception {
+        final String[] threadName = new String[1];
+        MockActionInvocationWithActionInvoker invocation = new MockActionInvocationWithActionInvoker(new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                threadName[0] = Thread.currentThread().getName();
+                return "success";
+            }
+        });
+        invocation.setInvocationContext(ActionContext.getContext());
+
+        BackgroundProcessExecutor executor = new BackgroundProcessExecutor(1, 0);
+        try {
+            BackgroundProcess bp = new BackgroundProcess("BackgroundProcessTest.testRunsInExecutor", invocation,
+                    Thread.MIN_PRIORITY, executor);
+            assertTrue(bp.waitUntilDone(1500, TimeUnit.MILLISECONDS));
+            assertEquals("BackgroundProcessTest.testRunsInExecutor", threadName[0]);
+            assertEquals("success", bp.getResult());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public void testContextIsClearedWhenActionFails() throws Exception {
+        MockActionInvocationWithActionInvoker invocation = new MockActionInvocationWithActionInvoker(new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                throw new IllegalStateException("expected");
+            }
+        });
+        invocation.setInvocationContext(ActionContext.getContext());
+
+        BackgroundProcessExecutor executor = new BackgroundProcessExecutor(1, 0);
+        try {
+            BackgroundProcess bp = new BackgroundProcess("BackgroundProcessTest.testContextIsClearedWhenActionFails",
+                    invocation, Thread.NORM_PRIORITY, executor);
+            assertTrue(bp.waitUntilDone(1500, TimeUnit.MILLISECONDS));
+            assertTrue(bp.getException() instanceof IllegalStateException);
+
+            final ActionContext[] context = new ActionContext[]{ActionContext.getContext()};
+            final CountDownLatch checked = new CountDownLatch(1);
+            executor.execute(new Runnable() {
+                public void run() {
+                    context[0] = ActionContext.getContext();
+                    checked.countDown();
+                }
+            });
+            assertTrue(checked.await(1500, TimeUnit.MILLISECONDS));
+            assertNull("the pooled thread should not keep the context", context[0]);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public void testRejectedByExecutor() throws Exception {
+        BackgroundProcessExecutor executor = new BackgroundProcessExecutor(1, 0);
+        executor.shutdown();
+        try {
+            new BackgroundProcess("BackgroundProcessTest.testRejectedByExecutor", new MockActionInvocation(),
+                    Thread.NORM_PRIORITY, executor);
+            fail("the process should be rejected");
+        } catch (RejectedExecutionException expected) {
+            // ok
+        }
+    }
+
     private class MockActionInvocationWithActionInvoker extends MockActionInvocation {
         private Callable<String> actionInvoker;
 
@@ -198,6 +198,61 @@ public class ExecuteAndWaitInterceptorTest extends StrutsInternalTestCase {
         assertEquals("success", result3);
     }
 
+    public void testSharedExecutorRejectsWhenBusy() throws Exception {
+        BackgroundProcessExecutor executor = new BackgroundProcessExecutor(1, 0);
+        waitInterceptor.setExecutor(executor);
+        waitInterceptor.setDelay(0);
+        try {
+            assertEquals("wait", buildProxy("action1").execute());
+            assertTrue(session.containsKey(ExecuteAndWaitInterceptor.KEY + "action1"));
+
+            // the only thread is busy, so action2 is not started yet
+            assertEquals("wait", buildProxy("action2").execute());
+            assertFalse(session.containsKey(ExecuteAndWaitInterceptor.KEY + "action2"));
+
+            Thread.sleep(800);
+
+            assertEquals("success", buildProxy("action1").execute());
+            assertEquals("wait", buildProxy("action2").execute());
+            assertTrue(session.containsKey(ExecuteAndWaitInterceptor.KEY + "action2"));
+
+            Thread.sleep(800);
+
+            assertEquals("success", buildProxy("action2").execute());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public void testMaxProcessesPerSession() throws Exception {
+        waitInterceptor.setMaxProcessesPerSession(1);
+        waitInterceptor.setDelay(0);
+
+        assertEquals("wait", buildProxy("action1").execute());
+        assertEquals("wait", buildProxy("action2").execute());
+        assertFalse("limit reached, action2 should not be started", session.containsKey(ExecuteAndWaitInterceptor.KEY + "action2"));
+
+        Thread.sleep(800);
+
+        assertEquals("success", buildProxy("action1").execute());
+    }
+
+    public void testCompletedProcessIsEvicted() throws Exception {
+        waitInterceptor.setCompletedTimeToLive(100);
+        waitInterceptor.setDelay(0);
+
+        assertEquals("wait", buildProxy("action1").execute());
+
+        Thread.sleep(800);
+
+        assertEquals("wait", buildProxy("action2").execute());
+        assertFalse("finished action1 should be evicted", session.containsKey(ExecuteAndWaitInterceptor.KEY + "action1"));
+
+        Thread.sleep(800);
+
+        assertEquals("success", buildProxy("action2").execute());
+    }
+
     protected ActionProxy buildProxy(String actionName) throws Exception {
         return actionProxyFactory.createActionProxy("", actionName, null, context);
     }
@@ -253,6 +308,12 @@ public class ExecuteAndWaitInterceptorTest extends StrutsInternalTestCase {
                     .addInterceptor(new InterceptorMapping("params", parametersInterceptor))
                     .addInterceptor(new InterceptorMapping("execAndWait", waitInterceptor))
                 .build())
+                .addActionConfig("action2", new ActionConfig.Builder("", "action2", ExecuteAndWaitDelayAction.class.getName())
+                    .addResultConfig(new ResultConfig.Builder(Action.SUCCESS, MockResult.class.getName()).build())
+                    .addResultConfig(new ResultConfig.Builder(ExecuteAndWaitInterceptor.WAIT, MockResult.class.getName()).build())
+                    .addInterceptor(new InterceptorMapping("params", parametersInterceptor))
+                    .addInterceptor(new InterceptorMapping("execAndWait", waitInterceptor))
+                .build())
             .build();
             configuration.addPackageConfig("", wait);
         }
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.metrics;
+
+import junit.framework.TestCase;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class DefaultStrutsMetricsTest extends TestCase {
+
+    public void testRecordsPerActionAndNamespace() {
+        DefaultStrutsMetrics metrics = new DefaultStrutsMetrics();
+        metrics.recordAction("/shop", "list", "success", TimeUnit.MILLISECONDS.toNanos(3), null);
+        metrics.recordAction("/shop", "list", "success", TimeUnit.MILLISECONDS.toNanos(30), null);
+        metrics.recordAction("/shop", "save", "input", TimeUnit.MILLISECONDS.toNanos(1), null);
+        metrics.recordAction("/shop", "save", null, TimeUnit.SECONDS.toNanos(20), new IllegalStateException());
+        metrics.recordAction(null, "index", "success", 10, null);
+
+        Map<String, ActionStatistics> actions = metrics.getActionStatistics();
+        assertEquals(3, actions.size());
+
+        ActionStatistics list = actions.get("/shop/list");
+        assertEquals(2, list.getRequestCount());
+        assertEquals(0, list.getExceptionCount());
+        assertEquals(33.0, list.getTotalTimeMillis());
+        assertEquals(16.5, list.getMeanTimeMillis());
+        assertEquals(30.0, list.getMaxTimeMillis());
+        assertEquals(Long.valueOf(2), list.getResultCounts().get("success"));
+        assertEquals(Long.valueOf(1), list.getLatencyHistogram().get("<=5ms"));
+        assertEquals(Long.valueOf(1), list.getLatencyHistogram().get("<=50ms"));
+
+        ActionStatistics save = actions.get("/shop/save");
+        assertEquals(2, save.getRequestCount());
+        assertEquals(1, save.getExceptionCount());
+        assertEquals(Long.valueOf(1), save.getResultCounts().get("input"));
+        assertEquals(Long.valueOf(1), save.getExceptionCounts().get(IllegalStateException.class.getName()));
+        assertEquals(Long.valueOf(1), save.getLatencyHistogram().get(">10000ms"));
+
+        assertEquals(1, actions.get("/index").getRequestCount());
+
+        Map<String, ActionStatistics> namespaces = metrics.getNamespaceStatistics();
+        assertEquals(2, namespaces.size());
+        assertEquals(4, namespaces.get("/shop").getRequestCount());
+        assertEquals(1, namespaces.get("").getRequestCount());
+
+        metrics.reset();
+        assertTrue(metrics.getActionStatistics().isEmpty());
+        assertTrue(metrics.getNamespaceStatistics().isEmpty());
+    }
+
+    public void testLimitsNumberOfTrackedActions() {
+        DefaultStrutsMetrics metrics = new DefaultStrutsMetrics();
+        metrics.setMaxActions("2");
+
+        metrics.recordAction("/a", "one", "success", 1, null);
+        metrics.recordAction("/b", "two", "success", 1, null);
+        metrics.recordAction("/c", "three", "success", 1, null);
+        metrics.recordAction("/d", "four", "success", 1, null);
+
+        Map<String, ActionStatistics> actions = metrics.getActionStatistics();
+        assertEquals(3, actions.size());
+        assertEquals(2, actions.get(DefaultStrutsMetrics.OTHER).getRequestCount());
+        assertEquals(2, metrics.getNamespaceStatistics().get(DefaultStrutsMetrics.OTHER).getRequestCount());
+    }
+
+    public void testHistogramBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(1) + 1);
+        histogram.record(TimeUnit.MINUTES.toNanos(1));
+
+        long[] counts = histogram.getBucketCounts();
+        assertEquals(LatencyHistogram.BUCKET_BOUNDS.length + 1, counts.length);
+        assertEquals(1, counts[0]);
+        assertEquals(1, counts[1]);
+        assertEquals(1, counts[counts.length - 1]);
+        assertEquals(3, histogram.getCount());
+        assertEquals(TimeUnit.MINUTES.toNanos(1), histogram.getMax());
+    }
+
+    public void testExposedThroughJmx() throws Exception {
+        DefaultStrutsMetrics metrics = new DefaultStrutsMetrics();
+        metrics.recordAction("/shop", "list", "success", 1, null);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("org.apache.struts2:type=StrutsMetrics,name=DefaultStrutsMetricsTest");
+        server.registerMBean(metrics, name);
+        try {
+            TabularData actions = (TabularData) server.getAttribute(name, "ActionStatistics");
+            assertEquals(1, actions.size());
+            server.invoke(name, "reset", new Object[0], new String[0]);
+            assertTrue(metrics.getActionStatistics().isEmpty());
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
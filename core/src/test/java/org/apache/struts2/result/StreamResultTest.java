@@ -25,13 +25,20 @@ import com.opensymphony.xwork2.util.ClassLoaderUtil;
 import com.opensymphony.xwork2.util.ValueStack;
 import org.apache.struts2.ServletActionContext;
 import org.apache.struts2.StrutsInternalTestCase;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URL;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Unit test for {@link StreamResult}.
@@ -213,6 +220,147 @@ public class StreamResultTest extends StrutsInternalTestCase {
         assertEquals("filename=\"logo.png\"", response.getHeader("Content-disposition"));
     }
 
+    public void testStreamResultWithContentWriter() throws Exception {
+        final Object[] written = new Object[2];
+        result.setContentWriter(new ResponseContentWriter() {
+            @Override
+            public void write(HttpServletRequest request, HttpServletResponse response, InputStream content, int bufferSize) throws IOException {
+                written[0] = content;
+                written[1] = bufferSize;
+            }
+        });
+        result.setInputName("streamForImage");
+        result.setBufferSize(128);
+        result.setContentType("image/jpeg");
+
+        result.doExecute("helloworld", mai);
+
+        assertSame(((MyImageAction) mai.getAction()).getStreamForImage(), written[0]);
+        assertEquals(128, written[1]);
+        assertEquals("image/jpeg", response.getContentType());
+        assertEquals(contentLength, response.getContentLength());
+        assertEquals("the writer should write the body", 0, response.getContentAsByteArray().length);
+        ((InputStream) written[0]).close();
+    }
+
+    public void testStreamResultWithFile() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/download");
+        ActionContext.getContext().put(ServletActionContext.HTTP_REQUEST, request);
+        result.setInputName("fileForImage");
+
+        result.doExecute("helloworld", mai);
+
+        File file = ((MyImageAction) mai.getAction()).getFileForImage();
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertEquals(contentLength, response.getContentLength());
+        assertEquals("bytes", response.getHeader("Accept-Ranges"));
+        assertEquals(file.lastModified() / 1000, response.getDateHeader("Last-Modified") / 1000);
+        assertNotNull(response.getHeader("ETag"));
+        assertTrue(Arrays.equals(Files.readAllBytes(file.toPath()), response.getContentAsByteArray()));
+    }
+
+    public void testStreamResultWithSingleRange() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/download");
+        request.addHeader("Range", "bytes=10-19");
+        ActionContext.getContext().put(ServletActionContext.HTTP_REQUEST, request);
+        result.setInputName("streamForImage");
+
+        result.doExecute("helloworld", mai);
+
+        byte[] content = Files.readAllBytes(((MyImageAction) mai.getAction()).getFileForImage().toPath());
+        assertEquals(HttpServletResponse.SC_PARTIAL_CONTENT, response.getStatus());
+        assertEquals("bytes 10-19/" + contentLength, response.getHeader("Content-Range"));
+        assertEquals(10, response.getContentLength());
+        assertTrue(Arrays.equals(Arrays.copyOfRange(content, 10, 20), response.getContentAsByteArray()));
+    }
+
+    public void testStreamResultWithMultipleRanges() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/download");
+        request.addHeader("Range", "bytes=0-4,-5");
+        ActionContext.getContext().put(ServletActionContext.HTTP_REQUEST, request);
+        result.setInputName("fileForImage");
+
+        result.doExecute("helloworld", mai);
+
+        String body = response.getContentAsString();
+        assertEquals(HttpServletResponse.SC_PARTIAL_CONTENT, response.getStatus());
+        assertTrue(response.getContentType().startsWith("multipart/byteranges; boundary="));
+        assertTrue(body.contains("Content-Type: text/plain\r\nContent-Range: bytes 0-4/" + contentLength + "\r\n\r\n"));
+        assertTrue(body.contains("Content-Range: bytes " + (contentLength - 5) + "-" + (contentLength - 1) + "/" + contentLength));
+        assertTrue(body.endsWith("--\r\n"));
+    }
+
+    public void testStreamResultWithUnsatisfiableRange() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/download");
+        request.addHeader("Range", "bytes=" + contentLength + "-");
+        ActionContext.getContext().put(ServletActionContext.HTTP_REQUEST, request);
+        result.setInputName("fileForImage");
+
+        result.doExecute("helloworld", mai);
+
+        assertEquals(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE, response.getStatus());
+        assertEquals("bytes */" + contentLength, response.getHeader("Content-Range"));
+    }
+
+    public void testStreamResultIgnoresRangeIfFileChanged() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/download");
+        request.addHeader("Range", "bytes=0-9");
+        request.addHeader("If-Range", "\"outdated\"");
+        ActionContext.getContext().put(ServletActionContext.HTTP_REQUEST, request);
+        result.setInputName("fileForImage");
+
+        result.doExecute("helloworld", mai);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertNull(response.getHeader("Content-Range"));
+        assertEquals(contentLength, response.getContentAsByteArray().length);
+    }
+
+    public void testStreamResultNotModified() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/download");
+        ActionContext.getContext().put(ServletActionContext.HTTP_REQUEST, request);
+        result.setInputName("fileForImage");
+        result.doExecute("helloworld", mai);
+        String eTag = (String) response.getHeaderValue("ETag");
+
+        response = new MockHttpServletResponse();
+        request = new MockHttpServletRequest("GET", "/download");
+        request.addHeader("If-None-Match", eTag);
+        ActionContext.getContext().put(ServletActionContext.HTTP_RESPONSE, response);
+        ActionContext.getContext().put(ServletActionContext.HTTP_REQUEST, request);
+        result.doExecute("helloworld", mai);
+
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    public void testParseRanges() throws Exception {
+        assertNull(result.parseRanges("items=0-1", 100));
+        assertNull(result.parseRanges("bytes=5-1", 100));
+        assertNull(result.parseRanges("bytes=a-b", 100));
+        assertTrue(result.parseRanges("bytes=100-", 100).isEmpty());
+
+        StreamResult.ByteRange range = result.parseRanges("bytes=90-200", 100).get(0);
+        assertEquals(90, range.getStart());
+        assertEquals(99, range.getEnd());
+
+        range = result.parseRanges("bytes=-500", 100).get(0);
+        assertEquals(0, range.getStart());
+        assertEquals(100, range.getLength());
+    }
+
+    public void testParseRangesMergesOverlappingRanges() throws Exception {
+        List<StreamResult.ByteRange> ranges = result.parseRanges("bytes=0-,0-,0-,0-", 100);
+        assertEquals(1, ranges.size());
+        assertEquals(100, ranges.get(0).getLength());
+
+        ranges = result.parseRanges("bytes=50-59,0-9,10-19,55-70,-5", 100);
+        assertEquals(3, ranges.size());
+        assertEquals("bytes 0-19/100", ranges.get(0).toContentRange(100));
+        assertEquals("bytes 50-70/100", ranges.get(1).toContentRange(100));
+        assertEquals("bytes 95-99/100", ranges.get(2).toContentRange(100));
+    }
+
     protected void setUp() throws Exception {
         super.setUp();
         response = new MockHttpServletResponse();
@@ -247,6 +395,7 @@ public class StreamResultTest extends StrutsInternalTestCase {
     public class MyImageAction implements Action {
 
         FileInputStream streamForImage;
+        File fileForImage;
         long contentLength;
 
         public MyImageAction() throws Exception {
@@ -254,6 +403,7 @@ public class StreamResultTest extends StrutsInternalTestCase {
             URL url = ClassLoaderUtil.getResource("log4j2.xml", StreamResultTest.class);
             File file = new File(new URI(url.toString()));
             streamForImage = new FileInputStream(file);
+            fileForImage = file;
             contentLength = file.length();
         }
 
@@ -261,6 +411,10 @@ public class StreamResultTest extends StrutsInternalTestCase {
             return streamForImage;
         }
 
+        public File getFileForImage() {
+            return fileForImage;
+        }
+
         public String execute() throws Exception {
             return SUCCESS;
         }
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.util;
+
+import junit.framework.TestCase;
+
+public class NamespaceTrieTest extends TestCase {
+
+    public void testFindLongestNamespace() {
+        NamespaceTrie trie = new NamespaceTrie();
+        trie.put("/");
+        trie.put("/my");
+        trie.put("/my/namespace");
+        trie.put("/other/");
+
+        assertEquals("/my/namespace", trie.findLongestNamespace("/my/namespace"));
+        assertEquals("/my/namespace", trie.findLongestNamespace("/my/namespace/deeper"));
+        assertEquals("/my", trie.findLongestNamespace("/my/name"));
+        assertEquals("/my", trie.findLongestNamespace("/my/namespaces"));
+        assertEquals("", trie.findLongestNamespace("/myself"));
+        assertEquals("", trie.findLongestNamespace("/unknown"));
+        assertEquals("/", trie.findLongestNamespace("/"));
+        assertEquals("/other/", trie.findLongestNamespace("/other/"));
+        assertEquals("", trie.findLongestNamespace("/other/path"));
+        assertEquals("/", trie.findLongestNamespace("//path"));
+    }
+
+    public void testContains() {
+        NamespaceTrie trie = new NamespaceTrie();
+        trie.put("/my/namespace");
+        trie.put("/my/namespace");
+        trie.put("/münchen");
+
+        assertTrue(trie.contains("/my/namespace"));
+        assertTrue(trie.contains("/münchen"));
+        assertFalse(trie.contains("/my"));
+        assertFalse(trie.contains("/"));
+        assertEquals(2, trie.size());
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.async;
+
+/**
+ * Constants used to configure the Async plugin
+ *
+ * @since 2.6
+ */
+public class AsyncConstants {
+    /** Maximum number of threads executing async actions at the same time */
+    public static final String ASYNC_EXECUTOR_MAX_THREADS = "struts.async.executor.maxThreads";
+    /** Number of async actions which can wait for a free thread, further actions are rejected with 503 */
+    public static final String ASYNC_EXECUTOR_QUEUE_SIZE = "struts.async.executor.queueSize";
+    /** Seconds after which idle threads are stopped */
+    public static final String ASYNC_EXECUTOR_KEEP_ALIVE_SECONDS = "struts.async.executor.keepAliveSeconds";
+    /** Runs async actions in virtual threads, when supported by the JVM */
+    public static final String ASYNC_EXECUTOR_VIRTUAL_THREADS = "struts.async.executor.virtualThreads";
+}
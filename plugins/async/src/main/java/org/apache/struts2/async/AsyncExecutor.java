@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.async;
+
+import com.opensymphony.xwork2.inject.Inject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.struts2.dispatcher.Dispatcher;
+import org.apache.struts2.dispatcher.DispatcherListener;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Bounded {@link Executor} used by the {@link DefaultAsyncManager} to run async actions which don't provide
+ * their own executor. At most {@value AsyncConstants#ASYNC_EXECUTOR_MAX_THREADS} actions run at the same time
+ * and {@value AsyncConstants#ASYNC_EXECUTOR_QUEUE_SIZE} more can wait, any other action is rejected with
+ * a {@link RejectedExecutionException}.
+ * </p>
+ *
+ * <p>
+ * When virtual threads are enabled and the JVM supports them, every action runs in its own virtual thread,
+ * the limits still apply to the number of actions in progress.
+ * </p>
+ *
+ * <p>
+ * The executor is shut down when the {@link Dispatcher} is destroyed.
+ * </p>
+ *
+ * @since 2.6
+ */
+public class AsyncExecutor implements Executor, DispatcherListener {
+
+    private static final Logger LOG = LogManager.getLogger(AsyncExecutor.class);
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final int capacity;
+
+    @Inject
+    public AsyncExecutor(@Inject(AsyncConstants.ASYNC_EXECUTOR_MAX_THREADS) String maxThreads,
+                         @Inject(AsyncConstants.ASYNC_EXECUTOR_QUEUE_SIZE) String queueSize,
+                         @Inject(AsyncConstants.ASYNC_EXECUTOR_KEEP_ALIVE_SECONDS) String keepAliveSeconds,
+                         @Inject(AsyncConstants.ASYNC_EXECUTOR_VIRTUAL_THREADS) String virtualThreads) {
+        this(Integer.parseInt(maxThreads), Integer.parseInt(queueSize), Long.parseLong(keepAliveSeconds),
+                Boolean.parseBoolean(virtualThreads));
+        Dispatcher.addDispatcherListener(this);
+    }
+
+    public AsyncExecutor(int maxThreads, int queueSize, long keepAliveSeconds, boolean virtualThreads) {
+        if (maxThreads < 1 || queueSize < 0) {
+            throw new IllegalArgumentException("maxThreads must be positive and queueSize must not be negative, got "
+                    + maxThreads + " and " + queueSize);
+        }
+        this.capacity = maxThreads + queueSize;
+        this.permits = new Semaphore(capacity);
+
+        ExecutorService virtualExecutor = virtualThreads ? createVirtualThreadExecutor() : null;
+        if (virtualExecutor != null) {
+            LOG.debug("Async actions are executed in virtual threads");
+            this.executor = virtualExecutor;
+        } else {
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(maxThreads, maxThreads, keepAliveSeconds, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(), new AsyncThreadFactory());
+            pool.allowCoreThreadTimeOut(true);
+            this.executor = pool;
+        }
+    }
+
+    /**
+     * Uses Executors.newVirtualThreadPerTaskExecutor() which is only available since Java 21.
+     *
+     * @return the executor or null if virtual threads are not supported
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            Method factory = java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.warn("Virtual threads are not supported by this JVM, falling back to platform threads");
+            return null;
+        }
+    }
+
+    /**
+     * @param task the async action to run
+     * @throws RejectedExecutionException if there are already too many actions in progress
+     *                                    or the executor has been shut down
+     */
+    @Override
+    public void execute(final Runnable task) {
+        if (!permits.tryAcquire()) {
+            throw new RejectedExecutionException("Too many async actions in progress, the limit is " + capacity);
+        }
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        task.run();
+                    } finally {
+                        permits.release();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * @return number of async actions running or waiting for a thread
+     */
+    public int getActionsInProgress() {
+        return capacity - permits.availablePermits();
+    }
+
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public void dispatcherInitialized(Dispatcher du) {
+    }
+
+    @Override
+    public void dispatcherDestroyed(Dispatcher du) {
+        Dispatcher.removeDispatcherListener(this);
+        shutdown();
+    }
+
+    private static class AsyncThreadFactory implements ThreadFactory {
+
+        private static final AtomicInteger threadCount = new AtomicInteger(0);
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, AsyncExecutor.class.getSimpleName() + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
@@ -19,6 +19,7 @@
 package org.apache.struts2.async;
 
 import com.opensymphony.xwork2.AsyncManager;
+import com.opensymphony.xwork2.inject.Inject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.struts2.ServletActionContext;
@@ -27,13 +28,21 @@ import javax.servlet.AsyncContext;
 import javax.servlet.AsyncEvent;
 import javax.servlet.AsyncListener;
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 
 /**
  * Implements {@link AsyncManager} to add support for invoke async actions via Servlet 3's API.
+ * Callables are executed by the executor of the {@link AsyncAction} or by the shared {@link AsyncExecutor},
+ * if the executor rejects the action the request is answered with 503 (Service Unavailable).
+ * For a {@link CompletionStage} the result is dispatched once the stage completes.
  *
  * @since 2.6
  */
@@ -45,6 +54,12 @@ public class DefaultAsyncManager implements AsyncManager, AsyncListener {
     private boolean asyncActionStarted;
     private Boolean asyncCompleted;
     private Object asyncActionResult;
+    private Executor defaultExecutor;
+
+    @Inject(required = false)
+    public void setDefaultExecutor(AsyncExecutor defaultExecutor) {
+        this.defaultExecutor = defaultExecutor;
+    }
 
     @Override
     public void invokeAsyncAction(final Callable asyncAction) {
@@ -59,20 +74,11 @@ public class DefaultAsyncManager implements AsyncManager, AsyncListener {
             timeout = customAsyncAction.getTimeout();
             executor = customAsyncAction.getExecutor();
         }
-
-        HttpServletRequest req = ServletActionContext.getRequest();
-        asyncActionResult = null;
-        asyncCompleted = false;
-
-        if (asyncContext == null || !req.isAsyncStarted()) {
-            asyncContext = req.startAsync(req, ServletActionContext.getResponse());
-            asyncContext.addListener(this);
-            if (timeout != null) {
-                asyncContext.setTimeout(timeout);
-            }
+        if (executor == null) {
+            executor = defaultExecutor;
         }
-        asyncActionStarted = true;
-        LOG.debug("Async processing started for " + asyncContext);
+
+        startAsync(timeout);
 
         final Runnable task = new Runnable() {
             @Override
@@ -85,8 +91,13 @@ public class DefaultAsyncManager implements AsyncManager, AsyncListener {
             }
         };
         if (executor != null) {
-            executor.execute(task);
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                reject(e);
+            }
         } else {
+            // only used when the manager isn't created by the container
             final Thread thread = new Thread(new Runnable() {
                 @Override
                 public void run() {
@@ -101,6 +112,52 @@ public class DefaultAsyncManager implements AsyncManager, AsyncListener {
         }
     }
 
+    @Override
+    public void invokeAsyncAction(CompletionStage asyncAction) {
+        if (asyncActionStarted) {
+            return;
+        }
+
+        startAsync(null);
+
+        asyncAction.whenComplete(new BiConsumer<Object, Throwable>() {
+            @Override
+            public void accept(Object result, Throwable e) {
+                if (e instanceof CompletionException && e.getCause() != null) {
+                    e = e.getCause();
+                }
+                setAsyncActionResultAndDispatch(e != null ? e : result);
+            }
+        });
+    }
+
+    private void startAsync(Long timeout) {
+        HttpServletRequest req = ServletActionContext.getRequest();
+        asyncActionResult = null;
+        asyncCompleted = false;
+
+        if (asyncContext == null || !req.isAsyncStarted()) {
+            asyncContext = req.startAsync(req, ServletActionContext.getResponse());
+            asyncContext.addListener(this);
+            if (timeout != null) {
+                asyncContext.setTimeout(timeout);
+            }
+        }
+        asyncActionStarted = true;
+        LOG.debug("Async processing started for " + asyncContext);
+    }
+
+    private void reject(RejectedExecutionException e) {
+        LOG.warn("Async action rejected for " + asyncContext + ": " + e.getMessage());
+        asyncCompleted = true;
+        try {
+            ((HttpServletResponse) asyncContext.getResponse()).sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        } catch (IOException | IllegalStateException ex) {
+            LOG.warn("Cannot send error to the client for " + asyncContext, ex);
+        }
+        asyncContext.complete();
+    }
+
     private void setAsyncActionResultAndDispatch(Object asyncActionResult) {
         this.asyncActionResult = asyncActionResult;
 
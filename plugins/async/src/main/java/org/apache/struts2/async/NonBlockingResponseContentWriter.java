@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.async;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.struts2.result.ResponseContentWriter;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * <p>
+ * {@link ResponseContentWriter} using non-blocking Servlet 3.1 output, the request thread is released as soon as
+ * the response headers are set and the content is written by the container whenever the client is ready to
+ * receive more of it. This prevents slow clients downloading large streams from holding a request thread each.
+ * </p>
+ *
+ * <p>
+ * Enable it with:
+ * </p>
+ *
+ * <pre>
+ * &lt;constant name="struts.result.contentWriter" value="nonblocking" /&gt;
+ * </pre>
+ *
+ * <p>
+ * The filter must be declared with <code>&lt;async-supported&gt;true&lt;/async-supported&gt;</code>, otherwise and
+ * for content which is known to fit into a single buffer the content is written in the request thread.
+ * </p>
+ *
+ * @since 2.6
+ */
+public class NonBlockingResponseContentWriter implements ResponseContentWriter {
+
+    private static final Logger LOG = LogManager.getLogger(NonBlockingResponseContentWriter.class);
+
+    public void write(HttpServletRequest request, HttpServletResponse response, InputStream content, int bufferSize) throws IOException {
+        if (request == null || !request.isAsyncSupported() || fitsIntoBuffer(response, bufferSize)) {
+            LOG.trace("Writing content in the request thread");
+            writeBlocking(response, content, bufferSize);
+            return;
+        }
+
+        AsyncContext asyncContext = request.isAsyncStarted() ? request.getAsyncContext() : request.startAsync(request, response);
+        // the transfer is limited by the container's write timeout instead
+        asyncContext.setTimeout(0);
+
+        LOG.trace("Writing content with non-blocking output");
+        response.getOutputStream().setWriteListener(new ContentWriteListener(asyncContext, response.getOutputStream(), content, bufferSize));
+    }
+
+    protected boolean fitsIntoBuffer(HttpServletResponse response, int bufferSize) {
+        String contentLength = response.getHeader("Content-Length");
+        if (contentLength == null) {
+            return false;
+        }
+        try {
+            return Long.parseLong(contentLength.trim()) <= bufferSize;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    protected void writeBlocking(HttpServletResponse response, InputStream content, int bufferSize) throws IOException {
+        try (InputStream in = content) {
+            ServletOutputStream out = response.getOutputStream();
+            byte[] buffer = new byte[bufferSize];
+            int length;
+            while ((length = in.read(buffer)) != -1) {
+                out.write(buffer, 0, length);
+            }
+            out.flush();
+        }
+    }
+
+    /**
+     * Copies the content chunk by chunk as long as the output stream accepts data without blocking,
+     * the container calls it again once the client is ready to receive more.
+     */
+    static class ContentWriteListener implements WriteListener {
+
+        private final AsyncContext asyncContext;
+        private final ServletOutputStream out;
+        private final InputStream content;
+        private final byte[] buffer;
+        private boolean done;
+
+        ContentWriteListener(AsyncContext asyncContext, ServletOutputStream out, InputStream content, int bufferSize) {
+            this.asyncContext = asyncContext;
+            this.out = out;
+            this.content = content;
+            this.buffer = new byte[bufferSize];
+        }
+
+        public void onWritePossible() throws IOException {
+            while (!done && out.isReady()) {
+                int length = content.read(buffer);
+                if (length == -1) {
+                    complete();
+                    return;
+                }
+                out.write(buffer, 0, length);
+            }
+        }
+
+        public void onError(Throwable t) {
+            LOG.warn("Writing the content failed, the client probably went away", t);
+            complete();
+        }
+
+        private void complete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            try {
+                content.close();
+            } catch (IOException e) {
+                LOG.debug("Unable to close the content", e);
+            }
+            asyncContext.complete();
+        }
+    }
+
+}
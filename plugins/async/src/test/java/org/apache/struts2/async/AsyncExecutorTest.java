@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.async;
+
+import junit.framework.TestCase;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class AsyncExecutorTest extends TestCase {
+
+    public void testRejectsWhenLimitReached() throws Exception {
+        AsyncExecutor executor = new AsyncExecutor(1, 1, 60, false);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(2);
+        Runnable blocking = new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            }
+        };
+        try {
+            executor.execute(blocking);
+            executor.execute(blocking);
+            assertEquals(2, executor.getActionsInProgress());
+
+            try {
+                executor.execute(blocking);
+                fail("the third action should be rejected");
+            } catch (RejectedExecutionException expected) {
+                // ok
+            }
+
+            release.countDown();
+            assertTrue(done.await(1500L, TimeUnit.MILLISECONDS));
+            // permits are released after the task finished
+            for (int i = 0; i < 100 && executor.getActionsInProgress() > 0; i++) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, executor.getActionsInProgress());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public void testRejectsAfterShutdown() throws Exception {
+        AsyncExecutor executor = new AsyncExecutor(1, 0, 60, false);
+        executor.shutdown();
+
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                }
+            });
+            fail("a shut down executor should reject actions");
+        } catch (RejectedExecutionException expected) {
+            assertEquals(0, executor.getActionsInProgress());
+        }
+    }
+
+    public void testVirtualThreads() throws Exception {
+        AsyncExecutor executor = new AsyncExecutor(2, 0, 60, true);
+        final CountDownLatch done = new CountDownLatch(1);
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    done.countDown();
+                }
+            });
+            // falls back to platform threads on older JVMs
+            assertTrue(done.await(1500L, TimeUnit.MILLISECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public void testInvalidLimits() throws Exception {
+        try {
+            new AsyncExecutor(0, 10, 60, false);
+            fail("at least one thread is required");
+        } catch (IllegalArgumentException expected) {
+            // ok
+        }
+    }
+}
@@ -22,8 +22,13 @@ import com.opensymphony.xwork2.XWorkTestCase;
 import org.apache.struts2.ServletActionContext;
 import org.springframework.mock.web.MockAsyncContext;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 
+import javax.servlet.http.HttpServletResponse;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
@@ -110,4 +115,120 @@ public class DefaultAsyncManagerTest extends XWorkTestCase {
             fail("async result did not received on timeout!");
         }
     }
+
+    public void testInvokeAsyncActionWithDefaultExecutor() throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+
+        ServletActionContext.setRequest(request);
+
+        final Semaphore lock = new Semaphore(1);
+        lock.acquire();
+
+        final String[] threadName = new String[1];
+        Callable asyncAction = new Callable() {
+            @Override
+            public Object call() throws Exception {
+                threadName[0] = Thread.currentThread().getName();
+                final MockAsyncContext mockAsyncContext = (MockAsyncContext) request.getAsyncContext();
+                mockAsyncContext.addDispatchHandler(new Runnable() {
+                    @Override
+                    public void run() {
+                        mockAsyncContext.complete();
+                        lock.release();
+                    }
+                });
+
+                return "success";
+            }
+        };
+
+        AsyncExecutor executor = new AsyncExecutor(1, 0, 60, false);
+        try {
+            DefaultAsyncManager asyncManager = new DefaultAsyncManager();
+            asyncManager.setDefaultExecutor(executor);
+            asyncManager.invokeAsyncAction(asyncAction);
+
+            assertTrue("async result did not received on timeout!", lock.tryAcquire(1500L, TimeUnit.MILLISECONDS));
+            assertEquals("success", asyncManager.getAsyncActionResult());
+            assertTrue(threadName[0].startsWith(AsyncExecutor.class.getSimpleName()));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public void testRejectedAsyncActionSendsServiceUnavailable() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ServletActionContext.setRequest(request);
+        ServletActionContext.setResponse(response);
+
+        AsyncAction asyncAction = new AsyncAction(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException("too many actions");
+            }
+        }, new Callable() {
+            @Override
+            public Object call() throws Exception {
+                return "success";
+            }
+        });
+
+        DefaultAsyncManager asyncManager = new DefaultAsyncManager();
+        asyncManager.invokeAsyncAction(asyncAction);
+
+        assertEquals(HttpServletResponse.SC_SERVICE_UNAVAILABLE, response.getStatus());
+        assertFalse(asyncManager.hasAsyncActionResult());
+    }
+
+    public void testInvokeCompletionStage() throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+
+        ServletActionContext.setRequest(request);
+
+        CompletableFuture<String> future = new CompletableFuture<>();
+
+        DefaultAsyncManager asyncManager = new DefaultAsyncManager();
+        asyncManager.invokeAsyncAction(future);
+
+        final MockAsyncContext mockAsyncContext = (MockAsyncContext) request.getAsyncContext();
+        final boolean[] dispatched = new boolean[1];
+        mockAsyncContext.addDispatchHandler(new Runnable() {
+            @Override
+            public void run() {
+                dispatched[0] = true;
+            }
+        });
+        assertFalse("no result before the stage completes", asyncManager.hasAsyncActionResult());
+
+        future.complete("success");
+
+        assertTrue(dispatched[0]);
+        assertEquals("success", asyncManager.getAsyncActionResult());
+    }
+
+    public void testInvokeFailedCompletionStage() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+
+        ServletActionContext.setRequest(request);
+
+        Exception expected = new Exception();
+        CompletableFuture<String> future = new CompletableFuture<>();
+
+        DefaultAsyncManager asyncManager = new DefaultAsyncManager();
+        asyncManager.invokeAsyncAction(future.thenApply(new java.util.function.Function<String, String>() {
+            @Override
+            public String apply(String s) {
+                return s;
+            }
+        }));
+        future.completeExceptionally(expected);
+
+        assertSame(expected, asyncManager.getAsyncActionResult());
+    }
 }
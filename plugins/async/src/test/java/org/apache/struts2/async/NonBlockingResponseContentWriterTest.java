@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.async;
+
+import junit.framework.TestCase;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+public class NonBlockingResponseContentWriterTest extends TestCase {
+
+    private NonBlockingResponseContentWriter writer;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private byte[] data;
+    private TrackingInputStream content;
+
+    public void testWritesInRequestThreadWithoutAsyncSupport() throws Exception {
+        request.setAsyncSupported(false);
+
+        writer.write(request, response, content, 8);
+
+        assertFalse(request.isAsyncStarted());
+        assertTrue(content.closed);
+        assertEquals(new String(data, "UTF-8"), response.getContentAsString());
+    }
+
+    public void testWritesSmallContentInRequestThread() throws Exception {
+        response.setHeader("Content-Length", String.valueOf(data.length));
+
+        writer.write(request, response, content, data.length);
+
+        assertFalse(request.isAsyncStarted());
+        assertTrue(content.closed);
+        assertEquals(new String(data, "UTF-8"), response.getContentAsString());
+    }
+
+    public void testWritesWhenOutputIsReady() throws Exception {
+        ThrottledOutputStream out = new ThrottledOutputStream();
+
+        writer.write(request, new ThrottledResponse(response, out), content, 8);
+
+        assertTrue(request.isAsyncStarted());
+        assertNotNull(out.listener);
+        assertEquals(0, out.written.size());
+
+        int rounds = 0;
+        while (!content.closed) {
+            out.ready = 2;
+            out.listener.onWritePossible();
+            rounds++;
+        }
+
+        assertEquals(new String(data, "UTF-8"), new String(out.written.toByteArray(), "UTF-8"));
+        assertEquals("two chunks are written per round", 3, rounds);
+        assertFalse("the async context should be completed", request.isAsyncStarted());
+    }
+
+    public void testCompletesOnError() throws Exception {
+        ThrottledOutputStream out = new ThrottledOutputStream();
+
+        writer.write(request, new ThrottledResponse(response, out), content, 8);
+        out.listener.onError(new IOException("connection reset"));
+
+        assertTrue(content.closed);
+        assertFalse(request.isAsyncStarted());
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        writer = new NonBlockingResponseContentWriter();
+        request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        response = new MockHttpServletResponse();
+        data = "0123456789abcdefghijklmnopqrstuvwxyz".getBytes("UTF-8");
+        content = new TrackingInputStream(data);
+    }
+
+    private static class TrackingInputStream extends ByteArrayInputStream {
+
+        boolean closed;
+
+        TrackingInputStream(byte[] buf) {
+            super(buf);
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+
+    private static class ThrottledOutputStream extends ServletOutputStream {
+
+        final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        WriteListener listener;
+        int ready;
+
+        @Override
+        public boolean isReady() {
+            return ready > 0;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            this.listener = writeListener;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            written.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            written.write(b, off, len);
+            ready--;
+        }
+    }
+
+    private static class ThrottledResponse extends HttpServletResponseWrapper {
+
+        private final ThrottledOutputStream out;
+
+        ThrottledResponse(MockHttpServletResponse response, ThrottledOutputStream out) {
+            super(response);
+            this.out = out;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return out;
+        }
+    }
+
+}
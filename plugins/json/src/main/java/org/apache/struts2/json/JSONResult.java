@@ -32,8 +32,10 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.struts2.StrutsConstants;
+import org.apache.struts2.ServletActionContext;
 import org.apache.struts2.StrutsStatics;
 import org.apache.struts2.json.smd.SMDGenerator;
+import org.apache.struts2.result.ResponseContentWriter;
 
 import com.opensymphony.xwork2.ActionContext;
 import com.opensymphony.xwork2.ActionInvocation;
@@ -101,6 +103,7 @@ public class JSONResult implements Result {
     private String wrapSuffix;
     private boolean devMode = false;
     private JSONUtil jsonUtil;
+    private ResponseContentWriter contentWriter;
     
     @Inject(StrutsConstants.STRUTS_I18N_ENCODING)
     public void setDefaultEncoding(String val) {
@@ -117,6 +120,11 @@ public class JSONResult implements Result {
         this.jsonUtil = jsonUtil;
     }
 
+    @Inject(required = false)
+    public void setContentWriter(ResponseContentWriter contentWriter) {
+        this.contentWriter = contentWriter;
+    }
+
     /**
      * Gets a list of regular expressions of properties to exclude from the JSON
      * output.
@@ -234,9 +242,13 @@ public class JSONResult implements Result {
     }
 
     protected void writeToResponse(HttpServletResponse response, String json, boolean gzip) throws IOException {
-        JSONUtil.writeJSONToResponse(new SerializationParams(response, getEncoding(), isWrapWithComments(),
+        SerializationParams serializationParams = new SerializationParams(response, getEncoding(), isWrapWithComments(),
                 json, false, gzip, noCache, statusCode, errorCode, prefix, contentType, wrapPrefix,
-                wrapSuffix));
+                wrapSuffix);
+        if (contentWriter != null) {
+            serializationParams.setContentWriter(ServletActionContext.getRequest(), contentWriter);
+        }
+        JSONUtil.writeJSONToResponse(serializationParams);
     }
 
     @SuppressWarnings("unchecked")
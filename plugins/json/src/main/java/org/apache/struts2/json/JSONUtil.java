@@ -20,6 +20,7 @@ package org.apache.struts2.json;
 
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintWriter;
@@ -59,6 +60,8 @@ public class JSONUtil {
     
     private static final Logger LOG = LogManager.getLogger(JSONUtil.class);
 
+    private static final int CONTENT_WRITER_BUFFER_SIZE = 8192;
+
     private JSONWriter writer;
 
     public void setWriter(JSONWriter writer) {
@@ -360,6 +363,22 @@ public class JSONUtil {
             response.setHeader("Pragma", "No-cache");
         }
 
+        if (serializationParams.getContentWriter() != null) {
+            byte[] body = json.getBytes(serializationParams.getEncoding());
+            if (serializationParams.isGzip()) {
+                response.addHeader("Content-Encoding", "gzip");
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 2 + 64);
+                try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+                    out.write(body);
+                }
+                body = compressed.toByteArray();
+            }
+            response.setContentLength(body.length);
+            serializationParams.getContentWriter().write(serializationParams.getRequest(), response,
+                    new ByteArrayInputStream(body), CONTENT_WRITER_BUFFER_SIZE);
+            return;
+        }
+
         if (serializationParams.isGzip()) {
             response.addHeader("Content-Encoding", "gzip");
             GZIPOutputStream out = null;
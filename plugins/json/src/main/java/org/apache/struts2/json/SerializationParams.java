@@ -18,9 +18,11 @@
  */
 package org.apache.struts2.json;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.struts2.result.ResponseContentWriter;
 
 public class SerializationParams {
     private static final String DEFAULT_CONTENT_TYPE = "application/json";
@@ -38,6 +40,8 @@ public class SerializationParams {
     private String contentType = DEFAULT_CONTENT_TYPE;
     private String wrapPrefix;
     private String wrapSuffix;
+    private HttpServletRequest request;
+    private ResponseContentWriter contentWriter;
 
     public SerializationParams(HttpServletResponse response, String encoding, boolean wrapWithComments,
             String serializedJSON, boolean smd, boolean gzip, boolean noCache, int statusCode, int errorCode,
@@ -115,4 +119,22 @@ public class SerializationParams {
     public String getContentType() {
         return contentType;
     }
+
+    public HttpServletRequest getRequest() {
+        return request;
+    }
+
+    public ResponseContentWriter getContentWriter() {
+        return contentWriter;
+    }
+
+    /**
+     * @param request the current request
+     * @param contentWriter writes the serialized JSON to the response, see {@link ResponseContentWriter}
+     * @since 2.6
+     */
+    public void setContentWriter(HttpServletRequest request, ResponseContentWriter contentWriter) {
+        this.request = request;
+        this.contentWriter = contentWriter;
+    }
 }
@@ -18,6 +18,8 @@
  */
 package org.apache.struts2.json;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.text.SimpleDateFormat;
@@ -33,12 +35,14 @@ import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 import org.apache.struts2.StrutsStatics;
 import org.apache.struts2.StrutsTestCase;
+import org.apache.struts2.result.ResponseContentWriter;
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
@@ -574,6 +578,31 @@ public class JSONResultTest extends StrutsTestCase {
         assertEquals(HttpServletResponse.SC_CONTINUE, response.getStatus());
     }
 
+    public void testContentWriter() throws Exception {
+        JSONResult result = new JSONResult();
+        final HttpServletRequest[] writtenFor = new HttpServletRequest[1];
+        result.setContentWriter(new ResponseContentWriter() {
+            public void write(HttpServletRequest request, HttpServletResponse response, InputStream content, int bufferSize) throws IOException {
+                writtenFor[0] = request;
+                try (InputStream in = content) {
+                    byte[] buffer = new byte[bufferSize];
+                    int length;
+                    while ((length = in.read(buffer)) != -1) {
+                        response.getOutputStream().write(buffer, 0, length);
+                    }
+                }
+            }
+        });
+
+        executeTest2Action(result);
+
+        assertSame(request, writtenFor[0]);
+        String normalizedActual = TestUtils.normalize(response.getContentAsString(), true);
+        String normalizedExpected = TestUtils.normalize(JSONResultTest.class.getResource("json-2.txt"));
+        assertEquals(normalizedExpected, normalizedActual);
+        assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+    }
+
     /**
      * Repeats test2 but with the Enum serialized as a bean
      */
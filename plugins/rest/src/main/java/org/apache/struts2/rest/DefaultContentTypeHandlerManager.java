@@ -25,10 +25,12 @@ import com.opensymphony.xwork2.inject.Inject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.struts2.ServletActionContext;
+import org.apache.struts2.result.ResponseContentWriter;
 import org.apache.struts2.rest.handler.ContentTypeHandler;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.util.HashMap;
@@ -43,18 +45,26 @@ public class DefaultContentTypeHandlerManager implements ContentTypeHandlerManag
 
     private static final Logger LOG = LogManager.getLogger(DefaultContentTypeHandlerManager.class);
 
+    private static final int CONTENT_WRITER_BUFFER_SIZE = 8192;
+
     /** ContentTypeHandlers keyed by the extension */
     Map<String, ContentTypeHandler> handlersByExtension = new HashMap<String, ContentTypeHandler>();
     /** ContentTypeHandlers keyed by the content-type */
     Map<String, ContentTypeHandler> handlersByContentType = new HashMap<String, ContentTypeHandler>();
 
     private String defaultExtension;
+    private ResponseContentWriter contentWriter;
 
     @Inject(RestConstants.REST_DEFAULT_EXTENSION)
     public void setDefaultExtension(String name) {
         this.defaultExtension = name;
     }
 
+    @Inject(required = false)
+    public void setContentWriter(ResponseContentWriter contentWriter) {
+        this.contentWriter = contentWriter;
+    }
+
     @Inject
     public void setContainer(Container container) {
         Set<String> names = container.getInstanceNames(ContentTypeHandler.class);
@@ -194,8 +204,12 @@ public class DefaultContentTypeHandlerManager implements ContentTypeHandlerManag
                     byte[] data = text.getBytes("UTF-8");
                     res.setContentLength(data.length);
                     res.setContentType(handler.getContentType());
-                    res.getOutputStream().write(data);
-                    res.getOutputStream().flush();
+                    if (contentWriter != null) {
+                        contentWriter.write(req, res, new ByteArrayInputStream(data), CONTENT_WRITER_BUFFER_SIZE);
+                    } else {
+                        res.getOutputStream().write(data);
+                        res.getOutputStream().flush();
+                    }
                 }
             }
         }